@@ -4,13 +4,17 @@ import com.smarty.domain.account.enums.Role;
 import jakarta.persistence.*;
 
 @Entity(name = "account")
+@Table(uniqueConstraints = @UniqueConstraint(name = Account.UNIQUE_EMAIL, columnNames = "email"))
 public class Account {
 
+    public static final String UNIQUE_EMAIL = "uk_account_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "account_id")
+    @TableGenerator(name = "account_id", table = "id_generator", pkColumnValue = "account", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
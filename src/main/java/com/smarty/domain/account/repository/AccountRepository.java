@@ -2,15 +2,20 @@ package com.smarty.domain.account.repository;
 
 import com.smarty.domain.account.entity.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
-    boolean existsByEmail(String email);
-
     Optional<Account> findByEmail(String email);
 
+    @Query("SELECT a.email FROM account a " +
+            "WHERE a.email IN :emails")
+    Set<String> findExistingEmails(Collection<String> emails);
+
 }
@@ -2,12 +2,14 @@ package com.smarty.domain.account.service;
 
 import com.smarty.domain.account.entity.Account;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface AccountService {
 
     Optional<Account> getAccountByEmail(String email);
 
-    void existsByEmail(String email);
+    Set<String> getExistingEmails(Collection<String> emails);
 
 }
@@ -2,13 +2,16 @@ package com.smarty.domain.account.service;
 
 import com.smarty.domain.account.entity.Account;
 import com.smarty.domain.account.repository.AccountRepository;
-import com.smarty.infrastructure.handler.exceptions.ConflictException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
+@Transactional(readOnly = true)
 public class AccountServiceImpl implements AccountService {
 
     private final AccountRepository accountRepository;
@@ -24,10 +27,12 @@ public class AccountServiceImpl implements AccountService {
     }
 
     @Override
-    public void existsByEmail(String email) {
-        if (accountRepository.existsByEmail(email)) {
-            throw new ConflictException("Account with email %s already exists".formatted(email));
+    public Set<String> getExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
         }
+
+        return accountRepository.findExistingEmails(emails);
     }
 
 }
@@ -5,10 +5,20 @@ import com.smarty.domain.task.entity.Task;
 import jakarta.persistence.*;
 
 @Entity(name = "activity")
+@NamedEntityGraph(name = "activity.details", attributeNodes = {
+        @NamedAttributeNode(value = "task", subgraph = "task"),
+        @NamedAttributeNode(value = "student", subgraph = "student")},
+        subgraphs = {
+                @NamedSubgraph(name = "task", attributeNodes = @NamedAttributeNode("course")),
+                @NamedSubgraph(name = "student", attributeNodes = {
+                        @NamedAttributeNode("major"),
+                        @NamedAttributeNode("status"),
+                        @NamedAttributeNode("account")})})
 public class Activity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "activity_id")
+    @TableGenerator(name = "activity_id", table = "id_generator", pkColumnValue = "activity", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -20,11 +30,11 @@ public class Activity {
     @Column
     private String comment;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
 
@@ -0,0 +1,129 @@
+package com.smarty.domain.activity.entity;
+
+import com.smarty.domain.task.enums.Type;
+import jakarta.persistence.*;
+
+@Entity(name = "activity_ledger")
+@IdClass(ActivityLedgerId.class)
+public class ActivityLedger {
+
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(nullable = false)
+    private double totalPoints;
+
+    @Column(nullable = false)
+    private int homeworkCount;
+
+    @Column(nullable = false)
+    private int projectCount;
+
+    @Column(nullable = false)
+    private int testCount;
+
+    @Column(nullable = false)
+    private int engagementCount;
+
+    public ActivityLedger() {
+    }
+
+    public ActivityLedger(Long studentId, Long courseId) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+    }
+
+    public ActivityLedger(Long studentId, Long courseId, double totalPoints, long homeworkCount,
+                          long projectCount, long testCount, long engagementCount) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+        this.totalPoints = totalPoints;
+        this.homeworkCount = (int) homeworkCount;
+        this.projectCount = (int) projectCount;
+        this.testCount = (int) testCount;
+        this.engagementCount = (int) engagementCount;
+    }
+
+    public ActivityLedgerId getId() {
+        return new ActivityLedgerId(studentId, courseId);
+    }
+
+    public int getCount(Type type) {
+        return switch (type) {
+            case HOMEWORK -> homeworkCount;
+            case PROJECT -> projectCount;
+            case TEST -> testCount;
+            case ENGAGEMENT -> engagementCount;
+        };
+    }
+
+    public boolean matches(ActivityLedger ledger) {
+        return Math.abs(totalPoints - ledger.totalPoints) < 0.001
+                && homeworkCount == ledger.homeworkCount
+                && projectCount == ledger.projectCount
+                && testCount == ledger.testCount
+                && engagementCount == ledger.engagementCount;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public double getTotalPoints() {
+        return totalPoints;
+    }
+
+    public void setTotalPoints(double totalPoints) {
+        this.totalPoints = totalPoints;
+    }
+
+    public int getHomeworkCount() {
+        return homeworkCount;
+    }
+
+    public void setHomeworkCount(int homeworkCount) {
+        this.homeworkCount = homeworkCount;
+    }
+
+    public int getProjectCount() {
+        return projectCount;
+    }
+
+    public void setProjectCount(int projectCount) {
+        this.projectCount = projectCount;
+    }
+
+    public int getTestCount() {
+        return testCount;
+    }
+
+    public void setTestCount(int testCount) {
+        this.testCount = testCount;
+    }
+
+    public int getEngagementCount() {
+        return engagementCount;
+    }
+
+    public void setEngagementCount(int engagementCount) {
+        this.engagementCount = engagementCount;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.smarty.domain.activity.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class ActivityLedgerId implements Serializable {
+
+    private Long studentId;
+
+    private Long courseId;
+
+    public ActivityLedgerId() {
+    }
+
+    public ActivityLedgerId(Long studentId, Long courseId) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof ActivityLedgerId that)) {
+            return false;
+        }
+
+        return Objects.equals(studentId, that.studentId) && Objects.equals(courseId, that.courseId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, courseId);
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.smarty.domain.activity.event;
+
+import com.smarty.domain.task.enums.Type;
+import com.smarty.infrastructure.event.DomainEvent;
+
+import java.time.Instant;
+
+public record ActivityRecorded(
+
+        Long activityId,
+        Long studentId,
+        Long courseId,
+        Type type,
+        double points,
+        Instant occurredAt
+
+) implements DomainEvent {
+
+    public ActivityRecorded(Long activityId, Long studentId, Long courseId, Type type, double points) {
+        this(activityId, studentId, courseId, type, points, Instant.now());
+    }
+
+    @Override
+    public Object aggregateKey() {
+        return studentId;
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.smarty.domain.activity.model;
+
+import java.util.List;
+
+public record ActivityImportReportDTO(
+
+        int total,
+        int imported,
+        int rejected,
+        List<ActivityImportResultDTO> results
+
+) {
+
+}
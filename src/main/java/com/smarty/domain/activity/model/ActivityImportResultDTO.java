@@ -0,0 +1,14 @@
+package com.smarty.domain.activity.model;
+
+public record ActivityImportResultDTO(
+
+        int row,
+        boolean imported,
+        Long activityId,
+        Long studentId,
+        String activityName,
+        String message
+
+) {
+
+}
@@ -0,0 +1,23 @@
+package com.smarty.domain.activity.model;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record ActivityImportRowDTO(
+
+        @NotBlank(message = "Activity name can't be blank")
+        String activityName,
+
+        @NotNull(message = "Number of points can't be null")
+        @Min(value = 0, message = "Number of points can't be negative")
+        Double points,
+
+        String comment,
+
+        @NotNull(message = "Student can't be null")
+        Long studentId
+
+) {
+
+}
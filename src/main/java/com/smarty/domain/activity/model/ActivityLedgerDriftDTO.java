@@ -0,0 +1,14 @@
+package com.smarty.domain.activity.model;
+
+public record ActivityLedgerDriftDTO(
+
+        Long studentId,
+        Long courseId,
+        double recordedPoints,
+        double actualPoints,
+        int recordedActivities,
+        int actualActivities
+
+) {
+
+}
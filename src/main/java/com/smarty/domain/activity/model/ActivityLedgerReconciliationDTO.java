@@ -0,0 +1,13 @@
+package com.smarty.domain.activity.model;
+
+import java.util.List;
+
+public record ActivityLedgerReconciliationDTO(
+
+        int ledgers,
+        int drifted,
+        List<ActivityLedgerDriftDTO> drifts
+
+) {
+
+}
@@ -0,0 +1,10 @@
+package com.smarty.domain.activity.model;
+
+public record StudentActivityName(
+
+        Long studentId,
+        String activityName
+
+) {
+
+}
@@ -0,0 +1,66 @@
+package com.smarty.domain.activity.repository;
+
+import com.smarty.domain.activity.entity.ActivityLedger;
+import com.smarty.domain.activity.entity.ActivityLedgerId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ActivityLedgerRepository extends JpaRepository<ActivityLedger, ActivityLedgerId> {
+
+    List<ActivityLedger> findByCourseIdAndStudentIdIn(Long courseId, Collection<Long> studentIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM activity_ledger l WHERE l.studentId = :studentId AND l.courseId = :courseId")
+    Optional<ActivityLedger> findForUpdate(Long studentId, Long courseId);
+
+    @Modifying
+    @Query(value = "INSERT INTO activity_ledger (student_id, course_id, total_points, homework_count, project_count, test_count, engagement_count) " +
+            "VALUES (:studentId, :courseId, :points, :homeworkCount, :projectCount, :testCount, :engagementCount) " +
+            "ON DUPLICATE KEY UPDATE total_points = total_points + VALUES(total_points), " +
+            "homework_count = homework_count + VALUES(homework_count), " +
+            "project_count = project_count + VALUES(project_count), " +
+            "test_count = test_count + VALUES(test_count), " +
+            "engagement_count = engagement_count + VALUES(engagement_count)", nativeQuery = true)
+    void record(Long studentId, Long courseId, double points, int homeworkCount, int projectCount, int testCount, int engagementCount);
+
+    @Modifying
+    @Query(value = "INSERT INTO activity_ledger (student_id, course_id, total_points, homework_count, project_count, test_count, engagement_count) " +
+            "VALUES (:studentId, :courseId, :totalPoints, :homeworkCount, :projectCount, :testCount, :engagementCount) " +
+            "ON DUPLICATE KEY UPDATE total_points = VALUES(total_points), " +
+            "homework_count = VALUES(homework_count), " +
+            "project_count = VALUES(project_count), " +
+            "test_count = VALUES(test_count), " +
+            "engagement_count = VALUES(engagement_count)", nativeQuery = true)
+    void replace(Long studentId, Long courseId, double totalPoints, int homeworkCount, int projectCount, int testCount, int engagementCount);
+
+    @Query("SELECT new com.smarty.domain.activity.entity.ActivityLedger(a.student.id, t.course.id, SUM(a.points), " +
+            "SUM(CASE WHEN t.type = com.smarty.domain.task.enums.Type.HOMEWORK THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.type = com.smarty.domain.task.enums.Type.PROJECT THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.type = com.smarty.domain.task.enums.Type.TEST THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.type = com.smarty.domain.task.enums.Type.ENGAGEMENT THEN 1 ELSE 0 END)) " +
+            "FROM activity a " +
+            "JOIN task t ON a.task.id = t.id " +
+            "GROUP BY a.student.id, t.course.id")
+    List<ActivityLedger> calculateLedgers();
+
+    @Query("SELECT new com.smarty.domain.activity.entity.ActivityLedger(a.student.id, t.course.id, SUM(a.points), " +
+            "SUM(CASE WHEN t.type = com.smarty.domain.task.enums.Type.HOMEWORK THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.type = com.smarty.domain.task.enums.Type.PROJECT THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.type = com.smarty.domain.task.enums.Type.TEST THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.type = com.smarty.domain.task.enums.Type.ENGAGEMENT THEN 1 ELSE 0 END)) " +
+            "FROM activity a " +
+            "JOIN task t ON a.task.id = t.id " +
+            "WHERE a.student.id = :studentId AND t.course.id = :courseId " +
+            "GROUP BY a.student.id, t.course.id")
+    Optional<ActivityLedger> calculateLedger(Long studentId, Long courseId);
+
+}
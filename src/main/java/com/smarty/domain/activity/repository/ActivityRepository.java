@@ -1,31 +1,43 @@
 package com.smarty.domain.activity.repository;
 
 import com.smarty.domain.activity.entity.Activity;
-import com.smarty.domain.task.enums.Type;
+import com.smarty.domain.activity.model.StudentActivityName;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface ActivityRepository extends JpaRepository<Activity, Long> {
 
-    boolean existsByActivityNameAndStudent_Id(String activityName, Long studentId);
+    @Override
+    @EntityGraph("activity.details")
+    Page<Activity> findAll(Pageable pageable);
 
-    @Query("SELECT COUNT(a) FROM activity a " +
-            "JOIN task t ON a.task.id = t.id " +
-            "WHERE t.type = :type AND a.student.id = :studentId AND t.course.id = :courseId")
-    int findNumberOfActivitiesByTaskType(Type type, Long studentId, Long courseId);
+    @Override
+    @EntityGraph("activity.details")
+    Optional<Activity> findById(Long id);
+
+    @EntityGraph("activity.details")
+    List<Activity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 
+    boolean existsByActivityNameAndStudent_Id(String activityName, Long studentId);
+
+    @EntityGraph("activity.details")
     @Query("SELECT a FROM activity a " +
             "JOIN task t ON a.task.id = t.id " +
             "WHERE a.student.id = :studentId AND t.course.code = :code")
     List<Activity> findStudentActivitiesByCourse(Long studentId, String code);
 
-    @Query("SELECT SUM(a.points) FROM activity a " +
-            "JOIN task t ON a.task.id = t.id " +
-            "WHERE a.student.id = :studentId AND t.course.id = :courseId")
-    Double findTotalActivityPointsByCourse(Long studentId, Long courseId);
+    @Query("SELECT new com.smarty.domain.activity.model.StudentActivityName(a.student.id, a.activityName) FROM activity a " +
+            "WHERE a.student.id IN :studentIds AND a.activityName IN :activityNames")
+    Set<StudentActivityName> findStudentActivityNames(Collection<Long> studentIds, Collection<String> activityNames);
 
 }
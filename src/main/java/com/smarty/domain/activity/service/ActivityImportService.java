@@ -0,0 +1,13 @@
+package com.smarty.domain.activity.service;
+
+import com.smarty.domain.activity.model.ActivityImportReportDTO;
+
+import java.io.InputStream;
+
+public interface ActivityImportService {
+
+    ActivityImportReportDTO importActivitiesFromCsv(Long taskId, InputStream csv);
+
+    ActivityImportReportDTO importActivitiesFromJson(Long taskId, InputStream json);
+
+}
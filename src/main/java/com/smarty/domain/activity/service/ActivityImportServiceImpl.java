@@ -0,0 +1,308 @@
+package com.smarty.domain.activity.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarty.domain.activity.entity.Activity;
+import com.smarty.domain.activity.event.ActivityRecorded;
+import com.smarty.domain.activity.model.ActivityImportReportDTO;
+import com.smarty.domain.activity.model.ActivityImportResultDTO;
+import com.smarty.domain.activity.model.ActivityImportRowDTO;
+import com.smarty.domain.activity.model.StudentActivityName;
+import com.smarty.domain.activity.repository.ActivityRepository;
+import com.smarty.domain.exam.service.ExamEligibilityService;
+import com.smarty.domain.student.service.StudentService;
+import com.smarty.domain.task.entity.Task;
+import com.smarty.domain.task.service.TaskService;
+import com.smarty.infrastructure.csv.CsvReader;
+import com.smarty.infrastructure.csv.CsvRow;
+import com.smarty.infrastructure.event.DomainEventPublisher;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class ActivityImportServiceImpl implements ActivityImportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ActivityRepository activityRepository;
+    private final TaskService taskService;
+    private final StudentService studentService;
+    private final ExamEligibilityService examEligibilityService;
+    private final ActivityLedgerService activityLedgerService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final DomainEventPublisher domainEventPublisher;
+
+    @Autowired
+    public ActivityImportServiceImpl(ActivityRepository activityRepository,
+                                     TaskService taskService,
+                                     StudentService studentService,
+                                     ExamEligibilityService examEligibilityService,
+                                     ActivityLedgerService activityLedgerService,
+                                     ObjectMapper objectMapper,
+                                     Validator validator,
+                                     DomainEventPublisher domainEventPublisher) {
+        this.activityRepository = activityRepository;
+        this.taskService = taskService;
+        this.studentService = studentService;
+        this.examEligibilityService = examEligibilityService;
+        this.activityLedgerService = activityLedgerService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.domainEventPublisher = domainEventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public ActivityImportReportDTO importActivitiesFromCsv(Long taskId, InputStream csv) {
+        var importSession = new ImportSession(taskService.getById(taskId));
+
+        try (var csvReader = new CsvReader(csv)) {
+            CsvRow csvRow;
+
+            while ((csvRow = csvReader.next()) != null) {
+                importSession.add(toImportRow(csvRow));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return importSession.finish();
+    }
+
+    @Override
+    @Transactional
+    public ActivityImportReportDTO importActivitiesFromJson(Long taskId, InputStream json) {
+        var importSession = new ImportSession(taskService.getById(taskId));
+
+        try (MappingIterator<ActivityImportRowDTO> rowDTOs = objectMapper.readerFor(ActivityImportRowDTO.class).readValues(json)) {
+            int number = 0;
+
+            while (rowDTOs.hasNextValue()) {
+                importSession.add(new ImportRow(++number, rowDTOs.nextValue()));
+            }
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("Entered value is not a valid type", e, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return importSession.finish();
+    }
+
+    private ImportRow toImportRow(CsvRow csvRow) {
+        try {
+            var rowDTO = new ActivityImportRowDTO(
+                    csvRow.get("activityName"),
+                    csvRow.getDouble("points"),
+                    csvRow.get("comment"),
+                    csvRow.getLong("studentId"));
+
+            return new ImportRow(csvRow.number(), rowDTO);
+        } catch (IllegalArgumentException e) {
+            var row = new ImportRow(csvRow.number(), null);
+            row.reject("Entered value is not a valid type");
+
+            return row;
+        }
+    }
+
+    private final class ImportSession {
+
+        private final Task task;
+        private final List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<ActivityImportResultDTO> results = new ArrayList<>();
+        private final Map<StudentActivityName, Integer> listedActivityNames = new HashMap<>();
+        private final Map<Long, Integer> activityCounts = new HashMap<>();
+        private int imported;
+
+        private ImportSession(Task task) {
+            this.task = task;
+        }
+
+        private void add(ImportRow row) {
+            chunk.add(row);
+
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk();
+            }
+        }
+
+        private ActivityImportReportDTO finish() {
+            importChunk();
+
+            return new ActivityImportReportDTO(results.size(), imported, results.size() - imported, results);
+        }
+
+        private void importChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            validateRows();
+            validateStudents();
+            createActivities();
+
+            chunk.forEach(row -> results.add(row.toResultDTO()));
+            imported += (int) chunk.stream().filter(ImportRow::isAccepted).count();
+            chunk.clear();
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        private void validateRows() {
+            for (var row : chunk.stream().filter(ImportRow::isAccepted).toList()) {
+                var violations = validator.validate(row.rowDTO);
+
+                if (!violations.isEmpty()) {
+                    row.reject(violations
+                            .stream()
+                            .map(ConstraintViolation::getMessage)
+                            .sorted()
+                            .collect(Collectors.joining("; ")));
+                    continue;
+                }
+
+                if (row.rowDTO.points() > task.getMaxPoints()) {
+                    row.reject("It is not allowed to enter %.2f points for this activity".formatted(row.rowDTO.points()));
+                    continue;
+                }
+
+                var duplicateRow = listedActivityNames.putIfAbsent(row.studentActivityName(), row.number);
+
+                if (duplicateRow != null) {
+                    row.reject("Activity named %s is already listed in row %d for student with id %d"
+                            .formatted(row.rowDTO.activityName(), duplicateRow, row.rowDTO.studentId()));
+                }
+            }
+        }
+
+        private void validateStudents() {
+            var acceptedRows = chunk.stream().filter(ImportRow::isAccepted).toList();
+            var studentIds = acceptedRows
+                    .stream()
+                    .map(row -> row.rowDTO.studentId())
+                    .collect(Collectors.toSet());
+            var eligibilities = examEligibilityService.getEligibilities(studentIds, task.getCourse().getId());
+            var existingActivityNames = studentIds.isEmpty() ? Set.<StudentActivityName>of() : activityRepository.findStudentActivityNames(
+                    studentIds,
+                    acceptedRows.stream().map(row -> row.rowDTO.activityName()).collect(Collectors.toSet()));
+
+            countRecordedActivities(studentIds);
+
+            for (var row : acceptedRows) {
+                var eligibility = eligibilities.get(row.rowDTO.studentId());
+
+                if (eligibility == null) {
+                    row.reject("Student with id %d doesn't exist".formatted(row.rowDTO.studentId()));
+                    continue;
+                }
+
+                var rejectionReason = examEligibilityService.getActivityRejectionReason(eligibility);
+
+                if (rejectionReason != null) {
+                    row.reject(rejectionReason);
+                } else if (existingActivityNames.contains(row.studentActivityName())) {
+                    row.reject("Activity named %s already exists for student with id %d".formatted(row.rowDTO.activityName(), row.rowDTO.studentId()));
+                } else if (activityCounts.merge(row.rowDTO.studentId(), 1, Integer::sum) > task.getNumberOfTasks()) {
+                    activityCounts.merge(row.rowDTO.studentId(), -1, Integer::sum);
+                    row.reject("Limit for storing activities by type %s is reached for student with id %d".formatted(task.getType(), row.rowDTO.studentId()));
+                }
+            }
+        }
+
+        private void countRecordedActivities(Set<Long> studentIds) {
+            var uncountedStudentIds = studentIds
+                    .stream()
+                    .filter(studentId -> !activityCounts.containsKey(studentId))
+                    .collect(Collectors.toSet());
+            var ledgers = activityLedgerService.getLedgers(uncountedStudentIds, task.getCourse().getId());
+
+            for (var studentId : uncountedStudentIds) {
+                var ledger = ledgers.get(studentId);
+
+                activityCounts.put(studentId, ledger == null ? 0 : ledger.getCount(task.getType()));
+            }
+        }
+
+        private void createActivities() {
+            var acceptedRows = chunk.stream().filter(ImportRow::isAccepted).toList();
+            Map<Long, Double> pointsByStudent = new HashMap<>();
+            Map<Long, Integer> activitiesByStudent = new HashMap<>();
+
+            for (var row : acceptedRows) {
+                row.activity = new Activity();
+                row.activity.setActivityName(row.rowDTO.activityName());
+                row.activity.setPoints(row.rowDTO.points());
+                row.activity.setComment(row.rowDTO.comment());
+                row.activity.setTask(task);
+                row.activity.setStudent(studentService.getReferenceById(row.rowDTO.studentId()));
+
+                pointsByStudent.merge(row.rowDTO.studentId(), row.rowDTO.points(), Double::sum);
+                activitiesByStudent.merge(row.rowDTO.studentId(), 1, Integer::sum);
+            }
+
+            activityRepository.saveAll(acceptedRows.stream().map(row -> row.activity).toList());
+            pointsByStudent.forEach((studentId, points) -> activityLedgerService.recordActivity(studentId,
+                    task.getCourse().getId(), task.getType(), points, activitiesByStudent.get(studentId)));
+            acceptedRows.forEach(row -> domainEventPublisher.publish(new ActivityRecorded(row.activity.getId(), row.rowDTO.studentId(),
+                    task.getCourse().getId(), task.getType(), row.activity.getPoints())));
+        }
+
+    }
+
+    private static final class ImportRow {
+
+        private final int number;
+        private final ActivityImportRowDTO rowDTO;
+        private Activity activity;
+        private String error;
+
+        private ImportRow(int number, ActivityImportRowDTO rowDTO) {
+            this.number = number;
+            this.rowDTO = rowDTO;
+        }
+
+        private boolean isAccepted() {
+            return error == null;
+        }
+
+        private void reject(String error) {
+            this.error = error;
+        }
+
+        private StudentActivityName studentActivityName() {
+            return new StudentActivityName(rowDTO.studentId(), rowDTO.activityName());
+        }
+
+        private ActivityImportResultDTO toResultDTO() {
+            var studentId = rowDTO == null ? null : rowDTO.studentId();
+            var activityName = rowDTO == null ? null : rowDTO.activityName();
+
+            if (!isAccepted()) {
+                return new ActivityImportResultDTO(number, false, null, studentId, activityName, error);
+            }
+
+            return new ActivityImportResultDTO(number, true, activity.getId(), studentId, activityName, "Activity imported");
+        }
+
+    }
+
+}
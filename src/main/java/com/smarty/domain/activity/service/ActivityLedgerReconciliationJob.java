@@ -0,0 +1,40 @@
+package com.smarty.domain.activity.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ActivityLedgerReconciliationJob implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActivityLedgerReconciliationJob.class);
+
+    private final ActivityLedgerService activityLedgerService;
+
+    @Autowired
+    public ActivityLedgerReconciliationJob(ActivityLedgerService activityLedgerService) {
+        this.activityLedgerService = activityLedgerService;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (activityLedgerService.isEmpty()) {
+            var reconciliation = activityLedgerService.reconcile();
+            LOGGER.info("Activity ledger was empty and has been backfilled for {} student courses", reconciliation.drifted());
+        }
+    }
+
+    @Scheduled(cron = "${app.activity-ledger.reconcile-cron}")
+    public void reconcile() {
+        var reconciliation = activityLedgerService.reconcile();
+
+        if (reconciliation.drifted() > 0) {
+            LOGGER.warn("Activity ledger drifted for {} of {} student courses and was rebuilt: {}",
+                    reconciliation.drifted(), reconciliation.ledgers(), reconciliation.drifts());
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.smarty.domain.activity.service;
+
+import com.smarty.domain.activity.entity.ActivityLedger;
+import com.smarty.domain.activity.model.ActivityLedgerReconciliationDTO;
+import com.smarty.domain.task.enums.Type;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ActivityLedgerService {
+
+    ActivityLedger getLedger(Long studentId, Long courseId);
+
+    ActivityLedger getLedgerForUpdate(Long studentId, Long courseId);
+
+    Map<Long, ActivityLedger> getLedgers(Collection<Long> studentIds, Long courseId);
+
+    void recordActivity(Long studentId, Long courseId, Type type, double points, int count);
+
+    boolean isEmpty();
+
+    ActivityLedgerReconciliationDTO reconcile();
+
+}
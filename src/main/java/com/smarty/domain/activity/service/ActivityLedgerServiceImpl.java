@@ -0,0 +1,146 @@
+package com.smarty.domain.activity.service;
+
+import com.smarty.domain.activity.entity.ActivityLedger;
+import com.smarty.domain.activity.entity.ActivityLedgerId;
+import com.smarty.domain.activity.model.ActivityLedgerDriftDTO;
+import com.smarty.domain.activity.model.ActivityLedgerReconciliationDTO;
+import com.smarty.domain.activity.repository.ActivityLedgerRepository;
+import com.smarty.domain.task.enums.Type;
+import com.smarty.infrastructure.persistence.Drift;
+import com.smarty.infrastructure.persistence.ReconciledStore;
+import com.smarty.infrastructure.persistence.Reconciler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class ActivityLedgerServiceImpl implements ActivityLedgerService {
+
+    private final ActivityLedgerRepository activityLedgerRepository;
+    private final Reconciler reconciler;
+
+    @Autowired
+    public ActivityLedgerServiceImpl(ActivityLedgerRepository activityLedgerRepository, Reconciler reconciler) {
+        this.activityLedgerRepository = activityLedgerRepository;
+        this.reconciler = reconciler;
+    }
+
+    @Override
+    public ActivityLedger getLedger(Long studentId, Long courseId) {
+        return activityLedgerRepository.findById(new ActivityLedgerId(studentId, courseId))
+                .orElseGet(() -> new ActivityLedger(studentId, courseId));
+    }
+
+    @Override
+    @Transactional
+    public ActivityLedger getLedgerForUpdate(Long studentId, Long courseId) {
+        return activityLedgerRepository.findForUpdate(studentId, courseId)
+                .orElseGet(() -> new ActivityLedger(studentId, courseId));
+    }
+
+    @Override
+    public Map<Long, ActivityLedger> getLedgers(Collection<Long> studentIds, Long courseId) {
+        if (studentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return activityLedgerRepository.findByCourseIdAndStudentIdIn(courseId, studentIds)
+                .stream()
+                .collect(Collectors.toMap(ActivityLedger::getStudentId, Function.identity()));
+    }
+
+    @Override
+    @Transactional
+    public void recordActivity(Long studentId, Long courseId, Type type, double points, int count) {
+        activityLedgerRepository.record(studentId, courseId, points,
+                type == Type.HOMEWORK ? count : 0,
+                type == Type.PROJECT ? count : 0,
+                type == Type.TEST ? count : 0,
+                type == Type.ENGAGEMENT ? count : 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return activityLedgerRepository.count() == 0;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ActivityLedgerReconciliationDTO reconcile() {
+        var reconciliation = reconciler.reconcile(new LedgerStore());
+        var drifts = reconciliation.drifts()
+                .stream()
+                .map(drift -> toDriftDTO(drift.recorded(), drift.actual()))
+                .toList();
+
+        return new ActivityLedgerReconciliationDTO(reconciliation.entries(), drifts.size(), drifts);
+    }
+
+    private ActivityLedgerDriftDTO toDriftDTO(ActivityLedger recordedLedger, ActivityLedger actualLedger) {
+        return new ActivityLedgerDriftDTO(
+                actualLedger.getStudentId(),
+                actualLedger.getCourseId(),
+                recordedLedger.getTotalPoints(),
+                actualLedger.getTotalPoints(),
+                countActivities(recordedLedger),
+                countActivities(actualLedger));
+    }
+
+    private int countActivities(ActivityLedger ledger) {
+        return ledger.getHomeworkCount() + ledger.getProjectCount() + ledger.getTestCount() + ledger.getEngagementCount();
+    }
+
+    private class LedgerStore implements ReconciledStore<ActivityLedgerId, ActivityLedger> {
+
+        @Override
+        public List<ActivityLedger> findRecorded() {
+            return activityLedgerRepository.findAll();
+        }
+
+        @Override
+        public List<ActivityLedger> calculateActual() {
+            return activityLedgerRepository.calculateLedgers();
+        }
+
+        @Override
+        public ActivityLedgerId getKey(ActivityLedger ledger) {
+            return ledger.getId();
+        }
+
+        @Override
+        public ActivityLedger empty(ActivityLedgerId id) {
+            return new ActivityLedger(id.getStudentId(), id.getCourseId());
+        }
+
+        @Override
+        public boolean matches(ActivityLedger recordedLedger, ActivityLedger actualLedger) {
+            return recordedLedger.matches(actualLedger);
+        }
+
+        @Override
+        public Optional<Drift<ActivityLedger>> repair(ActivityLedgerId id) {
+            var recordedLedger = activityLedgerRepository.findForUpdate(id.getStudentId(), id.getCourseId()).orElseGet(() -> empty(id));
+            var actualLedger = activityLedgerRepository.calculateLedger(id.getStudentId(), id.getCourseId()).orElseGet(() -> empty(id));
+
+            if (recordedLedger.matches(actualLedger)) {
+                return Optional.empty();
+            }
+
+            activityLedgerRepository.replace(id.getStudentId(), id.getCourseId(), actualLedger.getTotalPoints(),
+                    actualLedger.getHomeworkCount(), actualLedger.getProjectCount(), actualLedger.getTestCount(), actualLedger.getEngagementCount());
+
+            return Optional.of(new Drift<>(recordedLedger, actualLedger));
+        }
+
+    }
+
+}
@@ -3,6 +3,7 @@ package com.smarty.domain.activity.service;
 import com.smarty.domain.activity.model.ActivityRequestDTO;
 import com.smarty.domain.activity.model.ActivityResponseDTO;
 import com.smarty.domain.activity.model.ActivityUpdateDTO;
+import com.smarty.infrastructure.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,11 +15,13 @@ public interface ActivityService {
 
     Page<ActivityResponseDTO> getAllActivities(Pageable pageable);
 
+    CursorPage<ActivityResponseDTO> scrollActivities(String cursor, int size);
+
     ActivityResponseDTO getActivityById(Long id);
 
     List<ActivityResponseDTO> getStudentActivitiesByCourse(Long studentId, String code);
 
-    Double getTotalActivityPointsByCourse(Long studentId, Long courseId);
+    double getTotalActivityPointsByCourse(Long studentId, Long courseId);
 
     ActivityResponseDTO updateActivity(Long id, ActivityUpdateDTO activityDTO);
 
@@ -1,29 +1,35 @@
 package com.smarty.domain.activity.service;
 
 import com.smarty.domain.activity.entity.Activity;
+import com.smarty.domain.activity.event.ActivityDeleted;
+import com.smarty.domain.activity.event.ActivityRecorded;
 import com.smarty.domain.activity.model.ActivityRequestDTO;
 import com.smarty.domain.activity.model.ActivityResponseDTO;
 import com.smarty.domain.activity.model.ActivityUpdateDTO;
 import com.smarty.domain.activity.repository.ActivityRepository;
 import com.smarty.domain.course.service.CourseService;
-import com.smarty.domain.exam.service.ExamService;
+import com.smarty.domain.exam.service.ExamEligibilityService;
 import com.smarty.domain.student.service.StudentService;
 import com.smarty.domain.task.enums.Type;
 import com.smarty.domain.task.service.TaskService;
+import com.smarty.infrastructure.event.DomainEventPublisher;
 import com.smarty.infrastructure.handler.exceptions.ConflictException;
 import com.smarty.infrastructure.handler.exceptions.ForbiddenException;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.ActivityMapper;
+import com.smarty.infrastructure.pagination.CursorPage;
+import com.smarty.infrastructure.pagination.CursorToken;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class ActivityServiceImpl implements ActivityService {
 
     private static final String ACTIVITY_NOT_EXISTS = "Activity with id %d doesn't exist";
@@ -33,7 +39,9 @@ public class ActivityServiceImpl implements ActivityService {
     private final TaskService taskService;
     private final StudentService studentService;
     private final CourseService courseService;
-    private final ExamService examService;
+    private final ExamEligibilityService examEligibilityService;
+    private final ActivityLedgerService activityLedgerService;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Autowired
     public ActivityServiceImpl(ActivityRepository activityRepository,
@@ -41,33 +49,39 @@ public class ActivityServiceImpl implements ActivityService {
                                TaskService taskService,
                                StudentService studentService,
                                CourseService courseService,
-                               @Lazy ExamService examService) {
+                               ExamEligibilityService examEligibilityService,
+                               ActivityLedgerService activityLedgerService,
+                               DomainEventPublisher domainEventPublisher) {
         this.activityRepository = activityRepository;
         this.activityMapper = activityMapper;
         this.taskService = taskService;
         this.studentService = studentService;
         this.courseService = courseService;
-        this.examService = examService;
+        this.examEligibilityService = examEligibilityService;
+        this.activityLedgerService = activityLedgerService;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
     @Override
+    @Transactional
     public ActivityResponseDTO createActivity(ActivityRequestDTO activityDTO) {
         Activity activity = activityMapper.toActivity(activityDTO);
         var task = taskService.getById(activityDTO.taskId());
-        var student = studentService.getById(activityDTO.studentId());
-        var course = courseService.getById(task.getCourse().getId());
+        var eligibility = examEligibilityService.getEligibility(activityDTO.studentId(), task.getCourse().getId());
 
-        examService.checkCourseAndStudentYear(student, course);
-        examService.isExamAlreadyPassed(student, course);
+        examEligibilityService.validateEligibility(eligibility);
+        var student = studentService.getReferenceById(activityDTO.studentId());
 
         activity.setTask(task);
         activity.setStudent(student);
 
         validateActivityNameForStudent(activityDTO.activityName(), activityDTO.studentId());
         validateActivityPoints(activityDTO.points(), task.getMaxPoints());
-        validateNumberOfActivitiesByTaskType(task.getType(), activityDTO.studentId(), course.getId(), task.getNumberOfTasks());
+        validateNumberOfActivitiesByTaskType(task.getType(), activityDTO.studentId(), eligibility.courseId(), task.getNumberOfTasks());
 
         activityRepository.save(activity);
+        activityLedgerService.recordActivity(activityDTO.studentId(), eligibility.courseId(), task.getType(), activity.getPoints(), 1);
+        domainEventPublisher.publish(new ActivityRecorded(activity.getId(), activityDTO.studentId(), eligibility.courseId(), task.getType(), activity.getPoints()));
 
         return activityMapper.toActivityResponseDTO(activity);
     }
@@ -85,9 +99,9 @@ public class ActivityServiceImpl implements ActivityService {
     }
 
     private void validateNumberOfActivitiesByTaskType(Type type, Long studentId, Long courseId, int numberOfTasks) {
-        int numberOfActivities = activityRepository.findNumberOfActivitiesByTaskType(type, studentId, courseId);
+        int numberOfActivities = activityLedgerService.getLedgerForUpdate(studentId, courseId).getCount(type);
 
-        if (numberOfActivities == numberOfTasks) {
+        if (numberOfActivities >= numberOfTasks) {
             throw new ForbiddenException("Limit for storing activities by type %s is reached".formatted(type));
         }
     }
@@ -97,6 +111,14 @@ public class ActivityServiceImpl implements ActivityService {
         return activityRepository.findAll(pageable).map(activityMapper::toActivityResponseDTO);
     }
 
+    @Override
+    public CursorPage<ActivityResponseDTO> scrollActivities(String cursor, int size) {
+        var activities = activityRepository.findByIdGreaterThanOrderByIdAsc(CursorToken.decodeId(cursor), CursorToken.limit(size));
+
+        return CursorPage.of(activities, CursorToken.size(size), activity -> CursorToken.encode(activity.getId()))
+                .map(activityMapper::toActivityResponseDTO);
+    }
+
     @Override
     public ActivityResponseDTO getActivityById(Long id) {
         return activityMapper.toActivityResponseDTO(getById(id));
@@ -109,10 +131,10 @@ public class ActivityServiceImpl implements ActivityService {
     @Override
     public List<ActivityResponseDTO> getStudentActivitiesByCourse(Long studentId, String code) {
         List<Activity> studentActivitiesByCourse = activityRepository.findStudentActivitiesByCourse(studentId, code);
-        studentService.existsById(studentId);
-        courseService.existsByCode(code);
 
         if (studentActivitiesByCourse.isEmpty()) {
+            studentService.existsById(studentId);
+            courseService.existsByCode(code);
             throw new NotFoundException("There are 0 activities by course %s for student with id %d".formatted(code, studentId));
         }
 
@@ -123,30 +145,40 @@ public class ActivityServiceImpl implements ActivityService {
     }
 
     @Override
-    public Double getTotalActivityPointsByCourse(Long studentId, Long courseId) {
-        return activityRepository.findTotalActivityPointsByCourse(studentId, courseId);
+    public double getTotalActivityPointsByCourse(Long studentId, Long courseId) {
+        return activityLedgerService.getLedger(studentId, courseId).getTotalPoints();
     }
 
     @Override
+    @Transactional
     public ActivityResponseDTO updateActivity(Long id, ActivityUpdateDTO activityDTO) {
         Activity activity = getById(id);
+        double previousPoints = activity.getPoints();
         activityMapper.updateActivityFromDTO(activityDTO, activity);
         var task = taskService.getById(activity.getTask().getId());
 
         activity.setTask(task);
         validateActivityPoints(activityDTO.points(), task.getMaxPoints());
         activityRepository.save(activity);
+        activityLedgerService.recordActivity(activity.getStudent().getId(), task.getCourse().getId(), task.getType(),
+                activity.getPoints() - previousPoints, 0);
+        domainEventPublisher.publish(new ActivityRecorded(activity.getId(), activity.getStudent().getId(), task.getCourse().getId(),
+                task.getType(), activity.getPoints()));
 
         return activityMapper.toActivityResponseDTO(activity);
     }
 
     @Override
+    @Transactional
     public void deleteActivity(Long id) {
-        if (!activityRepository.existsById(id)) {
-            throw new NotFoundException(ACTIVITY_NOT_EXISTS.formatted(id));
-        }
+        Activity activity = getById(id);
+        var task = activity.getTask();
 
-        activityRepository.deleteById(id);
+        activityRepository.delete(activity);
+        activityLedgerService.recordActivity(activity.getStudent().getId(), task.getCourse().getId(), task.getType(),
+                -activity.getPoints(), -1);
+        domainEventPublisher.publish(new ActivityDeleted(activity.getId(), activity.getStudent().getId(), task.getCourse().getId(),
+                task.getType(), activity.getPoints()));
     }
 
 }
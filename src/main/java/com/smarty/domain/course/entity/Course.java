@@ -1,15 +1,23 @@
 package com.smarty.domain.course.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity(name = "course")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course")
+@Table(uniqueConstraints = @UniqueConstraint(name = Course.UNIQUE_CODE, columnNames = "code"))
 public class Course {
 
+    public static final String UNIQUE_CODE = "uk_course_code";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "course_id")
+    @TableGenerator(name = "course_id", table = "id_generator", pkColumnValue = "course", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String code;
 
     @Column(nullable = false)
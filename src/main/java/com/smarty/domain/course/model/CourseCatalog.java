@@ -0,0 +1,67 @@
+package com.smarty.domain.course.model;
+
+import com.smarty.domain.engagement.model.EngagementView;
+import com.smarty.domain.task.model.TaskResponseDTO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public record CourseCatalog(
+
+        Map<Long, CourseResponseDTO> coursesById,
+        Map<String, CourseResponseDTO> coursesByCode,
+        Map<Integer, List<CourseResponseDTO>> coursesByYear,
+        Map<Integer, List<CourseResponseDTO>> coursesBySemester,
+        Map<Long, List<TaskResponseDTO>> tasksByCourse,
+        Map<Long, List<CourseResponseDTO>> coursesByProfessor
+
+) {
+
+    public static final CourseCatalog EMPTY = of(List.of(), List.of(), List.of());
+
+    public static CourseCatalog of(List<CourseResponseDTO> courses, List<TaskResponseDTO> tasks, List<EngagementView> engagements) {
+        var coursesById = courses
+                .stream()
+                .collect(Collectors.toUnmodifiableMap(CourseResponseDTO::id, Function.identity()));
+
+        return new CourseCatalog(
+                coursesById,
+                courses.stream().collect(Collectors.toUnmodifiableMap(CourseResponseDTO::code, Function.identity())),
+                Map.copyOf(courses.stream().collect(Collectors.groupingBy(CourseResponseDTO::year, Collectors.toUnmodifiableList()))),
+                Map.copyOf(courses.stream().collect(Collectors.groupingBy(CourseResponseDTO::semester, Collectors.toUnmodifiableList()))),
+                Map.copyOf(tasks.stream().collect(Collectors.groupingBy(task -> task.course().id(), Collectors.toUnmodifiableList()))),
+                Map.copyOf(engagements
+                        .stream()
+                        .filter(engagement -> coursesById.containsKey(engagement.courseId()))
+                        .collect(Collectors.groupingBy(EngagementView::professorId,
+                                Collectors.mapping(engagement -> coursesById.get(engagement.courseId()), Collectors.toUnmodifiableList())))));
+    }
+
+    public Optional<CourseResponseDTO> getCourse(Long id) {
+        return Optional.ofNullable(coursesById.get(id));
+    }
+
+    public Optional<CourseResponseDTO> getCourseByCode(String code) {
+        return Optional.ofNullable(coursesByCode.get(code));
+    }
+
+    public List<CourseResponseDTO> getCoursesByYear(int year) {
+        return coursesByYear.getOrDefault(year, List.of());
+    }
+
+    public List<CourseResponseDTO> getCoursesBySemester(int semester) {
+        return coursesBySemester.getOrDefault(semester, List.of());
+    }
+
+    public List<TaskResponseDTO> getTasksByCourse(Long courseId) {
+        return tasksByCourse.getOrDefault(courseId, List.of());
+    }
+
+    public List<CourseResponseDTO> getCoursesByProfessor(Long professorId) {
+        return coursesByProfessor.getOrDefault(professorId, List.of());
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.smarty.domain.course.service;
+
+import com.smarty.domain.course.model.CourseCatalog;
+
+public interface CourseCatalogService {
+
+    CourseCatalog getCatalog();
+
+    void refresh();
+
+    void refreshAfterCommit();
+
+}
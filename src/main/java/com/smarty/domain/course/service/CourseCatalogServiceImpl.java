@@ -0,0 +1,116 @@
+package com.smarty.domain.course.service;
+
+import com.smarty.domain.course.model.CourseCatalog;
+import com.smarty.domain.course.repository.CourseRepository;
+import com.smarty.domain.engagement.repository.EngagementRepository;
+import com.smarty.domain.task.repository.TaskRepository;
+import com.smarty.infrastructure.mapper.CourseMapper;
+import com.smarty.infrastructure.mapper.TaskMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class CourseCatalogServiceImpl implements CourseCatalogService, SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CourseCatalogServiceImpl.class);
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final CourseRepository courseRepository;
+    private final TaskRepository taskRepository;
+    private final EngagementRepository engagementRepository;
+    private final CourseMapper courseMapper;
+    private final TaskMapper taskMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService refreshExecutor;
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private volatile CourseCatalog catalog = CourseCatalog.EMPTY;
+
+    @Autowired
+    public CourseCatalogServiceImpl(CourseRepository courseRepository,
+                                    TaskRepository taskRepository,
+                                    EngagementRepository engagementRepository,
+                                    CourseMapper courseMapper,
+                                    TaskMapper taskMapper,
+                                    PlatformTransactionManager transactionManager) {
+        this.courseRepository = courseRepository;
+        this.taskRepository = taskRepository;
+        this.engagementRepository = engagementRepository;
+        this.courseMapper = courseMapper;
+        this.taskMapper = taskMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.refreshExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("course-catalog-refresh-"));
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    @Override
+    public CourseCatalog getCatalog() {
+        return catalog;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.course-catalog.refresh-interval}", initialDelayString = "${app.course-catalog.refresh-interval}")
+    public synchronized void refresh() {
+        catalog = transactionTemplate.execute(status -> CourseCatalog.of(
+                courseRepository.findAll(BY_ID).stream().map(courseMapper::toCourseResponseDTO).toList(),
+                taskRepository.findAll(BY_ID).stream().map(taskMapper::toTaskResponseDTO).toList(),
+                engagementRepository.findEngagements()));
+    }
+
+    @Override
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            requestRefresh();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requestRefresh();
+            }
+        });
+    }
+
+    private void requestRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            refreshExecutor.execute(() -> {
+                refreshPending.set(false);
+
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Course catalog refresh failed, keeping the previous catalog", e);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        refreshExecutor.shutdown();
+        refreshExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+}
@@ -19,6 +19,8 @@ public interface CourseService {
 
     Course getById(Long id);
 
+    Course getReferenceById(Long id);
+
     void existsById(Long id);
 
     void existsByCode(String code);
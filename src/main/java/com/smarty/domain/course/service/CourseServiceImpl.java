@@ -7,53 +7,63 @@ import com.smarty.domain.course.model.CourseUpdateDTO;
 import com.smarty.domain.course.repository.CourseRepository;
 import com.smarty.domain.professor.service.ProfessorService;
 import com.smarty.domain.student.service.StudentService;
-import com.smarty.infrastructure.handler.exceptions.ConflictException;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.CourseMapper;
+import com.smarty.infrastructure.persistence.UniqueConstraints;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class CourseServiceImpl implements CourseService {
 
     private static final String COURSE_NOT_EXISTS = "Course with id %d doesn't exist";
 
     private final CourseRepository courseRepository;
     private final CourseMapper courseMapper;
+    private final CourseCatalogService courseCatalogService;
     private final ProfessorService professorService;
     private final StudentService studentService;
 
     @Autowired
     public CourseServiceImpl(CourseRepository courseRepository,
                              CourseMapper courseMapper,
+                             CourseCatalogService courseCatalogService,
                              @Lazy ProfessorService professorService,
                              @Lazy StudentService studentService) {
         this.courseRepository = courseRepository;
         this.courseMapper = courseMapper;
+        this.courseCatalogService = courseCatalogService;
         this.professorService = professorService;
         this.studentService = studentService;
     }
 
     @Override
+    @Transactional
     public CourseResponseDTO createCourse(CourseRequestDTO courseDTO) {
         Course course = courseMapper.toCourse(courseDTO);
 
-        validateCode(courseDTO.code());
-        courseRepository.save(course);
+        saveCourse(course);
+        courseCatalogService.refreshAfterCommit();
 
         return courseMapper.toCourseResponseDTO(course);
     }
 
-    private void validateCode(String code) {
-        if (courseRepository.existsByCode(code)) {
-            throw new ConflictException("Course with code %s already exists".formatted(code));
+    private void saveCourse(Course course) {
+        try {
+            courseRepository.saveAndFlush(course);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, Map.of(Course.UNIQUE_CODE, "Course with code %s already exists".formatted(course.getCode())));
         }
     }
 
@@ -64,7 +74,9 @@ public class CourseServiceImpl implements CourseService {
 
     @Override
     public CourseResponseDTO getCourseById(Long id) {
-        return courseMapper.toCourseResponseDTO(getById(id));
+        return courseCatalogService.getCatalog()
+                .getCourse(id)
+                .orElseThrow(() -> new NotFoundException(COURSE_NOT_EXISTS.formatted(id)));
     }
 
     public Course getById(Long id) {
@@ -77,6 +89,11 @@ public class CourseServiceImpl implements CourseService {
         return optionalCourse.get();
     }
 
+    @Override
+    public Course getReferenceById(Long id) {
+        return courseRepository.getReferenceById(id);
+    }
+
     @Override
     public void existsById(Long id) {
         if (!courseRepository.existsById(id)) {
@@ -86,7 +103,7 @@ public class CourseServiceImpl implements CourseService {
 
     @Override
     public void existsByCode(String code) {
-        if (!courseRepository.existsByCode(code)) {
+        if (courseCatalogService.getCatalog().getCourseByCode(code).isEmpty()) {
             throw new NotFoundException("Course with code %s doesn't exist".formatted(code));
         }
     }
@@ -96,7 +113,7 @@ public class CourseServiceImpl implements CourseService {
         int minYear = 1;
         int maxYear = 4;
 
-        if (!courseRepository.existsByYear(year) && (year < minYear || year > maxYear)) {
+        if (courseCatalogService.getCatalog().getCoursesByYear(year).isEmpty() && (year < minYear || year > maxYear)) {
             throw new NotFoundException("Year %d doesn't exist during the studies".formatted(year));
         }
     }
@@ -105,53 +122,53 @@ public class CourseServiceImpl implements CourseService {
         int minSemester = 1;
         int maxSemester = 8;
 
-        if (!courseRepository.existsBySemester(semester) && (semester < minSemester || semester > maxSemester)) {
+        if (courseCatalogService.getCatalog().getCoursesBySemester(semester).isEmpty() && (semester < minSemester || semester > maxSemester)) {
             throw new NotFoundException("Semester %d doesn't exist during the studies".formatted(semester));
         }
     }
 
     @Override
     public List<CourseResponseDTO> getCoursesByYear(int year) {
-        List<Course> coursesByYear = courseRepository.findByYear(year);
+        List<CourseResponseDTO> coursesByYear = courseCatalogService.getCatalog().getCoursesByYear(year);
         existsByYear(year);
 
         if (coursesByYear.isEmpty()) {
             throw new NotFoundException("List of courses by year is empty");
         }
 
-        return getCourseListResponseDTO(coursesByYear);
+        return coursesByYear;
     }
 
     @Override
     public List<CourseResponseDTO> getCoursesBySemester(int semester) {
-        List<Course> coursesBySemester = courseRepository.findBySemester(semester);
+        List<CourseResponseDTO> coursesBySemester = courseCatalogService.getCatalog().getCoursesBySemester(semester);
         existsBySemester(semester);
 
         if (coursesBySemester.isEmpty()) {
             throw new NotFoundException("List of courses by semester is empty");
         }
 
-        return getCourseListResponseDTO(coursesBySemester);
+        return coursesBySemester;
     }
 
     @Override
     public List<CourseResponseDTO> getCoursesByProfessor(Long professorId) {
-        List<Course> coursesByProfessor = courseRepository.findCoursesByProfessor(professorId);
-        professorService.existsById(professorId);
+        List<CourseResponseDTO> coursesByProfessor = courseCatalogService.getCatalog().getCoursesByProfessor(professorId);
 
         if (coursesByProfessor.isEmpty()) {
+            professorService.existsById(professorId);
             throw new NotFoundException("List of courses by professor is empty");
         }
 
-        return getCourseListResponseDTO(coursesByProfessor);
+        return coursesByProfessor;
     }
 
     @Override
     public List<CourseResponseDTO> getCoursesByStudent(Long studentId) {
         List<Course> coursesByStudent = courseRepository.findCoursesByStudent(studentId);
-        studentService.existsById(studentId);
 
         if (coursesByStudent.isEmpty()) {
+            studentService.existsById(studentId);
             throw new NotFoundException("List of courses by student is empty");
         }
 
@@ -166,20 +183,24 @@ public class CourseServiceImpl implements CourseService {
     }
 
     @Override
+    @Transactional
     public CourseResponseDTO updateCourse(Long id, CourseUpdateDTO courseDTO) {
         Course course = getById(id);
         courseMapper.updateCourseFromDTO(courseDTO, course);
 
         courseRepository.save(course);
+        courseCatalogService.refreshAfterCommit();
 
         return courseMapper.toCourseResponseDTO(course);
     }
 
     @Override
+    @Transactional
     public void deleteCourse(Long id) {
         existsById(id);
 
         courseRepository.deleteById(id);
+        courseCatalogService.refreshAfterCommit();
     }
 
 }
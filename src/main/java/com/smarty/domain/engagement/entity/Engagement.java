@@ -5,17 +5,25 @@ import com.smarty.domain.professor.entity.Professor;
 import jakarta.persistence.*;
 
 @Entity(name = "engagement")
+@NamedEntityGraph(name = "engagement.details", attributeNodes = {
+        @NamedAttributeNode(value = "professor", subgraph = "professor"),
+        @NamedAttributeNode("course")},
+        subgraphs = @NamedSubgraph(name = "professor", attributeNodes = @NamedAttributeNode("account")))
+@Table(uniqueConstraints = @UniqueConstraint(name = Engagement.UNIQUE_PROFESSOR_COURSE, columnNames = {"professor_id", "course_id"}))
 public class Engagement {
 
+    public static final String UNIQUE_PROFESSOR_COURSE = "uk_engagement_professor_course";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "engagement_id")
+    @TableGenerator(name = "engagement_id", table = "id_generator", pkColumnValue = "engagement", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "professor_id", nullable = false)
     private Professor professor;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
     private Course course;
 
@@ -0,0 +1,11 @@
+package com.smarty.domain.engagement.model;
+
+public record EngagementView(
+
+        Long id,
+        Long professorId,
+        Long courseId
+
+) {
+
+}
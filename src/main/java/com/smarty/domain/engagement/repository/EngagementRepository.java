@@ -1,14 +1,29 @@
 package com.smarty.domain.engagement.repository;
 
-import com.smarty.domain.course.entity.Course;
 import com.smarty.domain.engagement.entity.Engagement;
-import com.smarty.domain.professor.entity.Professor;
+import com.smarty.domain.engagement.model.EngagementView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface EngagementRepository extends JpaRepository<Engagement, Long> {
 
-    boolean existsByProfessorAndCourse(Professor professor, Course course);
+    @Override
+    @EntityGraph("engagement.details")
+    Page<Engagement> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph("engagement.details")
+    Optional<Engagement> findById(Long id);
+
+    @Query("SELECT new com.smarty.domain.engagement.model.EngagementView(e.id, e.professor.id, e.course.id) FROM engagement e")
+    List<EngagementView> findEngagements();
 
 }
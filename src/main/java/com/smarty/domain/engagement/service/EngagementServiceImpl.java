@@ -1,6 +1,7 @@
 package com.smarty.domain.engagement.service;
 
 import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.course.service.CourseCatalogService;
 import com.smarty.domain.course.service.CourseService;
 import com.smarty.domain.engagement.entity.Engagement;
 import com.smarty.domain.engagement.model.EngagementRequestDTO;
@@ -9,15 +10,20 @@ import com.smarty.domain.engagement.model.EngagementUpdateDTO;
 import com.smarty.domain.engagement.repository.EngagementRepository;
 import com.smarty.domain.professor.entity.Professor;
 import com.smarty.domain.professor.service.ProfessorService;
-import com.smarty.infrastructure.handler.exceptions.ConflictException;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.EngagementMapper;
+import com.smarty.infrastructure.persistence.UniqueConstraints;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
 
 @Service
+@Transactional(readOnly = true)
 public class EngagementServiceImpl implements EngagementService {
 
     private static final String ENGAGEMENT_NOT_EXISTS = "Engagement with id %d doesn't exist";
@@ -26,19 +32,23 @@ public class EngagementServiceImpl implements EngagementService {
     private final EngagementMapper engagementMapper;
     private final ProfessorService professorService;
     private final CourseService courseService;
+    private final CourseCatalogService courseCatalogService;
 
     @Autowired
     public EngagementServiceImpl(EngagementRepository engagementRepository,
                                  EngagementMapper engagementMapper,
                                  ProfessorService professorService,
-                                 CourseService courseService) {
+                                 CourseService courseService,
+                                 CourseCatalogService courseCatalogService) {
         this.engagementRepository = engagementRepository;
         this.engagementMapper = engagementMapper;
         this.professorService = professorService;
         this.courseService = courseService;
+        this.courseCatalogService = courseCatalogService;
     }
 
     @Override
+    @Transactional
     public EngagementResponseDTO createEngagement(EngagementRequestDTO engagementDTO) {
         Engagement engagement = engagementMapper.toEngagement(engagementDTO);
         var professor = professorService.getById(engagementDTO.professorId());
@@ -50,15 +60,18 @@ public class EngagementServiceImpl implements EngagementService {
     private EngagementResponseDTO getEngagementResponseDTO(Engagement engagement, Professor professor, Course course) {
         engagement.setProfessor(professor);
         engagement.setCourse(course);
-        validateExistsByProfessorAndCourse(professor, course);
-        engagementRepository.save(engagement);
+        saveEngagement(engagement);
+        courseCatalogService.refreshAfterCommit();
 
         return engagementMapper.toEngagementResponseDTO(engagement);
     }
 
-    private void validateExistsByProfessorAndCourse(Professor professor, Course course) {
-        if (engagementRepository.existsByProfessorAndCourse(professor, course)) {
-            throw new ConflictException("Engagement already exists for professor %s and course %s".formatted(professor.getName(), course.getCode()));
+    private void saveEngagement(Engagement engagement) {
+        try {
+            engagementRepository.saveAndFlush(engagement);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, Map.of(Engagement.UNIQUE_PROFESSOR_COURSE,
+                    "Engagement already exists for professor %s and course %s".formatted(engagement.getProfessor().getName(), engagement.getCourse().getCode())));
         }
     }
 
@@ -77,6 +90,7 @@ public class EngagementServiceImpl implements EngagementService {
     }
 
     @Override
+    @Transactional
     public EngagementResponseDTO updateEngagement(Long id, EngagementUpdateDTO engagementDTO) {
         Engagement engagement = getById(id);
         engagementMapper.updateEngagementFromDTO(engagementDTO, engagement);
@@ -87,12 +101,14 @@ public class EngagementServiceImpl implements EngagementService {
     }
 
     @Override
+    @Transactional
     public void deleteEngagement(Long id) {
         if (!engagementRepository.existsById(id)) {
             throw new NotFoundException(ENGAGEMENT_NOT_EXISTS.formatted(id));
         }
 
         engagementRepository.deleteById(id);
+        courseCatalogService.refreshAfterCommit();
     }
 
 }
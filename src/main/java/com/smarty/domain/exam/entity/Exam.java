@@ -7,10 +7,21 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity(name = "exam")
+@NamedEntityGraph(name = "exam.details", attributeNodes = {
+        @NamedAttributeNode(value = "student", subgraph = "student"),
+        @NamedAttributeNode("course")},
+        subgraphs = @NamedSubgraph(name = "student", attributeNodes = {
+                @NamedAttributeNode("major"),
+                @NamedAttributeNode("status"),
+                @NamedAttributeNode("account")}))
+@Table(uniqueConstraints = @UniqueConstraint(name = Exam.UNIQUE_STUDENT_COURSE_NAME, columnNames = {"student_id", "course_id", "name"}))
 public class Exam {
 
+    public static final String UNIQUE_STUDENT_COURSE_NAME = "uk_exam_student_course_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "exam_id")
+    @TableGenerator(name = "exam_id", table = "id_generator", pkColumnValue = "exam", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -31,11 +42,11 @@ public class Exam {
     @Column(nullable = false)
     private double totalPoints;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
     private Course course;
 
@@ -0,0 +1,26 @@
+package com.smarty.domain.exam.event;
+
+import com.smarty.infrastructure.event.DomainEvent;
+
+import java.time.Instant;
+
+public record ExamDeleted(
+
+        Long examId,
+        Long studentId,
+        Long courseId,
+        int grade,
+        Instant occurredAt
+
+) implements DomainEvent {
+
+    public ExamDeleted(Long examId, Long studentId, Long courseId, int grade) {
+        this(examId, studentId, courseId, grade, Instant.now());
+    }
+
+    @Override
+    public Object aggregateKey() {
+        return studentId;
+    }
+
+}
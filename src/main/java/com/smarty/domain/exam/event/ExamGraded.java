@@ -0,0 +1,28 @@
+package com.smarty.domain.exam.event;
+
+import com.smarty.infrastructure.event.DomainEvent;
+
+import java.time.Instant;
+
+public record ExamGraded(
+
+        Long examId,
+        Long studentId,
+        Long courseId,
+        int previousGrade,
+        int grade,
+        double totalPoints,
+        Instant occurredAt
+
+) implements DomainEvent {
+
+    public ExamGraded(Long examId, Long studentId, Long courseId, int previousGrade, int grade, double totalPoints) {
+        this(examId, studentId, courseId, previousGrade, grade, totalPoints, Instant.now());
+    }
+
+    @Override
+    public Object aggregateKey() {
+        return studentId;
+    }
+
+}
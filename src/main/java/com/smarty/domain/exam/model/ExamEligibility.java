@@ -0,0 +1,16 @@
+package com.smarty.domain.exam.model;
+
+public record ExamEligibility(
+
+        Long studentId,
+        String studentName,
+        int studentYear,
+        Long courseId,
+        String courseCode,
+        int courseYear,
+        boolean examPassed,
+        double activityPoints
+
+) {
+
+}
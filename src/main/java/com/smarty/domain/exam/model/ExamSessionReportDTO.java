@@ -0,0 +1,14 @@
+package com.smarty.domain.exam.model;
+
+import java.util.List;
+
+public record ExamSessionReportDTO(
+
+        int total,
+        int graded,
+        int rejected,
+        List<ExamSessionResultDTO> results
+
+) {
+
+}
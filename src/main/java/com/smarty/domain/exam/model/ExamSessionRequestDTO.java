@@ -0,0 +1,23 @@
+package com.smarty.domain.exam.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record ExamSessionRequestDTO(
+
+        @NotBlank(message = "Exam name can't be blank")
+        String name,
+
+        @NotNull(message = "Course can't be null")
+        Long courseId,
+
+        @NotEmpty(message = "Exam session must contain at least one result")
+        List<@Valid ExamSessionRowDTO> results
+
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.smarty.domain.exam.model;
+
+public record ExamSessionResultDTO(
+
+        int row,
+        boolean graded,
+        Long examId,
+        Long studentId,
+        Integer grade,
+        String message
+
+) {
+
+}
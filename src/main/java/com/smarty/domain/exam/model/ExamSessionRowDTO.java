@@ -0,0 +1,27 @@
+package com.smarty.domain.exam.model;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+public record ExamSessionRowDTO(
+
+        @NotNull(message = "Student can't be null")
+        Long studentId,
+
+        @Min(value = 0, message = "Minimum number of points is 0")
+        @Max(value = 30, message = "Maximum number of points is 30")
+        double points,
+
+        @NotNull(message = "Date of examination can't be null")
+        @DateTimeFormat(pattern = "yyyy-MM-dd")
+        LocalDate dateOfExamination,
+
+        String comment
+
+) {
+
+}
@@ -0,0 +1,53 @@
+package com.smarty.domain.exam.model;
+
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.course.model.CourseResponseDTO;
+import com.smarty.domain.student.model.StudentView;
+
+import java.time.LocalDate;
+
+public record ExamView(
+
+        Long id,
+        String name,
+        int grade,
+        double points,
+        LocalDate dateOfExamination,
+        String comment,
+        double totalPoints,
+        Long studentId,
+        String studentName,
+        String studentSurname,
+        int studentIndex,
+        int studentYear,
+        int studentSemester,
+        Long majorId,
+        String majorCode,
+        String majorFullName,
+        String majorDescription,
+        int majorDuration,
+        Long statusId,
+        String statusType,
+        String email,
+        String password,
+        Role role,
+        Long courseId,
+        String courseCode,
+        String courseFullName,
+        double coursePoints,
+        int courseYear,
+        int courseSemester,
+        String courseDescription
+
+) {
+
+    public ExamResponseDTO toExamResponseDTO() {
+        var student = new StudentView(studentId, studentName, studentSurname, studentIndex, studentYear, studentSemester,
+                majorId, majorCode, majorFullName, majorDescription, majorDuration, statusId, statusType, email, password, role);
+
+        return new ExamResponseDTO(id, name, grade, points, dateOfExamination, comment, totalPoints,
+                student.toStudentResponseDTO(),
+                new CourseResponseDTO(courseId, courseCode, courseFullName, coursePoints, courseYear, courseSemester, courseDescription));
+    }
+
+}
@@ -1,33 +1,94 @@
 package com.smarty.domain.exam.repository;
 
-import com.smarty.domain.course.entity.Course;
 import com.smarty.domain.exam.entity.Exam;
-import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.exam.model.ExamEligibility;
+import com.smarty.domain.exam.model.ExamView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ExamRepository extends JpaRepository<Exam, Long> {
 
-    @Query("SELECT COUNT(e) > 0 FROM exam e " +
-            "JOIN student s ON e.student.id = s.id " +
-            "JOIN course c ON e.course.id = c.id " +
-            "WHERE s = :student AND c = :course AND e.grade > 5")
-    boolean isExamAlreadyPassed(Student student, Course course);
+    String EXAM_VIEW = "SELECT new com.smarty.domain.exam.model.ExamView(e.id, e.name, e.grade, e.points, e.dateOfExamination, e.comment, e.totalPoints, " +
+            "s.id, s.name, s.surname, s.index, s.year, s.semester, m.id, m.code, m.fullName, m.description, m.duration, st.id, st.type, " +
+            "a.email, a.password, a.role, c.id, c.code, c.fullName, c.points, c.year, c.semester, c.description) FROM exam e " +
+            "JOIN e.student s JOIN s.major m JOIN s.status st JOIN s.account a JOIN e.course c ";
 
-    @Query("SELECT e FROM exam e " +
-            "WHERE e.student.id = :studentId")
-    List<Exam> findExamHistoryByStudent(Long studentId);
+    @Override
+    @EntityGraph("exam.details")
+    Optional<Exam> findById(Long id);
 
-    @Query("SELECT e FROM exam e " +
-            "WHERE e.course.id = :courseId")
-    List<Exam> findExamHistoryByCourse(Long courseId);
+    @Query(EXAM_VIEW +
+            "WHERE e.id = :id")
+    Optional<ExamView> findExamById(Long id);
 
-    @Query("SELECT e FROM exam e " +
-            "WHERE e.student.id = :studentId AND e.course.year = :year AND e.grade > 5")
-    List<Exam> findPassedExamsByStudent(Long studentId, int year);
+    @Query(value = EXAM_VIEW,
+            countQuery = "SELECT COUNT(e) FROM exam e")
+    Page<ExamView> findExams(Pageable pageable);
+
+    @Query(EXAM_VIEW +
+            "WHERE e.id > :id " +
+            "ORDER BY e.id")
+    List<ExamView> findExamsAfter(Long id, Pageable pageable);
+
+    @Query("SELECT new com.smarty.domain.exam.model.ExamEligibility(s.id, s.name, s.year, c.id, c.code, c.year, " +
+            "CASE WHEN EXISTS (SELECT e.id FROM exam e WHERE e.student.id = s.id AND e.course.id = c.id AND e.grade > 5) THEN true ELSE false END, " +
+            "COALESCE((SELECT l.totalPoints FROM activity_ledger l WHERE l.studentId = s.id AND l.courseId = c.id), 0.0)) " +
+            "FROM student s, course c " +
+            "WHERE s.id = :studentId AND c.id = :courseId")
+    Optional<ExamEligibility> findExamEligibility(Long studentId, Long courseId);
+
+    @Query("SELECT new com.smarty.domain.exam.model.ExamEligibility(s.id, s.name, s.year, c.id, c.code, c.year, " +
+            "CASE WHEN EXISTS (SELECT e.id FROM exam e WHERE e.student.id = s.id AND e.course.id = c.id AND e.grade > 5) THEN true ELSE false END, " +
+            "COALESCE((SELECT l.totalPoints FROM activity_ledger l WHERE l.studentId = s.id AND l.courseId = c.id), 0.0)) " +
+            "FROM student s, course c " +
+            "WHERE s.id IN :studentIds AND c.id = :courseId")
+    List<ExamEligibility> findExamEligibilities(Collection<Long> studentIds, Long courseId);
+
+    @Query("SELECT new com.smarty.domain.exam.model.ExamEligibility(s.id, s.name, s.year, c.id, c.code, c.year, " +
+            "CASE WHEN EXISTS (SELECT e.id FROM exam e WHERE e.student.id = s.id AND e.course.id = c.id AND e.grade > 5 AND e.name <> :examName) " +
+            "THEN true ELSE false END, " +
+            "COALESCE((SELECT l.totalPoints FROM activity_ledger l WHERE l.studentId = s.id AND l.courseId = c.id), 0.0)) " +
+            "FROM student s, course c " +
+            "WHERE s.id IN :studentIds AND c.id = :courseId")
+    List<ExamEligibility> findExamSessionEligibilities(Collection<Long> studentIds, Long courseId, String examName);
+
+    List<Exam> findByCourse_IdAndNameAndStudent_IdIn(Long courseId, String name, Collection<Long> studentIds);
+
+    @Query(EXAM_VIEW +
+            "WHERE s.id = :studentId")
+    List<ExamView> findExamHistoryByStudent(Long studentId);
+
+    @Query(EXAM_VIEW +
+            "WHERE c.id = :courseId")
+    List<ExamView> findExamHistoryByCourse(Long courseId);
+
+    @Query(value = EXAM_VIEW +
+            "WHERE c.id = :courseId",
+            countQuery = "SELECT COUNT(e) FROM exam e " +
+                    "WHERE e.course.id = :courseId")
+    Page<ExamView> findExamHistoryByCourse(Long courseId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(EXAM_VIEW +
+            "WHERE c.id = :courseId " +
+            "ORDER BY e.id")
+    Stream<ExamView> streamExamHistoryByCourse(Long courseId);
+
+    @Query(EXAM_VIEW +
+            "WHERE s.id = :studentId AND c.year = :year AND e.grade > 5")
+    List<ExamView> findPassedExamsByStudent(Long studentId, int year);
 
 }
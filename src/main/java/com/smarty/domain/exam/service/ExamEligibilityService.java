@@ -0,0 +1,24 @@
+package com.smarty.domain.exam.service;
+
+import com.smarty.domain.exam.model.ExamEligibility;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ExamEligibilityService {
+
+    ExamEligibility getEligibility(Long studentId, Long courseId);
+
+    Map<Long, ExamEligibility> getEligibilities(Collection<Long> studentIds, Long courseId);
+
+    Map<Long, ExamEligibility> getSessionEligibilities(Collection<Long> studentIds, Long courseId, String examName);
+
+    void validateEligibility(ExamEligibility eligibility);
+
+    void validateActivityPoints(double activityPoints);
+
+    String getRejectionReason(ExamEligibility eligibility);
+
+    String getActivityRejectionReason(ExamEligibility eligibility);
+
+}
@@ -0,0 +1,120 @@
+package com.smarty.domain.exam.service;
+
+import com.smarty.domain.course.service.CourseService;
+import com.smarty.domain.exam.model.ExamEligibility;
+import com.smarty.domain.exam.repository.ExamRepository;
+import com.smarty.domain.student.service.StudentService;
+import com.smarty.infrastructure.handler.exceptions.ConflictException;
+import com.smarty.infrastructure.handler.exceptions.ForbiddenException;
+import com.smarty.infrastructure.handler.exceptions.NotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class ExamEligibilityServiceImpl implements ExamEligibilityService {
+
+    private static final String COURSE_YEAR_TOO_HIGH = "Student %s can't take the exam because course %s is in a year higher than the student's year of study";
+    private static final String EXAM_ALREADY_PASSED = "Student %s has already passed the %s exam";
+    private static final String NOT_ENOUGH_ACTIVITY_POINTS = "Student can't take the exam because he needs at least 35 points for activities. " +
+            "Right now he has %.2f points";
+    private static final int MIN_ACTIVITY_POINTS_REQUIRED = 35;
+
+    private final ExamRepository examRepository;
+    private final StudentService studentService;
+    private final CourseService courseService;
+
+    @Autowired
+    public ExamEligibilityServiceImpl(ExamRepository examRepository,
+                                      StudentService studentService,
+                                      CourseService courseService) {
+        this.examRepository = examRepository;
+        this.studentService = studentService;
+        this.courseService = courseService;
+    }
+
+    @Override
+    public ExamEligibility getEligibility(Long studentId, Long courseId) {
+        return examRepository.findExamEligibility(studentId, courseId).orElseThrow(() -> {
+            studentService.existsById(studentId);
+            courseService.existsById(courseId);
+
+            return new NotFoundException("Student with id %d or course with id %d doesn't exist".formatted(studentId, courseId));
+        });
+    }
+
+    @Override
+    public Map<Long, ExamEligibility> getEligibilities(Collection<Long> studentIds, Long courseId) {
+        if (studentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return examRepository.findExamEligibilities(studentIds, courseId)
+                .stream()
+                .collect(Collectors.toMap(ExamEligibility::studentId, Function.identity()));
+    }
+
+    @Override
+    public Map<Long, ExamEligibility> getSessionEligibilities(Collection<Long> studentIds, Long courseId, String examName) {
+        if (studentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return examRepository.findExamSessionEligibilities(studentIds, courseId, examName)
+                .stream()
+                .collect(Collectors.toMap(ExamEligibility::studentId, Function.identity()));
+    }
+
+    @Override
+    public void validateEligibility(ExamEligibility eligibility) {
+        if (eligibility.studentYear() < eligibility.courseYear()) {
+            throw new ForbiddenException(COURSE_YEAR_TOO_HIGH.formatted(eligibility.studentName(), eligibility.courseCode()));
+        }
+
+        if (eligibility.examPassed()) {
+            throw new ConflictException(EXAM_ALREADY_PASSED.formatted(eligibility.studentName(), eligibility.courseCode()));
+        }
+    }
+
+    @Override
+    public void validateActivityPoints(double activityPoints) {
+        if (activityPoints < MIN_ACTIVITY_POINTS_REQUIRED) {
+            throw new ForbiddenException(NOT_ENOUGH_ACTIVITY_POINTS.formatted(activityPoints));
+        }
+    }
+
+    @Override
+    public String getRejectionReason(ExamEligibility eligibility) {
+        var activityRejectionReason = getActivityRejectionReason(eligibility);
+
+        if (activityRejectionReason != null) {
+            return activityRejectionReason;
+        }
+
+        if (eligibility.activityPoints() < MIN_ACTIVITY_POINTS_REQUIRED) {
+            return NOT_ENOUGH_ACTIVITY_POINTS.formatted(eligibility.activityPoints());
+        }
+
+        return null;
+    }
+
+    @Override
+    public String getActivityRejectionReason(ExamEligibility eligibility) {
+        if (eligibility.studentYear() < eligibility.courseYear()) {
+            return COURSE_YEAR_TOO_HIGH.formatted(eligibility.studentName(), eligibility.courseCode());
+        }
+
+        if (eligibility.examPassed()) {
+            return EXAM_ALREADY_PASSED.formatted(eligibility.studentName(), eligibility.courseCode());
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.smarty.domain.exam.service;
+
+final class ExamGrades {
+
+    private static final int MIN_EXAM_POINTS_REQUIRED = 15;
+
+    private ExamGrades() {
+    }
+
+    static int calculateGrade(double totalPoints, double examPoints) {
+        if (examPoints < MIN_EXAM_POINTS_REQUIRED) {
+            return 5;
+        }
+
+        return switch ((int) Math.floor(totalPoints / 10)) {
+            case 10, 9 -> 10;
+            case 8 -> 9;
+            case 7 -> 8;
+            case 6 -> 7;
+            case 5 -> 6;
+            default -> 5;
+        };
+    }
+
+}
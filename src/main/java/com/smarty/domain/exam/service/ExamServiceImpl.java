@@ -1,139 +1,120 @@
 package com.smarty.domain.exam.service;
 
 import com.smarty.domain.activity.service.ActivityService;
-import com.smarty.domain.course.entity.Course;
 import com.smarty.domain.course.service.CourseService;
 import com.smarty.domain.exam.entity.Exam;
+import com.smarty.domain.exam.event.ExamDeleted;
+import com.smarty.domain.exam.event.ExamGraded;
 import com.smarty.domain.exam.model.ExamRequestDTO;
 import com.smarty.domain.exam.model.ExamResponseDTO;
 import com.smarty.domain.exam.model.ExamUpdateDTO;
+import com.smarty.domain.exam.model.ExamView;
 import com.smarty.domain.exam.repository.ExamRepository;
-import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.student.service.GradeSummaryService;
 import com.smarty.domain.student.service.StudentService;
-import com.smarty.infrastructure.handler.exceptions.ConflictException;
-import com.smarty.infrastructure.handler.exceptions.ForbiddenException;
+import com.smarty.infrastructure.event.DomainEventPublisher;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.ExamMapper;
+import com.smarty.infrastructure.pagination.CursorPage;
+import com.smarty.infrastructure.pagination.CursorToken;
+import com.smarty.infrastructure.persistence.UniqueConstraints;
+import com.smarty.infrastructure.streaming.JsonStreamWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class ExamServiceImpl implements ExamService {
 
     private static final String EXAM_NOT_EXISTS = "Exam with id %d doesn't exist";
-    private static final int MIN_ACTIVITY_POINTS_REQUIRED = 35;
 
     private final ExamRepository examRepository;
     private final ExamMapper examMapper;
     private final StudentService studentService;
     private final CourseService courseService;
     private final ActivityService activityService;
+    private final GradeSummaryService gradeSummaryService;
+    private final ExamEligibilityService examEligibilityService;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Autowired
     public ExamServiceImpl(ExamRepository examRepository,
                            ExamMapper examMapper,
                            StudentService studentService,
                            CourseService courseService,
-                           @Lazy ActivityService activityService) {
+                           @Lazy ActivityService activityService,
+                           GradeSummaryService gradeSummaryService,
+                           ExamEligibilityService examEligibilityService,
+                           JsonStreamWriter jsonStreamWriter,
+                           DomainEventPublisher domainEventPublisher) {
         this.examRepository = examRepository;
         this.examMapper = examMapper;
         this.studentService = studentService;
         this.courseService = courseService;
         this.activityService = activityService;
+        this.gradeSummaryService = gradeSummaryService;
+        this.examEligibilityService = examEligibilityService;
+        this.jsonStreamWriter = jsonStreamWriter;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
     @Override
+    @Transactional
     public ExamResponseDTO createExam(ExamRequestDTO examDTO) {
         Exam exam = examMapper.toExam(examDTO);
-        var student = studentService.getById(examDTO.studentId());
-        var course = courseService.getById(examDTO.courseId());
+        var eligibility = examEligibilityService.getEligibility(examDTO.studentId(), examDTO.courseId());
 
-        double totalPoints = getTotalPoints(examDTO.studentId(), examDTO.courseId(), examDTO.points());
-        int grade = calculateGrade(totalPoints);
-        grade = checkGrade(examDTO.points(), grade);
+        examEligibilityService.validateEligibility(eligibility);
+        examEligibilityService.validateActivityPoints(eligibility.activityPoints());
+
+        double totalPoints = eligibility.activityPoints() + examDTO.points();
+        int grade = ExamGrades.calculateGrade(totalPoints, examDTO.points());
 
         exam.setGrade(grade);
         exam.setTotalPoints(totalPoints);
-        exam.setStudent(student);
-        exam.setCourse(course);
-
-        checkCourseAndStudentYear(student, course);
-        isExamAlreadyPassed(student, course);
-        validateTotalActivityPoints(examDTO.studentId(), examDTO.courseId());
-
-        examRepository.save(exam);
+        exam.setStudent(studentService.getReferenceById(examDTO.studentId()));
+        exam.setCourse(courseService.getReferenceById(examDTO.courseId()));
 
-        return examMapper.toExamResponseDTO(exam);
-    }
-
-    private double getTotalPoints(Long studentId, Long courseId, double examPoints) {
-        var totalPoints = activityService.getTotalActivityPointsByCourse(studentId, courseId);
-
-        if (totalPoints == null) {
-            totalPoints = 0.0;
-        }
-
-        return totalPoints + examPoints;
-    }
+        saveExam(exam, examDTO.studentId());
+        gradeSummaryService.recordGrade(examDTO.studentId(), 0, grade);
+        domainEventPublisher.publish(new ExamGraded(exam.getId(), examDTO.studentId(), examDTO.courseId(), 0, grade, totalPoints));
 
-    private int calculateGrade(double totalPoints) {
-        int bestGrade = 10;
-
-        return switch ((int) Math.floor(totalPoints / 10)) {
-            case 10, 9 -> bestGrade;
-            case 8 -> 9;
-            case 7 -> 8;
-            case 6 -> 7;
-            case 5 -> 6;
-            default -> 5;
-        };
+        return examRepository.findExamById(exam.getId())
+                .map(ExamView::toExamResponseDTO)
+                .orElseThrow(() -> new NotFoundException(EXAM_NOT_EXISTS.formatted(exam.getId())));
     }
 
-    private int checkGrade(double examPoints, int grade) {
-        if (examPoints < 15) {
-            grade = 5;
+    private void saveExam(Exam exam, Long studentId) {
+        try {
+            examRepository.saveAndFlush(exam);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, Map.of(Exam.UNIQUE_STUDENT_COURSE_NAME,
+                    "Exam %s already exists for student with id %d".formatted(exam.getName(), studentId)));
         }
-
-        return grade;
     }
 
     @Override
-    public void checkCourseAndStudentYear(Student student, Course course) {
-        if (student.getYear() < course.getYear()) {
-            throw new ForbiddenException("Student %s can't take the exam because course %s is in a year higher than the student's year of study"
-                    .formatted(student.getName(), course.getCode()));
-        }
+    public Page<ExamResponseDTO> getAllExams(Pageable pageable) {
+        return examRepository.findExams(pageable).map(ExamView::toExamResponseDTO);
     }
 
     @Override
-    public void isExamAlreadyPassed(Student student, Course course) {
-        if (examRepository.isExamAlreadyPassed(student, course)) {
-            throw new ConflictException("Student %s has already passed the %s exam".formatted(student.getName(), course.getCode()));
-        }
-    }
-
-    private void validateTotalActivityPoints(Long studentId, Long courseId) {
-        var totalActivityPoints = activityService.getTotalActivityPointsByCourse(studentId, courseId);
+    public CursorPage<ExamResponseDTO> scrollExams(String cursor, int size) {
+        var exams = examRepository.findExamsAfter(CursorToken.decodeId(cursor), CursorToken.limit(size));
 
-        if (totalActivityPoints == null) {
-            totalActivityPoints = 0.0;
-        }
-
-        if (totalActivityPoints < MIN_ACTIVITY_POINTS_REQUIRED) {
-            throw new ForbiddenException("Student can't take the exam because he needs at least 35 points for activities. " +
-                    "Right now he has %.2f points".formatted(totalActivityPoints));
-        }
-    }
-
-    @Override
-    public Page<ExamResponseDTO> getAllExams(Pageable pageable) {
-        return examRepository.findAll(pageable).map(examMapper::toExamResponseDTO);
+        return CursorPage.of(exams, CursorToken.size(size), exam -> CursorToken.encode(exam.id()))
+                .map(ExamView::toExamResponseDTO);
     }
 
     @Override
@@ -147,10 +128,10 @@ public class ExamServiceImpl implements ExamService {
 
     @Override
     public List<ExamResponseDTO> getExamHistoryByStudent(Long studentId) {
-        List<Exam> examHistoryByStudent = examRepository.findExamHistoryByStudent(studentId);
-        studentService.existsById(studentId);
+        List<ExamView> examHistoryByStudent = examRepository.findExamHistoryByStudent(studentId);
 
         if (examHistoryByStudent.isEmpty()) {
+            studentService.existsById(studentId);
             throw new NotFoundException("Exam history by student is empty");
         }
 
@@ -159,54 +140,85 @@ public class ExamServiceImpl implements ExamService {
 
     @Override
     public List<ExamResponseDTO> getExamHistoryByCourse(Long courseId) {
-        List<Exam> examHistoryByCourse = examRepository.findExamHistoryByCourse(courseId);
-        courseService.existsById(courseId);
+        List<ExamView> examHistoryByCourse = examRepository.findExamHistoryByCourse(courseId);
 
         if (examHistoryByCourse.isEmpty()) {
+            courseService.existsById(courseId);
             throw new NotFoundException("Exam history by course is empty");
         }
 
         return getExamListResponseDTO(examHistoryByCourse);
     }
 
+    @Override
+    public Page<ExamResponseDTO> getExamHistoryByCourse(Long courseId, Pageable pageable) {
+        var examHistoryByCourse = examRepository.findExamHistoryByCourse(courseId, pageable);
+
+        if (examHistoryByCourse.isEmpty()) {
+            courseService.existsById(courseId);
+        }
+
+        return examHistoryByCourse.map(ExamView::toExamResponseDTO);
+    }
+
+    @Override
+    public void streamExamHistoryByCourse(Long courseId, OutputStream outputStream) {
+        courseService.existsById(courseId);
+
+        jsonStreamWriter.writeArray(examRepository.streamExamHistoryByCourse(courseId), ExamView::toExamResponseDTO, outputStream);
+    }
+
     @Override
     public List<ExamResponseDTO> getPassedExamsByStudent(Long studentId, int year) {
-        List<Exam> passedExamsByStudent = examRepository.findPassedExamsByStudent(studentId, year);
-        studentService.existsById(studentId);
-        courseService.existsByYear(year);
+        List<ExamView> passedExamsByStudent = examRepository.findPassedExamsByStudent(studentId, year);
 
         if (passedExamsByStudent.isEmpty()) {
+            studentService.existsById(studentId);
+            courseService.existsByYear(year);
             throw new NotFoundException("List of passed exams is empty");
         }
 
         return getExamListResponseDTO(passedExamsByStudent);
     }
 
-    private List<ExamResponseDTO> getExamListResponseDTO(List<Exam> examList) {
+    private List<ExamResponseDTO> getExamListResponseDTO(List<ExamView> examList) {
         return examList
                 .stream()
-                .map(examMapper::toExamResponseDTO)
+                .map(ExamView::toExamResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public ExamResponseDTO updateExam(Long id, ExamUpdateDTO examDTO) {
         Exam exam = getById(id);
+        int previousGrade = exam.getGrade();
         examMapper.updateExamFromDTO(examDTO, exam);
 
-        validateTotalActivityPoints(exam.getStudent().getId(), exam.getCourse().getId());
+        double activityPoints = activityService.getTotalActivityPointsByCourse(exam.getStudent().getId(), exam.getCourse().getId());
+        double totalPoints = activityPoints + exam.getPoints();
+        int grade = ExamGrades.calculateGrade(totalPoints, exam.getPoints());
+
+        exam.setGrade(grade);
+        exam.setTotalPoints(totalPoints);
+
+        examEligibilityService.validateActivityPoints(activityPoints);
         examRepository.save(exam);
+        gradeSummaryService.recordGrade(exam.getStudent().getId(), previousGrade, grade);
+        domainEventPublisher.publish(new ExamGraded(exam.getId(), exam.getStudent().getId(), exam.getCourse().getId(),
+                previousGrade, grade, totalPoints));
 
         return examMapper.toExamResponseDTO(exam);
     }
 
     @Override
+    @Transactional
     public void deleteExam(Long id) {
-        if (!examRepository.existsById(id)) {
-            throw new NotFoundException(EXAM_NOT_EXISTS.formatted(id));
-        }
+        Exam exam = getById(id);
 
-        examRepository.deleteById(id);
+        examRepository.delete(exam);
+        gradeSummaryService.recordGrade(exam.getStudent().getId(), exam.getGrade(), 0);
+        domainEventPublisher.publish(new ExamDeleted(exam.getId(), exam.getStudent().getId(), exam.getCourse().getId(), exam.getGrade()));
     }
 
 }
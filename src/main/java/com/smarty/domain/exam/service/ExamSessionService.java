@@ -0,0 +1,10 @@
+package com.smarty.domain.exam.service;
+
+import com.smarty.domain.exam.model.ExamSessionReportDTO;
+import com.smarty.domain.exam.model.ExamSessionRequestDTO;
+
+public interface ExamSessionService {
+
+    ExamSessionReportDTO gradeExamSession(ExamSessionRequestDTO examSessionDTO);
+
+}
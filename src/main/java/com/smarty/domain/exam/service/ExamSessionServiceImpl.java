@@ -0,0 +1,178 @@
+package com.smarty.domain.exam.service;
+
+import com.smarty.domain.course.service.CourseService;
+import com.smarty.domain.exam.entity.Exam;
+import com.smarty.domain.exam.event.ExamGraded;
+import com.smarty.domain.exam.model.ExamSessionReportDTO;
+import com.smarty.domain.exam.model.ExamSessionRequestDTO;
+import com.smarty.domain.exam.model.ExamSessionResultDTO;
+import com.smarty.domain.exam.model.ExamSessionRowDTO;
+import com.smarty.domain.exam.repository.ExamRepository;
+import com.smarty.domain.student.service.GradeSummaryService;
+import com.smarty.domain.student.service.StudentService;
+import com.smarty.infrastructure.event.DomainEventPublisher;
+import com.smarty.infrastructure.persistence.UniqueConstraints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class ExamSessionServiceImpl implements ExamSessionService {
+
+    private final ExamRepository examRepository;
+    private final ExamEligibilityService examEligibilityService;
+    private final StudentService studentService;
+    private final CourseService courseService;
+    private final GradeSummaryService gradeSummaryService;
+    private final DomainEventPublisher domainEventPublisher;
+
+    @Autowired
+    public ExamSessionServiceImpl(ExamRepository examRepository,
+                                  ExamEligibilityService examEligibilityService,
+                                  StudentService studentService,
+                                  CourseService courseService,
+                                  GradeSummaryService gradeSummaryService,
+                                  DomainEventPublisher domainEventPublisher) {
+        this.examRepository = examRepository;
+        this.examEligibilityService = examEligibilityService;
+        this.studentService = studentService;
+        this.courseService = courseService;
+        this.gradeSummaryService = gradeSummaryService;
+        this.domainEventPublisher = domainEventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public ExamSessionReportDTO gradeExamSession(ExamSessionRequestDTO examSessionDTO) {
+        var course = courseService.getById(examSessionDTO.courseId());
+        List<SessionRow> rows = new ArrayList<>(examSessionDTO.results().size());
+        Map<Long, Integer> studentRows = new HashMap<>();
+
+        for (var rowDTO : examSessionDTO.results()) {
+            var row = new SessionRow(rows.size() + 1, rowDTO);
+            var duplicateRow = studentRows.putIfAbsent(rowDTO.studentId(), row.number);
+
+            if (duplicateRow != null) {
+                row.reject("Student with id %d is already listed in row %d".formatted(rowDTO.studentId(), duplicateRow));
+            }
+
+            rows.add(row);
+        }
+
+        var eligibilities = examEligibilityService.getSessionEligibilities(studentRows.keySet(), course.getId(), examSessionDTO.name());
+        var sessionExams = examRepository.findByCourse_IdAndNameAndStudent_IdIn(course.getId(), examSessionDTO.name(), studentRows.keySet())
+                .stream()
+                .collect(Collectors.toMap(exam -> exam.getStudent().getId(), Function.identity(), (exam, duplicateExam) -> exam));
+
+        for (var row : rows.stream().filter(SessionRow::isAccepted).toList()) {
+            var eligibility = eligibilities.get(row.rowDTO.studentId());
+
+            if (eligibility == null) {
+                row.reject("Student with id %d doesn't exist".formatted(row.rowDTO.studentId()));
+                continue;
+            }
+
+            var rejectionReason = examEligibilityService.getRejectionReason(eligibility);
+
+            if (rejectionReason != null) {
+                row.reject(rejectionReason);
+                continue;
+            }
+
+            double totalPoints = eligibility.activityPoints() + row.rowDTO.points();
+
+            row.exam = sessionExams.get(row.rowDTO.studentId());
+
+            if (row.exam == null) {
+                row.exam = new Exam();
+                row.exam.setName(examSessionDTO.name());
+                row.exam.setStudent(studentService.getReferenceById(row.rowDTO.studentId()));
+                row.exam.setCourse(course);
+            } else {
+                row.previousGrade = row.exam.getGrade();
+            }
+
+            row.exam.setPoints(row.rowDTO.points());
+            row.exam.setDateOfExamination(row.rowDTO.dateOfExamination());
+            row.exam.setComment(row.rowDTO.comment());
+            row.exam.setTotalPoints(totalPoints);
+            row.exam.setGrade(ExamGrades.calculateGrade(totalPoints, row.rowDTO.points()));
+        }
+
+        var gradedRows = rows.stream().filter(SessionRow::isAccepted).toList();
+
+        saveExams(gradedRows
+                .stream()
+                .filter(row -> row.exam.getId() == null)
+                .map(row -> row.exam)
+                .toList(), examSessionDTO.name());
+        gradeSummaryService.recordGrades(
+                gradedRows
+                        .stream()
+                        .collect(Collectors.toMap(row -> row.rowDTO.studentId(), row -> row.previousGrade)),
+                gradedRows
+                        .stream()
+                        .collect(Collectors.toMap(row -> row.rowDTO.studentId(), row -> row.exam.getGrade())));
+        gradedRows.forEach(row -> domainEventPublisher.publish(new ExamGraded(row.exam.getId(), row.rowDTO.studentId(), course.getId(),
+                row.previousGrade, row.exam.getGrade(), row.exam.getTotalPoints())));
+
+        return toReport(rows);
+    }
+
+    private void saveExams(List<Exam> exams, String name) {
+        try {
+            examRepository.saveAllAndFlush(exams);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, Map.of(Exam.UNIQUE_STUDENT_COURSE_NAME,
+                    "Exam %s is already graded for one of the listed students".formatted(name)));
+        }
+    }
+
+    private ExamSessionReportDTO toReport(List<SessionRow> rows) {
+        var results = rows
+                .stream()
+                .map(SessionRow::toResultDTO)
+                .toList();
+        int graded = (int) results.stream().filter(ExamSessionResultDTO::graded).count();
+
+        return new ExamSessionReportDTO(results.size(), graded, results.size() - graded, results);
+    }
+
+    private static final class SessionRow {
+
+        private final int number;
+        private final ExamSessionRowDTO rowDTO;
+        private Exam exam;
+        private int previousGrade;
+        private String error;
+
+        private SessionRow(int number, ExamSessionRowDTO rowDTO) {
+            this.number = number;
+            this.rowDTO = rowDTO;
+        }
+
+        private boolean isAccepted() {
+            return error == null;
+        }
+
+        private void reject(String error) {
+            this.error = error;
+        }
+
+        private ExamSessionResultDTO toResultDTO() {
+            if (!isAccepted()) {
+                return new ExamSessionResultDTO(number, false, null, rowDTO.studentId(), null, error);
+            }
+
+            return new ExamSessionResultDTO(number, true, exam.getId(), rowDTO.studentId(), exam.getGrade(), "Exam graded");
+        }
+
+    }
+
+}
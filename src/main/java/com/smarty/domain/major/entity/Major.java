@@ -1,15 +1,23 @@
 package com.smarty.domain.major.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity(name = "major")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "major")
+@Table(uniqueConstraints = @UniqueConstraint(name = Major.UNIQUE_CODE, columnNames = "code"))
 public class Major {
 
+    public static final String UNIQUE_CODE = "uk_major_code";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "major_id")
+    @TableGenerator(name = "major_id", table = "id_generator", pkColumnValue = "major", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String code;
 
     @Column(nullable = false)
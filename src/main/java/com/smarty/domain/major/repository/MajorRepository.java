@@ -7,6 +7,4 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface MajorRepository extends JpaRepository<Major, Long> {
 
-    boolean existsByCode(String code);
-
 }
@@ -7,6 +7,9 @@ import com.smarty.domain.major.model.MajorUpdateDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface MajorService {
 
     MajorResponseDTO createMajor(MajorRequestDTO majorDTO);
@@ -17,6 +20,8 @@ public interface MajorService {
 
     Major getById(Long id);
 
+    Map<Long, Major> getMajorsByIds(Collection<Long> ids);
+
     void existsById(Long id);
 
     MajorResponseDTO updateMajor(Long id, MajorUpdateDTO majorDTO);
@@ -5,17 +5,24 @@ import com.smarty.domain.major.model.MajorRequestDTO;
 import com.smarty.domain.major.model.MajorResponseDTO;
 import com.smarty.domain.major.model.MajorUpdateDTO;
 import com.smarty.domain.major.repository.MajorRepository;
-import com.smarty.infrastructure.handler.exceptions.ConflictException;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.MajorMapper;
+import com.smarty.infrastructure.persistence.UniqueConstraints;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class MajorServiceImpl implements MajorService {
 
     private static final String MAJOR_NOT_EXISTS = "Major with id %d doesn't exist";
@@ -30,18 +37,20 @@ public class MajorServiceImpl implements MajorService {
     }
 
     @Override
+    @Transactional
     public MajorResponseDTO createMajor(MajorRequestDTO majorDTO) {
         Major major = majorMapper.toMajor(majorDTO);
 
-        validateCode(majorDTO.code());
-        majorRepository.save(major);
+        saveMajor(major);
 
         return majorMapper.toMajorResponseDTO(major);
     }
 
-    private void validateCode(String code) {
-        if (majorRepository.existsByCode(code)) {
-            throw new ConflictException("Major with code %s already exists".formatted(code));
+    private void saveMajor(Major major) {
+        try {
+            majorRepository.saveAndFlush(major);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, Map.of(Major.UNIQUE_CODE, "Major with code %s already exists".formatted(major.getCode())));
         }
     }
 
@@ -65,6 +74,13 @@ public class MajorServiceImpl implements MajorService {
         return optionalMajor.get();
     }
 
+    @Override
+    public Map<Long, Major> getMajorsByIds(Collection<Long> ids) {
+        return majorRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Major::getId, Function.identity()));
+    }
+
     @Override
     public void existsById(Long id) {
         if (!majorRepository.existsById(id)) {
@@ -73,6 +89,7 @@ public class MajorServiceImpl implements MajorService {
     }
 
     @Override
+    @Transactional
     public MajorResponseDTO updateMajor(Long id, MajorUpdateDTO majorDTO) {
         Major major = getById(id);
         majorMapper.updateMajorFromDTO(majorDTO, major);
@@ -83,6 +100,7 @@ public class MajorServiceImpl implements MajorService {
     }
 
     @Override
+    @Transactional
     public void deleteMajor(Long id) {
         existsById(id);
 
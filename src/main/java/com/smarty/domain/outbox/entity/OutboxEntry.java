@@ -0,0 +1,93 @@
+package com.smarty.domain.outbox.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity(name = "outbox_entry")
+@Table(indexes = {
+        @Index(name = "idx_outbox_entry_position", columnList = "position", unique = true),
+        @Index(name = "idx_outbox_entry_type_aggregate_key", columnList = "type, aggregateKey, position"),
+        @Index(name = "idx_outbox_entry_created_at", columnList = "createdAt")
+})
+public class OutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_entry_id")
+    @TableGenerator(name = "outbox_entry_id", table = "id_generator", pkColumnValue = "outbox_entry", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private long position;
+
+    @Column(nullable = false, length = 50)
+    private String type;
+
+    @Column(nullable = false)
+    private String aggregateKey;
+
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public OutboxEntry() {
+    }
+
+    public OutboxEntry(String type, String aggregateKey, String payload, LocalDateTime createdAt) {
+        this.type = type;
+        this.aggregateKey = aggregateKey;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public void setPosition(long position) {
+        this.position = position;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getAggregateKey() {
+        return aggregateKey;
+    }
+
+    public void setAggregateKey(String aggregateKey) {
+        this.aggregateKey = aggregateKey;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.smarty.domain.outbox.model;
+
+import java.util.List;
+
+public record OutboxBatchDTO(
+
+        List<OutboxEntryDTO> entries,
+        boolean hasMore,
+        String nextCursor
+
+) {
+
+}
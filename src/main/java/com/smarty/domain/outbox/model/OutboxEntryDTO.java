@@ -0,0 +1,18 @@
+package com.smarty.domain.outbox.model;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+public record OutboxEntryDTO(
+
+        Long id,
+        long position,
+        String type,
+        String aggregateKey,
+        @JsonRawValue String payload,
+        LocalDateTime createdAt
+
+) {
+
+}
@@ -0,0 +1,29 @@
+package com.smarty.domain.outbox.repository;
+
+import com.smarty.domain.outbox.entity.OutboxEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEntryRepository extends JpaRepository<OutboxEntry, Long> {
+
+    @Query("SELECT o FROM outbox_entry o " +
+            "WHERE o.position > :position AND (:type IS NULL OR o.type = :type) " +
+            "ORDER BY o.position")
+    List<OutboxEntry> findEntriesAfter(long position, String type, Pageable pageable);
+
+    @Query("SELECT o.id FROM outbox_entry o WHERE o.createdAt < :createdAt ORDER BY o.position")
+    List<Long> findIdsCreatedBefore(LocalDateTime createdAt, Pageable pageable);
+
+    @Query("SELECT o.id FROM outbox_entry o " +
+            "WHERE EXISTS (SELECT n.id FROM outbox_entry n " +
+            "WHERE n.type = o.type AND n.aggregateKey = o.aggregateKey AND n.position > o.position) " +
+            "ORDER BY o.position")
+    List<Long> findSupersededIds(Pageable pageable);
+
+}
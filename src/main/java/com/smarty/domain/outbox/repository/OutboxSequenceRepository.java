@@ -0,0 +1,19 @@
+package com.smarty.domain.outbox.repository;
+
+import com.smarty.domain.outbox.entity.OutboxSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OutboxSequenceRepository extends JpaRepository<OutboxSequence, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM outbox_sequence s WHERE s.name = :name")
+    Optional<OutboxSequence> findForUpdate(String name);
+
+}
@@ -0,0 +1,36 @@
+package com.smarty.domain.outbox.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxRetentionJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRetentionJob.class);
+
+    private final OutboxService outboxService;
+
+    @Autowired
+    public OutboxRetentionJob(OutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    @Scheduled(cron = "${app.outbox.purge-cron}")
+    public void purge() {
+        int purged = outboxService.purgeExpiredEntries();
+
+        if (purged > 0) {
+            LOGGER.info("Purged {} expired outbox entries", purged);
+        }
+
+        int compacted = outboxService.compactEntries();
+
+        if (compacted > 0) {
+            LOGGER.info("Compacted {} superseded outbox entries", compacted);
+        }
+    }
+
+}
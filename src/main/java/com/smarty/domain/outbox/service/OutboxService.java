@@ -0,0 +1,13 @@
+package com.smarty.domain.outbox.service;
+
+import com.smarty.domain.outbox.model.OutboxBatchDTO;
+
+public interface OutboxService {
+
+    OutboxBatchDTO getEntries(String cursor, int size, String type);
+
+    int purgeExpiredEntries();
+
+    int compactEntries();
+
+}
@@ -0,0 +1,202 @@
+package com.smarty.domain.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarty.domain.activity.event.ActivityDeleted;
+import com.smarty.domain.activity.event.ActivityRecorded;
+import com.smarty.domain.exam.event.ExamDeleted;
+import com.smarty.domain.exam.event.ExamGraded;
+import com.smarty.domain.outbox.entity.OutboxEntry;
+import com.smarty.domain.outbox.entity.OutboxSequence;
+import com.smarty.domain.outbox.model.OutboxBatchDTO;
+import com.smarty.domain.outbox.repository.OutboxEntryRepository;
+import com.smarty.domain.outbox.repository.OutboxSequenceRepository;
+import com.smarty.domain.student.event.StudentDeleted;
+import com.smarty.domain.student.event.StudentEnrolled;
+import com.smarty.domain.student.event.StudentUpdated;
+import com.smarty.infrastructure.event.DomainEvent;
+import com.smarty.infrastructure.event.DomainEventRecorder;
+import com.smarty.infrastructure.mapper.OutboxMapper;
+import com.smarty.infrastructure.pagination.CursorToken;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+@Service
+@Transactional(readOnly = true)
+public class OutboxServiceImpl implements OutboxService, DomainEventRecorder {
+
+    private static final Set<Class<? extends DomainEvent>> EXPORTED_EVENTS = Set.of(StudentEnrolled.class, StudentUpdated.class,
+            StudentDeleted.class, ActivityRecorded.class, ActivityDeleted.class, ExamGraded.class, ExamDeleted.class);
+    private static final String OUTBOX_SEQUENCE = "outbox_entry";
+
+    private final OutboxEntryRepository outboxEntryRepository;
+    private final OutboxSequenceRepository outboxSequenceRepository;
+    private final OutboxMapper outboxMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final int retentionDays;
+    private final int purgeBatchSize;
+
+    @Autowired
+    public OutboxServiceImpl(OutboxEntryRepository outboxEntryRepository,
+                             OutboxSequenceRepository outboxSequenceRepository,
+                             OutboxMapper outboxMapper,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.outbox.max-batch-size}") int maxBatchSize,
+                             @Value("${app.outbox.retention-days}") int retentionDays,
+                             @Value("${app.outbox.purge-batch-size}") int purgeBatchSize) {
+        this.outboxEntryRepository = outboxEntryRepository;
+        this.outboxSequenceRepository = outboxSequenceRepository;
+        this.outboxMapper = outboxMapper;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxBatchSize = maxBatchSize;
+        this.retentionDays = retentionDays;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(List<DomainEvent> events) {
+        var createdAt = LocalDateTime.now();
+        var outboxEntries = events
+                .stream()
+                .filter(event -> EXPORTED_EVENTS.contains(event.getClass()))
+                .map(event -> new OutboxEntry(event.getClass().getSimpleName(), String.valueOf(getEntityKey(event)), toPayload(event), createdAt))
+                .toList();
+
+        if (outboxEntries.isEmpty()) {
+            return;
+        }
+
+        var sequence = lockSequence();
+        long position = sequence.getPosition();
+
+        for (var outboxEntry : outboxEntries) {
+            outboxEntry.setPosition(++position);
+        }
+
+        sequence.setPosition(position);
+        outboxEntryRepository.saveAll(outboxEntries);
+    }
+
+    private OutboxSequence lockSequence() {
+        var sequence = outboxSequenceRepository.findForUpdate(OUTBOX_SEQUENCE);
+
+        if (sequence.isEmpty()) {
+            createSequence();
+            sequence = outboxSequenceRepository.findForUpdate(OUTBOX_SEQUENCE);
+        }
+
+        return sequence.orElseThrow();
+    }
+
+    private void createSequence() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxSequenceRepository.saveAndFlush(new OutboxSequence(OUTBOX_SEQUENCE)));
+        } catch (DataIntegrityViolationException e) {
+            if (!outboxSequenceRepository.existsById(OUTBOX_SEQUENCE)) {
+                throw e;
+            }
+        }
+    }
+
+    private static Object getEntityKey(DomainEvent event) {
+        if (event instanceof ExamGraded examGraded) {
+            return examGraded.examId();
+        } else if (event instanceof ExamDeleted examDeleted) {
+            return examDeleted.examId();
+        } else if (event instanceof ActivityRecorded activityRecorded) {
+            return activityRecorded.activityId();
+        } else if (event instanceof ActivityDeleted activityDeleted) {
+            return activityDeleted.activityId();
+        }
+
+        return event.aggregateKey();
+    }
+
+    private String toPayload(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public OutboxBatchDTO getEntries(String cursor, int size, String type) {
+        boolean fromStart = cursor == null || cursor.isBlank();
+        int batchSize = Math.max(1, Math.min(size, maxBatchSize));
+        long highWaterMark = fromStart ? getHighWaterMark() : 0;
+
+        var entries = outboxEntryRepository.findEntriesAfter(CursorToken.decodeId(cursor), type, PageRequest.ofSize(batchSize + 1));
+
+        boolean hasMore = entries.size() > batchSize;
+        var batch = hasMore ? entries.subList(0, batchSize) : entries;
+
+        if (batch.isEmpty()) {
+            return new OutboxBatchDTO(List.of(), false, fromStart ? CursorToken.encode(highWaterMark) : cursor);
+        }
+
+        var lastEntry = batch.get(batch.size() - 1);
+
+        return new OutboxBatchDTO(batch.stream().map(outboxMapper::toOutboxEntryDTO).toList(), hasMore,
+                CursorToken.encode(lastEntry.getPosition()));
+    }
+
+    private long getHighWaterMark() {
+        return outboxSequenceRepository.findById(OUTBOX_SEQUENCE)
+                .map(OutboxSequence::getPosition)
+                .orElse(0L);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int purgeExpiredEntries() {
+        var expiredBefore = LocalDateTime.now().minusDays(retentionDays);
+
+        return deleteInBatches(pageable -> outboxEntryRepository.findIdsCreatedBefore(expiredBefore, pageable));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int compactEntries() {
+        return deleteInBatches(outboxEntryRepository::findSupersededIds);
+    }
+
+    private int deleteInBatches(Function<Pageable, List<Long>> idFinder) {
+        int removed = 0;
+        int deleted;
+
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                var ids = idFinder.apply(PageRequest.ofSize(purgeBatchSize));
+                outboxEntryRepository.deleteAllByIdInBatch(ids);
+
+                return ids.size();
+            });
+            removed += deleted;
+        } while (deleted == purgeBatchSize);
+
+        return removed;
+    }
+
+}
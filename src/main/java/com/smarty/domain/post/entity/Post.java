@@ -5,10 +5,12 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity(name = "post")
+@Table(indexes = @Index(name = "idx_post_created_at_id", columnList = "createdAt, id"))
 public class Post {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id")
+    @TableGenerator(name = "post_id", table = "id_generator", pkColumnValue = "post", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,23 @@
+package com.smarty.domain.post.event;
+
+import com.smarty.infrastructure.event.DomainEvent;
+
+import java.time.Instant;
+
+public record PostDeleted(
+
+        Long postId,
+        Instant occurredAt
+
+) implements DomainEvent {
+
+    public PostDeleted(Long postId) {
+        this(postId, Instant.now());
+    }
+
+    @Override
+    public Object aggregateKey() {
+        return postId;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.smarty.domain.post.event;
+
+import com.smarty.domain.post.model.PostResponseDTO;
+import com.smarty.infrastructure.event.DomainEvent;
+
+import java.time.Instant;
+
+public record PostPublished(
+
+        PostResponseDTO post,
+        boolean updated,
+        Instant occurredAt
+
+) implements DomainEvent {
+
+    public PostPublished(PostResponseDTO post, boolean updated) {
+        this(post, updated, Instant.now());
+    }
+
+    @Override
+    public Object aggregateKey() {
+        return post.id();
+    }
+
+}
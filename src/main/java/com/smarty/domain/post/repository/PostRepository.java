@@ -1,14 +1,22 @@
 package com.smarty.domain.post.repository;
 
 import com.smarty.domain.post.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    List<Post> findByOrderByCreatedAtDesc();
+    List<Post> findByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    @Query("SELECT p FROM post p " +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findPostsBefore(LocalDateTime createdAt, Long id, Pageable pageable);
 
 }
@@ -0,0 +1,9 @@
+package com.smarty.domain.post.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+public interface PostEventService {
+
+    ResponseBodyEmitter subscribe();
+
+}
@@ -0,0 +1,37 @@
+package com.smarty.domain.post.service;
+
+import com.smarty.domain.post.event.PostPublished;
+import com.smarty.infrastructure.event.DomainEvent;
+import com.smarty.infrastructure.event.DomainEventListener;
+import com.smarty.infrastructure.streaming.SseBroadcaster;
+import com.smarty.infrastructure.streaming.SseDispatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+@Service
+public class PostEventServiceImpl implements PostEventService, DomainEventListener {
+
+    private static final String POST_CREATED = "post-created";
+    private static final String POST_UPDATED = "post-updated";
+
+    private final SseBroadcaster sseBroadcaster;
+
+    @Autowired
+    public PostEventServiceImpl(SseDispatcher sseDispatcher) {
+        this.sseBroadcaster = new SseBroadcaster(sseDispatcher);
+    }
+
+    @Override
+    public ResponseBodyEmitter subscribe() {
+        return sseBroadcaster.subscribe();
+    }
+
+    @Override
+    public void on(DomainEvent event) {
+        if (event instanceof PostPublished postPublished) {
+            sseBroadcaster.broadcast(postPublished.updated() ? POST_UPDATED : POST_CREATED, postPublished.post());
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.smarty.domain.post.service;
+
+import com.smarty.domain.post.model.PostResponseDTO;
+import com.smarty.infrastructure.pagination.CursorPage;
+
+import java.util.List;
+
+public interface PostFeedService {
+
+    List<PostResponseDTO> getLatestPosts(int size);
+
+    CursorPage<PostResponseDTO> scrollPosts(String cursor, int size);
+
+    void refresh();
+
+}
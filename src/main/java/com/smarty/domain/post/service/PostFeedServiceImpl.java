@@ -0,0 +1,137 @@
+package com.smarty.domain.post.service;
+
+import com.smarty.domain.post.event.PostDeleted;
+import com.smarty.domain.post.event.PostPublished;
+import com.smarty.domain.post.model.PostResponseDTO;
+import com.smarty.domain.post.repository.PostRepository;
+import com.smarty.infrastructure.event.DomainEvent;
+import com.smarty.infrastructure.event.DomainEventListener;
+import com.smarty.infrastructure.mapper.PostMapper;
+import com.smarty.infrastructure.pagination.CursorPage;
+import com.smarty.infrastructure.pagination.CursorToken;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+public class PostFeedServiceImpl implements PostFeedService, DomainEventListener, SmartInitializingSingleton {
+
+    private static final Comparator<PostResponseDTO> LATEST_FIRST = Comparator
+            .comparing(PostResponseDTO::createdAt)
+            .thenComparing(PostResponseDTO::id)
+            .reversed();
+
+    private final PostRepository postRepository;
+    private final PostMapper postMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int capacity;
+    private volatile List<PostResponseDTO> latestPosts = List.of();
+
+    @Autowired
+    public PostFeedServiceImpl(PostRepository postRepository,
+                               PostMapper postMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.post-feed.capacity}") int capacity) {
+        this.postRepository = postRepository;
+        this.postMapper = postMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    @Override
+    public List<PostResponseDTO> getLatestPosts(int size) {
+        var posts = latestPosts;
+
+        if (size <= posts.size() || posts.size() < capacity) {
+            return posts.subList(0, Math.min(size, posts.size()));
+        }
+
+        return postRepository
+                .findByOrderByCreatedAtDescIdDesc(PageRequest.ofSize(size))
+                .stream()
+                .map(postMapper::toPostResponseDTO)
+                .toList();
+    }
+
+    @Override
+    public CursorPage<PostResponseDTO> scrollPosts(String cursor, int size) {
+        if (cursor == null || cursor.isBlank()) {
+            return CursorPage.of(getLatestPosts(CursorToken.size(size) + 1), CursorToken.size(size),
+                    post -> CursorToken.encode(post.createdAt(), post.id()));
+        }
+
+        var posts = postRepository.findPostsBefore(CursorToken.decodeTimestamp(cursor), CursorToken.decodeTimestampId(cursor), CursorToken.limit(size));
+
+        return CursorPage.of(posts, CursorToken.size(size), post -> CursorToken.encode(post.getCreatedAt(), post.getId()))
+                .map(postMapper::toPostResponseDTO);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.post-feed.refresh-interval}", initialDelayString = "${app.post-feed.refresh-interval}")
+    public synchronized void refresh() {
+        latestPosts = transactionTemplate.execute(status -> postRepository
+                .findByOrderByCreatedAtDescIdDesc(PageRequest.ofSize(capacity))
+                .stream()
+                .map(postMapper::toPostResponseDTO)
+                .toList());
+    }
+
+    @Override
+    public void on(DomainEvent event) {
+        if (event instanceof PostPublished postPublished) {
+            publish(postPublished.post());
+        } else if (event instanceof PostDeleted postDeleted) {
+            evict(postDeleted.postId());
+        }
+    }
+
+    private synchronized void publish(PostResponseDTO post) {
+        var posts = new ArrayList<>(latestPosts);
+        posts.removeIf(latestPost -> latestPost.id().equals(post.id()));
+
+        int position = 0;
+
+        while (position < posts.size() && LATEST_FIRST.compare(posts.get(position), post) < 0) {
+            position++;
+        }
+
+        if (position < capacity) {
+            posts.add(position, post);
+        }
+
+        latestPosts = List.copyOf(posts.subList(0, Math.min(posts.size(), capacity)));
+    }
+
+    private synchronized void evict(Long id) {
+        var posts = new ArrayList<>(latestPosts);
+
+        if (!posts.removeIf(latestPost -> latestPost.id().equals(id))) {
+            return;
+        }
+
+        if (posts.size() == capacity - 1) {
+            refresh();
+            return;
+        }
+
+        latestPosts = List.copyOf(posts);
+    }
+
+}
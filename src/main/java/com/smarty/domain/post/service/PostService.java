@@ -3,6 +3,7 @@ package com.smarty.domain.post.service;
 import com.smarty.domain.post.model.PostRequestDTO;
 import com.smarty.domain.post.model.PostResponseDTO;
 import com.smarty.domain.post.model.PostUpdateDTO;
+import com.smarty.infrastructure.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -14,6 +15,8 @@ public interface PostService {
 
     Page<PostResponseDTO> getAllPosts(Pageable pageable);
 
+    CursorPage<PostResponseDTO> scrollPosts(String cursor, int size);
+
     PostResponseDTO getPostById(Long id);
 
     List<PostResponseDTO> getLatestPosts();
@@ -1,43 +1,60 @@
 package com.smarty.domain.post.service;
 
 import com.smarty.domain.post.entity.Post;
+import com.smarty.domain.post.event.PostDeleted;
+import com.smarty.domain.post.event.PostPublished;
 import com.smarty.domain.post.model.PostRequestDTO;
 import com.smarty.domain.post.model.PostResponseDTO;
 import com.smarty.domain.post.model.PostUpdateDTO;
 import com.smarty.domain.post.repository.PostRepository;
+import com.smarty.infrastructure.event.DomainEventPublisher;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.PostMapper;
+import com.smarty.infrastructure.pagination.CursorPage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class PostServiceImpl implements PostService {
 
     private static final String POST_NOT_EXISTS = "Post with id %d doesn't exist";
+    private static final int LATEST_POSTS = 2;
 
     private final PostRepository postRepository;
     private final PostMapper postMapper;
+    private final PostFeedService postFeedService;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Autowired
-    public PostServiceImpl(PostRepository postRepository, PostMapper postMapper) {
+    public PostServiceImpl(PostRepository postRepository,
+                           PostMapper postMapper,
+                           PostFeedService postFeedService,
+                           DomainEventPublisher domainEventPublisher) {
         this.postRepository = postRepository;
         this.postMapper = postMapper;
+        this.postFeedService = postFeedService;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
     @Override
+    @Transactional
     public PostResponseDTO createPost(PostRequestDTO postDTO) {
         Post post = postMapper.toPost(postDTO);
 
         post.setCreatedAt(LocalDateTime.now());
         postRepository.save(post);
 
-        return postMapper.toPostResponseDTO(post);
+        var postResponseDTO = postMapper.toPostResponseDTO(post);
+        domainEventPublisher.publish(new PostPublished(postResponseDTO, false));
+
+        return postResponseDTO;
     }
 
     @Override
@@ -45,6 +62,11 @@ public class PostServiceImpl implements PostService {
         return postRepository.findAll(pageable).map(postMapper::toPostResponseDTO);
     }
 
+    @Override
+    public CursorPage<PostResponseDTO> scrollPosts(String cursor, int size) {
+        return postFeedService.scrollPosts(cursor, size);
+    }
+
     @Override
     public PostResponseDTO getPostById(Long id) {
         return postMapper.toPostResponseDTO(getById(id));
@@ -56,20 +78,17 @@ public class PostServiceImpl implements PostService {
 
     @Override
     public List<PostResponseDTO> getLatestPosts() {
-        List<Post> latestPosts = postRepository.findByOrderByCreatedAtDesc();
+        List<PostResponseDTO> latestPosts = postFeedService.getLatestPosts(LATEST_POSTS);
 
         if (latestPosts.isEmpty()) {
             throw new NotFoundException("List of latest posts is empty");
         }
 
-        return latestPosts
-                .stream()
-                .limit(2)
-                .map(postMapper::toPostResponseDTO)
-                .collect(Collectors.toList());
+        return latestPosts;
     }
 
     @Override
+    @Transactional
     public PostResponseDTO updatePost(Long id, PostUpdateDTO postDTO) {
         Post post = getById(id);
         postMapper.updatePostFromDTO(postDTO, post);
@@ -77,16 +96,21 @@ public class PostServiceImpl implements PostService {
         post.setCreatedAt(LocalDateTime.now());
         postRepository.save(post);
 
-        return postMapper.toPostResponseDTO(post);
+        var postResponseDTO = postMapper.toPostResponseDTO(post);
+        domainEventPublisher.publish(new PostPublished(postResponseDTO, true));
+
+        return postResponseDTO;
     }
 
     @Override
+    @Transactional
     public void deletePost(Long id) {
         if (!postRepository.existsById(id)) {
             throw new NotFoundException(POST_NOT_EXISTS.formatted(id));
         }
 
         postRepository.deleteById(id);
+        domainEventPublisher.publish(new PostDeleted(id));
     }
 
 }
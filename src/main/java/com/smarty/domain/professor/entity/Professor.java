@@ -4,10 +4,12 @@ import com.smarty.domain.account.entity.Account;
 import jakarta.persistence.*;
 
 @Entity(name = "professor")
+@NamedEntityGraph(name = "professor.details", attributeNodes = @NamedAttributeNode("account"))
 public class Professor {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "professor_id")
+    @TableGenerator(name = "professor_id", table = "id_generator", pkColumnValue = "professor", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -19,7 +21,7 @@ public class Professor {
     @Column(nullable = false)
     private int yearsOfExperience;
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinColumn(name = "account_id", nullable = false)
     private Account account;
 
@@ -1,21 +1,53 @@
 package com.smarty.domain.professor.repository;
 
 import com.smarty.domain.professor.entity.Professor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProfessorRepository extends JpaRepository<Professor, Long> {
 
+    @Override
+    @EntityGraph("professor.details")
+    Page<Professor> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph("professor.details")
+    Optional<Professor> findById(Long id);
+
+    @EntityGraph("professor.details")
     Professor findByAccount_Email(String email);
 
+    @EntityGraph("professor.details")
     @Query("SELECT p FROM professor p " +
             "JOIN engagement e ON p.id = e.professor.id " +
             "JOIN course c ON e.course.id = c.id " +
             "WHERE c.id = :courseId")
     List<Professor> findProfessorsByCourse(Long courseId);
 
+    @EntityGraph("professor.details")
+    @Query("SELECT p FROM professor p " +
+            "JOIN engagement e ON p.id = e.professor.id " +
+            "WHERE e.course.id = :courseId")
+    Page<Professor> findProfessorsByCourse(Long courseId, Pageable pageable);
+
+    @EntityGraph("professor.details")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p FROM professor p " +
+            "JOIN engagement e ON p.id = e.professor.id " +
+            "WHERE e.course.id = :courseId " +
+            "ORDER BY p.id")
+    Stream<Professor> streamProfessorsByCourse(Long courseId);
+
 }
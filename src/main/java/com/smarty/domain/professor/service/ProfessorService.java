@@ -8,6 +8,7 @@ import com.smarty.domain.professor.model.ProfessorUpdateDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.OutputStream;
 import java.util.List;
 
 public interface ProfessorService {
@@ -26,6 +27,10 @@ public interface ProfessorService {
 
     List<ProfessorResponseDTO> getProfessorsByCourse(Long courseId);
 
+    Page<ProfessorResponseDTO> getProfessorsByCourse(Long courseId, Pageable pageable);
+
+    void streamProfessorsByCourse(Long courseId, OutputStream outputStream);
+
     ProfessorResponseDTO updateProfessor(Long id, ProfessorUpdateDTO professorDTO);
 
     ProfessorResponseDTO updatePassword(Long id, PasswordDTO passwordDTO);
@@ -1,6 +1,6 @@
 package com.smarty.domain.professor.service;
 
-import com.smarty.domain.account.service.AccountService;
+import com.smarty.domain.account.entity.Account;
 import com.smarty.domain.course.service.CourseService;
 import com.smarty.domain.professor.entity.Professor;
 import com.smarty.domain.professor.model.PasswordDTO;
@@ -10,56 +10,82 @@ import com.smarty.domain.professor.model.ProfessorUpdateDTO;
 import com.smarty.domain.professor.repository.ProfessorRepository;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.ProfessorMapper;
+import com.smarty.infrastructure.persistence.UniqueConstraints;
 import com.smarty.infrastructure.security.AuthenticationService;
+import com.smarty.infrastructure.streaming.JsonStreamWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class ProfessorServiceImpl implements ProfessorService {
 
     private static final String PROFESSOR_NOT_EXISTS = "Professor with id %d doesn't exist";
 
     private final ProfessorRepository professorRepository;
     private final ProfessorMapper professorMapper;
-    private final AccountService accountService;
     private final CourseService courseService;
     private final AuthenticationService authenticationService;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final TransactionTemplate transactionTemplate;
     private PasswordEncoder passwordEncoder;
 
     @Autowired
     public ProfessorServiceImpl(ProfessorRepository professorRepository,
                                 ProfessorMapper professorMapper,
-                                AccountService accountService,
                                 @Lazy CourseService courseService,
-                                AuthenticationService authenticationService) {
+                                AuthenticationService authenticationService,
+                                JsonStreamWriter jsonStreamWriter,
+                                PlatformTransactionManager transactionManager) {
         this.professorRepository = professorRepository;
         this.professorMapper = professorMapper;
-        this.accountService = accountService;
         this.courseService = courseService;
         this.authenticationService = authenticationService;
+        this.jsonStreamWriter = jsonStreamWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProfessorResponseDTO createProfessor(ProfessorRequestDTO professorDTO) {
-        Professor professor = professorMapper.toProfessor(professorDTO);
-        accountService.existsByEmail(professorDTO.account().email());
-
         var encryptedPassword = encodePassword(professorDTO.account().password());
 
+        return transactionTemplate.execute(status -> createProfessor(professorDTO, encryptedPassword));
+    }
+
+    private ProfessorResponseDTO createProfessor(ProfessorRequestDTO professorDTO, String encryptedPassword) {
+        Professor professor = professorMapper.toProfessor(professorDTO);
+
         professor.getAccount().setPassword(encryptedPassword);
-        professorRepository.save(professor);
+        saveProfessor(professor);
 
         return professorMapper.toProfessorResponseDTO(professor);
     }
 
+    private void saveProfessor(Professor professor) {
+        try {
+            professorRepository.saveAndFlush(professor);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, Map.of(Account.UNIQUE_EMAIL,
+                    "Account with email %s already exists".formatted(professor.getAccount().getEmail())));
+        }
+    }
+
     private String encodePassword(String password) {
         return passwordEncoder.encode(password);
     }
@@ -105,9 +131,9 @@ public class ProfessorServiceImpl implements ProfessorService {
     @Override
     public List<ProfessorResponseDTO> getProfessorsByCourse(Long courseId) {
         List<Professor> professorsByCourse = professorRepository.findProfessorsByCourse(courseId);
-        courseService.existsById(courseId);
 
         if (professorsByCourse.isEmpty()) {
+            courseService.existsById(courseId);
             throw new NotFoundException("List of professors by course is empty");
         }
 
@@ -118,28 +144,59 @@ public class ProfessorServiceImpl implements ProfessorService {
     }
 
     @Override
+    public Page<ProfessorResponseDTO> getProfessorsByCourse(Long courseId, Pageable pageable) {
+        var professorsByCourse = professorRepository.findProfessorsByCourse(courseId, pageable);
+
+        if (professorsByCourse.isEmpty()) {
+            courseService.existsById(courseId);
+        }
+
+        return professorsByCourse.map(professorMapper::toProfessorResponseDTO);
+    }
+
+    @Override
+    public void streamProfessorsByCourse(Long courseId, OutputStream outputStream) {
+        courseService.existsById(courseId);
+
+        jsonStreamWriter.writeArray(professorRepository.streamProfessorsByCourse(courseId),
+                professorMapper::toProfessorResponseDTO, outputStream);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProfessorResponseDTO updateProfessor(Long id, ProfessorUpdateDTO professorDTO) {
+        var encryptedPassword = encodePassword(professorDTO.account().password());
+
+        return transactionTemplate.execute(status -> updateProfessor(id, professorDTO, encryptedPassword));
+    }
+
+    private ProfessorResponseDTO updateProfessor(Long id, ProfessorUpdateDTO professorDTO, String encryptedPassword) {
         Professor professor = getById(id);
         professorMapper.updateProfessorFromDTO(professorDTO, professor);
 
-        var encryptedPassword = encodePassword(professorDTO.account().password());
-
         professor.getAccount().setPassword(encryptedPassword);
         professorRepository.save(professor);
+        authenticationService.evictAccount(professor.getAccount().getEmail());
 
         return professorMapper.toProfessorResponseDTO(professor);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProfessorResponseDTO updatePassword(Long id, PasswordDTO passwordDTO) {
-        Professor professor = getById(id);
-
-        authenticationService.canUpdatePassword(professor.getAccount().getEmail());
+        authenticationService.canUpdatePassword(getById(id).getAccount().getEmail());
         arePasswordsMatching(passwordDTO.password(), passwordDTO.confirmedPassword());
         var encryptedPassword = encodePassword(passwordDTO.password());
 
+        return transactionTemplate.execute(status -> updatePassword(id, encryptedPassword));
+    }
+
+    private ProfessorResponseDTO updatePassword(Long id, String encryptedPassword) {
+        Professor professor = getById(id);
+
         professor.getAccount().setPassword(encryptedPassword);
         professorRepository.save(professor);
+        authenticationService.evictAccount(professor.getAccount().getEmail());
 
         return professorMapper.toProfessorResponseDTO(professor);
     }
@@ -151,10 +208,12 @@ public class ProfessorServiceImpl implements ProfessorService {
     }
 
     @Override
+    @Transactional
     public void deleteProfessor(Long id) {
-        existsById(id);
+        Professor professor = getById(id);
 
-        professorRepository.deleteById(id);
+        professorRepository.delete(professor);
+        authenticationService.evictAccount(professor.getAccount().getEmail());
     }
 
     @Autowired
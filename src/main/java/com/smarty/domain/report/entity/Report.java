@@ -6,7 +6,8 @@ import jakarta.persistence.*;
 public class Report {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "report_id")
+    @TableGenerator(name = "report_id", table = "id_generator", pkColumnValue = "report", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
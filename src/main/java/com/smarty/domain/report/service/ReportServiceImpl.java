@@ -11,8 +11,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional(readOnly = true)
 public class ReportServiceImpl implements ReportService {
 
     private static final String REPORT_NOT_EXISTS = "Report with id %d doesn't exist";
@@ -27,6 +29,7 @@ public class ReportServiceImpl implements ReportService {
     }
 
     @Override
+    @Transactional
     public ReportResponseDTO createReport(ReportRequestDTO reportDTO) {
         Report report = reportMapper.toReport(reportDTO);
 
@@ -50,6 +53,7 @@ public class ReportServiceImpl implements ReportService {
     }
 
     @Override
+    @Transactional
     public ReportResponseDTO updateReport(Long id, ReportUpdateDTO reportDTO) {
         Report report = getById(id);
         reportMapper.updateReportFromDTO(reportDTO, report);
@@ -60,6 +64,7 @@ public class ReportServiceImpl implements ReportService {
     }
 
     @Override
+    @Transactional
     public void deleteReport(Long id) {
         if (!reportRepository.existsById(id)) {
             throw new NotFoundException(REPORT_NOT_EXISTS.formatted(id));
@@ -1,12 +1,17 @@
 package com.smarty.domain.status.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity(name = "study_status")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "status")
 public class Status {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "study_status_id")
+    @TableGenerator(name = "study_status_id", table = "id_generator", pkColumnValue = "study_status", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
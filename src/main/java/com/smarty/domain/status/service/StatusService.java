@@ -2,10 +2,15 @@ package com.smarty.domain.status.service;
 
 import com.smarty.domain.status.entity.Status;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface StatusService {
 
     Status getStatusById(Long id);
 
+    Map<Long, Status> getStatusesByIds(Collection<Long> ids);
+
     void existsById(Long id);
 
 }
@@ -5,10 +5,16 @@ import com.smarty.domain.status.repository.StatusRepository;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class StatusServiceImpl implements StatusService {
 
     private static final String STATUS_NOT_EXISTS = "Status with id %d doesn't exist";
@@ -31,6 +37,13 @@ public class StatusServiceImpl implements StatusService {
         return optionalStatus.get();
     }
 
+    @Override
+    public Map<Long, Status> getStatusesByIds(Collection<Long> ids) {
+        return statusRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Status::getId, Function.identity()));
+    }
+
     @Override
     public void existsById(Long id) {
         if (!statusRepository.existsById(id)) {
@@ -0,0 +1,65 @@
+package com.smarty.domain.student.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+@Entity(name = "grade_summary")
+public class GradeSummary {
+
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @Column(nullable = false)
+    private int passedExams;
+
+    @Column(nullable = false)
+    private long gradeSum;
+
+    public GradeSummary() {
+    }
+
+    public GradeSummary(Long studentId, long passedExams, long gradeSum) {
+        this.studentId = studentId;
+        this.passedExams = (int) passedExams;
+        this.gradeSum = gradeSum;
+    }
+
+    public Double getAverageGrade() {
+        if (passedExams == 0) {
+            return null;
+        }
+
+        return (double) gradeSum / passedExams;
+    }
+
+    public boolean matches(GradeSummary gradeSummary) {
+        return passedExams == gradeSummary.passedExams && gradeSum == gradeSummary.gradeSum;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public int getPassedExams() {
+        return passedExams;
+    }
+
+    public void setPassedExams(int passedExams) {
+        this.passedExams = passedExams;
+    }
+
+    public long getGradeSum() {
+        return gradeSum;
+    }
+
+    public void setGradeSum(long gradeSum) {
+        this.gradeSum = gradeSum;
+    }
+
+}
@@ -6,10 +6,18 @@ import com.smarty.domain.status.entity.Status;
 import jakarta.persistence.*;
 
 @Entity(name = "student")
+@NamedEntityGraph(name = "student.details", attributeNodes = {
+        @NamedAttributeNode("major"),
+        @NamedAttributeNode("status"),
+        @NamedAttributeNode("account")})
+@Table(uniqueConstraints = @UniqueConstraint(name = Student.UNIQUE_INDEX, columnNames = "`index`"))
 public class Student {
 
+    public static final String UNIQUE_INDEX = "uk_student_index";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "student_id")
+    @TableGenerator(name = "student_id", table = "id_generator", pkColumnValue = "student", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -18,7 +26,7 @@ public class Student {
     @Column(nullable = false)
     private String surname;
 
-    @Column(nullable = false, unique = true, name = "`index`")
+    @Column(nullable = false, name = "`index`")
     private int index;
 
     @Column(nullable = false)
@@ -27,15 +35,15 @@ public class Student {
     @Column(nullable = false)
     private int semester;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "major_id", nullable = false)
     private Major major;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "study_status_id", nullable = false)
     private Status status;
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinColumn(name = "account_id", nullable = false)
     private Account account;
 
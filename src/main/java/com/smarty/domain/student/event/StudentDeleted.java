@@ -0,0 +1,23 @@
+package com.smarty.domain.student.event;
+
+import com.smarty.infrastructure.event.DomainEvent;
+
+import java.time.Instant;
+
+public record StudentDeleted(
+
+        Long studentId,
+        Instant occurredAt
+
+) implements DomainEvent {
+
+    public StudentDeleted(Long studentId) {
+        this(studentId, Instant.now());
+    }
+
+    @Override
+    public Object aggregateKey() {
+        return studentId;
+    }
+
+}
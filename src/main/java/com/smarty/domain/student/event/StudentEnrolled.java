@@ -0,0 +1,25 @@
+package com.smarty.domain.student.event;
+
+import com.smarty.infrastructure.event.DomainEvent;
+
+import java.time.Instant;
+
+public record StudentEnrolled(
+
+        Long studentId,
+        Long majorId,
+        int year,
+        Instant occurredAt
+
+) implements DomainEvent {
+
+    public StudentEnrolled(Long studentId, Long majorId, int year) {
+        this(studentId, majorId, year, Instant.now());
+    }
+
+    @Override
+    public Object aggregateKey() {
+        return studentId;
+    }
+
+}
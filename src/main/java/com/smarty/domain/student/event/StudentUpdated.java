@@ -0,0 +1,27 @@
+package com.smarty.domain.student.event;
+
+import com.smarty.infrastructure.event.DomainEvent;
+
+import java.time.Instant;
+
+public record StudentUpdated(
+
+        Long studentId,
+        Long majorId,
+        Long statusId,
+        int year,
+        int semester,
+        Instant occurredAt
+
+) implements DomainEvent {
+
+    public StudentUpdated(Long studentId, Long majorId, Long statusId, int year, int semester) {
+        this(studentId, majorId, statusId, year, semester, Instant.now());
+    }
+
+    @Override
+    public Object aggregateKey() {
+        return studentId;
+    }
+
+}
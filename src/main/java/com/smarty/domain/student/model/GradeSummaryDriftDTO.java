@@ -0,0 +1,13 @@
+package com.smarty.domain.student.model;
+
+public record GradeSummaryDriftDTO(
+
+        Long studentId,
+        int recordedPassedExams,
+        int actualPassedExams,
+        long recordedGradeSum,
+        long actualGradeSum
+
+) {
+
+}
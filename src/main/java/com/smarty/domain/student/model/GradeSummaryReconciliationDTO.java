@@ -0,0 +1,13 @@
+package com.smarty.domain.student.model;
+
+import java.util.List;
+
+public record GradeSummaryReconciliationDTO(
+
+        int summaries,
+        int drifted,
+        List<GradeSummaryDriftDTO> drifts
+
+) {
+
+}
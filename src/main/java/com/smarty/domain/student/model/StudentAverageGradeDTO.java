@@ -0,0 +1,14 @@
+package com.smarty.domain.student.model;
+
+public record StudentAverageGradeDTO(
+
+        Long id,
+        String name,
+        String surname,
+        int index,
+        int year,
+        Double averageGrade
+
+) {
+
+}
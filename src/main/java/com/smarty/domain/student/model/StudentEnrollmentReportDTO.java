@@ -0,0 +1,14 @@
+package com.smarty.domain.student.model;
+
+import java.util.List;
+
+public record StudentEnrollmentReportDTO(
+
+        int total,
+        int enrolled,
+        int rejected,
+        List<StudentEnrollmentResultDTO> results
+
+) {
+
+}
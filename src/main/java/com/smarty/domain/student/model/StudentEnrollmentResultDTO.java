@@ -0,0 +1,14 @@
+package com.smarty.domain.student.model;
+
+public record StudentEnrollmentResultDTO(
+
+        int row,
+        boolean enrolled,
+        Long studentId,
+        Integer index,
+        String email,
+        String message
+
+) {
+
+}
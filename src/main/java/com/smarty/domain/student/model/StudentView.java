@@ -0,0 +1,36 @@
+package com.smarty.domain.student.model;
+
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.account.model.AccountResponseDTO;
+import com.smarty.domain.major.model.MajorResponseDTO;
+import com.smarty.domain.status.entity.Status;
+
+public record StudentView(
+
+        Long id,
+        String name,
+        String surname,
+        int index,
+        int year,
+        int semester,
+        Long majorId,
+        String majorCode,
+        String majorFullName,
+        String majorDescription,
+        int majorDuration,
+        Long statusId,
+        String statusType,
+        String email,
+        String password,
+        Role role
+
+) {
+
+    public StudentResponseDTO toStudentResponseDTO() {
+        return new StudentResponseDTO(id, name, surname, index, year, semester,
+                new MajorResponseDTO(majorId, majorCode, majorFullName, majorDescription, majorDuration),
+                new Status(statusId, statusType),
+                new AccountResponseDTO(email, password, role));
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.smarty.domain.student.repository;
+
+import com.smarty.domain.student.entity.GradeSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GradeSummaryRepository extends JpaRepository<GradeSummary, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO grade_summary (student_id, passed_exams, grade_sum) " +
+            "VALUES (:studentId, :passedExams, :gradeSum) " +
+            "ON DUPLICATE KEY UPDATE passed_exams = passed_exams + VALUES(passed_exams), " +
+            "grade_sum = grade_sum + VALUES(grade_sum)", nativeQuery = true)
+    void record(Long studentId, int passedExams, int gradeSum);
+
+    @Modifying
+    @Query(value = "INSERT INTO grade_summary (student_id, passed_exams, grade_sum) " +
+            "VALUES (:studentId, :passedExams, :gradeSum) " +
+            "ON DUPLICATE KEY UPDATE passed_exams = VALUES(passed_exams), " +
+            "grade_sum = VALUES(grade_sum)", nativeQuery = true)
+    void replace(Long studentId, int passedExams, long gradeSum);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM grade_summary g WHERE g.studentId = :studentId")
+    Optional<GradeSummary> findForUpdate(Long studentId);
+
+    @Query("SELECT new com.smarty.domain.student.entity.GradeSummary(e.student.id, COUNT(e), SUM(e.grade)) FROM exam e " +
+            "WHERE e.grade > 5 " +
+            "GROUP BY e.student.id")
+    List<GradeSummary> calculateGradeSummaries();
+
+    @Query("SELECT new com.smarty.domain.student.entity.GradeSummary(e.student.id, COUNT(e), SUM(e.grade)) FROM exam e " +
+            "WHERE e.grade > 5 AND e.student.id = :studentId " +
+            "GROUP BY e.student.id")
+    Optional<GradeSummary> calculateGradeSummary(Long studentId);
+
+}
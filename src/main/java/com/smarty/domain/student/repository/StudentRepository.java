@@ -1,31 +1,110 @@
 package com.smarty.domain.student.repository;
 
 import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.student.model.StudentAverageGradeDTO;
+import com.smarty.domain.student.model.StudentView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
 
-    boolean existsByIndex(int index);
+    String STUDENT_VIEW = "SELECT new com.smarty.domain.student.model.StudentView(s.id, s.name, s.surname, s.index, s.year, s.semester, " +
+            "m.id, m.code, m.fullName, m.description, m.duration, st.id, st.type, a.email, a.password, a.role) FROM student s " +
+            "JOIN s.major m JOIN s.status st JOIN s.account a ";
 
+    @Override
+    @EntityGraph("student.details")
+    Optional<Student> findById(Long id);
+
+    @Query(value = STUDENT_VIEW,
+            countQuery = "SELECT COUNT(s) FROM student s")
+    Page<StudentView> findStudents(Pageable pageable);
+
+    @Query(STUDENT_VIEW +
+            "WHERE s.id > :id " +
+            "ORDER BY s.id")
+    List<StudentView> findStudentsAfter(Long id, Pageable pageable);
+
+    @Query("SELECT s.index FROM student s " +
+            "WHERE s.index IN :indexes")
+    Set<Integer> findExistingIndexes(Collection<Integer> indexes);
+
+    @EntityGraph("student.details")
     Student findByAccount_Email(String email);
 
-    List<Student> findStudentsByMajor_Id(Long majorId);
+    @Query(STUDENT_VIEW +
+            "WHERE m.id = :majorId")
+    List<StudentView> findStudentsByMajor(Long majorId);
+
+    @Query(value = STUDENT_VIEW +
+            "WHERE m.id = :majorId",
+            countQuery = "SELECT COUNT(s) FROM student s " +
+                    "WHERE s.major.id = :majorId")
+    Page<StudentView> findStudentsByMajor(Long majorId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(STUDENT_VIEW +
+            "WHERE m.id = :majorId " +
+            "ORDER BY s.id")
+    Stream<StudentView> streamStudentsByMajor(Long majorId);
 
-    List<Student> findStudentsByStatus_Id(Long statusId);
+    @Query(STUDENT_VIEW +
+            "WHERE st.id = :statusId")
+    List<StudentView> findStudentsByStatus(Long statusId);
 
-    @Query("SELECT s FROM student s " +
+    @Query(value = STUDENT_VIEW +
+            "WHERE st.id = :statusId",
+            countQuery = "SELECT COUNT(s) FROM student s " +
+                    "WHERE s.status.id = :statusId")
+    Page<StudentView> findStudentsByStatus(Long statusId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(STUDENT_VIEW +
+            "WHERE st.id = :statusId " +
+            "ORDER BY s.id")
+    Stream<StudentView> streamStudentsByStatus(Long statusId);
+
+    @Query(STUDENT_VIEW +
             "JOIN exam e ON s.id = e.student.id " +
             "WHERE e.grade > 5 AND e.course.id = :courseId")
-    List<Student> findStudentsWhoPassedCertainCourse(Long courseId);
+    List<StudentView> findStudentsWhoPassedCertainCourse(Long courseId);
 
-    @Query("SELECT AVG(e.grade) FROM student s " +
+    @Query(value = STUDENT_VIEW +
             "JOIN exam e ON s.id = e.student.id " +
-            "WHERE e.grade > 5 AND s.id = :id")
-    Double findAverageGradeOfStudent(Long id);
+            "WHERE e.grade > 5 AND e.course.id = :courseId",
+            countQuery = "SELECT COUNT(e) FROM exam e " +
+                    "WHERE e.grade > 5 AND e.course.id = :courseId")
+    Page<StudentView> findStudentsWhoPassedCertainCourse(Long courseId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(STUDENT_VIEW +
+            "JOIN exam e ON s.id = e.student.id " +
+            "WHERE e.grade > 5 AND e.course.id = :courseId " +
+            "ORDER BY s.id")
+    Stream<StudentView> streamStudentsWhoPassedCertainCourse(Long courseId);
+
+    @Query(value = "SELECT new com.smarty.domain.student.model.StudentAverageGradeDTO(s.id, s.name, s.surname, s.index, s.year, " +
+            "CASE WHEN g.passedExams > 0 THEN CAST(g.gradeSum AS double) / g.passedExams ELSE NULL END) FROM student s " +
+            "LEFT JOIN grade_summary g ON g.studentId = s.id " +
+            "WHERE (:majorId IS NULL OR s.major.id = :majorId) AND (:year IS NULL OR s.year = :year) " +
+            "ORDER BY CASE WHEN g.passedExams > 0 THEN 0 ELSE 1 END, " +
+            "CASE WHEN g.passedExams > 0 THEN CAST(g.gradeSum AS double) / g.passedExams ELSE NULL END DESC, s.index",
+            countQuery = "SELECT COUNT(s) FROM student s " +
+                    "WHERE (:majorId IS NULL OR s.major.id = :majorId) AND (:year IS NULL OR s.year = :year)")
+    Page<StudentAverageGradeDTO> findAverageGrades(Long majorId, Integer year, Pageable pageable);
 
 }
@@ -0,0 +1,40 @@
+package com.smarty.domain.student.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GradeSummaryReconciliationJob implements SmartInitializingSingleton {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GradeSummaryReconciliationJob.class);
+
+    private final GradeSummaryService gradeSummaryService;
+
+    @Autowired
+    public GradeSummaryReconciliationJob(GradeSummaryService gradeSummaryService) {
+        this.gradeSummaryService = gradeSummaryService;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (gradeSummaryService.isEmpty()) {
+            var reconciliation = gradeSummaryService.reconcile();
+            LOGGER.info("Grade summaries were empty and have been backfilled for {} students", reconciliation.drifted());
+        }
+    }
+
+    @Scheduled(cron = "${app.grade-summary.reconcile-cron}")
+    public void reconcile() {
+        var reconciliation = gradeSummaryService.reconcile();
+
+        if (reconciliation.drifted() > 0) {
+            LOGGER.warn("Grade summaries drifted for {} of {} students and were rebuilt: {}",
+                    reconciliation.drifted(), reconciliation.summaries(), reconciliation.drifts());
+        }
+    }
+
+}
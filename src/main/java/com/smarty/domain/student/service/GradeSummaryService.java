@@ -0,0 +1,20 @@
+package com.smarty.domain.student.service;
+
+import com.smarty.domain.student.model.GradeSummaryReconciliationDTO;
+
+import java.util.Map;
+import java.util.Optional;
+
+public interface GradeSummaryService {
+
+    Optional<Double> getAverageGrade(Long studentId);
+
+    void recordGrade(Long studentId, int previousGrade, int grade);
+
+    void recordGrades(Map<Long, Integer> previousGrades, Map<Long, Integer> grades);
+
+    boolean isEmpty();
+
+    GradeSummaryReconciliationDTO reconcile();
+
+}
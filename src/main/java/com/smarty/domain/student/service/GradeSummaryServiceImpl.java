@@ -0,0 +1,155 @@
+package com.smarty.domain.student.service;
+
+import com.smarty.domain.student.entity.GradeSummary;
+import com.smarty.domain.student.model.GradeSummaryDriftDTO;
+import com.smarty.domain.student.model.GradeSummaryReconciliationDTO;
+import com.smarty.domain.student.repository.GradeSummaryRepository;
+import com.smarty.infrastructure.persistence.Drift;
+import com.smarty.infrastructure.persistence.ReconciledStore;
+import com.smarty.infrastructure.persistence.Reconciler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@Transactional(readOnly = true)
+public class GradeSummaryServiceImpl implements GradeSummaryService {
+
+    private static final int MIN_PASSING_GRADE = 6;
+    private static final String RECORD_GRADES = "INSERT INTO grade_summary (student_id, passed_exams, grade_sum) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE passed_exams = passed_exams + VALUES(passed_exams), grade_sum = grade_sum + VALUES(grade_sum)";
+
+    private final GradeSummaryRepository gradeSummaryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Reconciler reconciler;
+
+    @Autowired
+    public GradeSummaryServiceImpl(GradeSummaryRepository gradeSummaryRepository, JdbcTemplate jdbcTemplate, Reconciler reconciler) {
+        this.gradeSummaryRepository = gradeSummaryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.reconciler = reconciler;
+    }
+
+    @Override
+    public Optional<Double> getAverageGrade(Long studentId) {
+        return gradeSummaryRepository.findById(studentId).map(GradeSummary::getAverageGrade);
+    }
+
+    @Override
+    @Transactional
+    public void recordGrade(Long studentId, int previousGrade, int grade) {
+        int passedExams = getPassedExamsDelta(previousGrade, grade);
+        int gradeSum = getGradeSumDelta(previousGrade, grade);
+
+        if (passedExams != 0 || gradeSum != 0) {
+            gradeSummaryRepository.record(studentId, passedExams, gradeSum);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordGrades(Map<Long, Integer> previousGrades, Map<Long, Integer> grades) {
+        var gradeDeltas = grades.entrySet()
+                .stream()
+                .map(grade -> {
+                    int previousGrade = previousGrades.getOrDefault(grade.getKey(), 0);
+
+                    return new Object[]{grade.getKey(), getPassedExamsDelta(previousGrade, grade.getValue()),
+                            getGradeSumDelta(previousGrade, grade.getValue())};
+                })
+                .filter(delta -> (int) delta[1] != 0 || (int) delta[2] != 0)
+                .toList();
+
+        if (!gradeDeltas.isEmpty()) {
+            jdbcTemplate.batchUpdate(RECORD_GRADES, gradeDeltas);
+        }
+    }
+
+    private int getPassedExamsDelta(int previousGrade, int grade) {
+        return (isPassed(grade) ? 1 : 0) - (isPassed(previousGrade) ? 1 : 0);
+    }
+
+    private int getGradeSumDelta(int previousGrade, int grade) {
+        return (isPassed(grade) ? grade : 0) - (isPassed(previousGrade) ? previousGrade : 0);
+    }
+
+    private boolean isPassed(int grade) {
+        return grade >= MIN_PASSING_GRADE;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return gradeSummaryRepository.count() == 0;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public GradeSummaryReconciliationDTO reconcile() {
+        var reconciliation = reconciler.reconcile(new GradeSummaryStore());
+        var drifts = reconciliation.drifts()
+                .stream()
+                .map(drift -> toDriftDTO(drift.recorded(), drift.actual()))
+                .toList();
+
+        return new GradeSummaryReconciliationDTO(reconciliation.entries(), drifts.size(), drifts);
+    }
+
+    private GradeSummaryDriftDTO toDriftDTO(GradeSummary recordedSummary, GradeSummary actualSummary) {
+        return new GradeSummaryDriftDTO(
+                actualSummary.getStudentId(),
+                recordedSummary.getPassedExams(),
+                actualSummary.getPassedExams(),
+                recordedSummary.getGradeSum(),
+                actualSummary.getGradeSum());
+    }
+
+    private class GradeSummaryStore implements ReconciledStore<Long, GradeSummary> {
+
+        @Override
+        public List<GradeSummary> findRecorded() {
+            return gradeSummaryRepository.findAll();
+        }
+
+        @Override
+        public List<GradeSummary> calculateActual() {
+            return gradeSummaryRepository.calculateGradeSummaries();
+        }
+
+        @Override
+        public Long getKey(GradeSummary gradeSummary) {
+            return gradeSummary.getStudentId();
+        }
+
+        @Override
+        public GradeSummary empty(Long studentId) {
+            return new GradeSummary(studentId, 0, 0);
+        }
+
+        @Override
+        public boolean matches(GradeSummary recordedSummary, GradeSummary actualSummary) {
+            return recordedSummary.matches(actualSummary);
+        }
+
+        @Override
+        public Optional<Drift<GradeSummary>> repair(Long studentId) {
+            var recordedSummary = gradeSummaryRepository.findForUpdate(studentId).orElseGet(() -> empty(studentId));
+            var actualSummary = gradeSummaryRepository.calculateGradeSummary(studentId).orElseGet(() -> empty(studentId));
+
+            if (recordedSummary.matches(actualSummary)) {
+                return Optional.empty();
+            }
+
+            gradeSummaryRepository.replace(studentId, actualSummary.getPassedExams(), actualSummary.getGradeSum());
+
+            return Optional.of(new Drift<>(recordedSummary, actualSummary));
+        }
+
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.smarty.domain.student.service;
+
+import com.smarty.domain.student.model.StudentEnrollmentReportDTO;
+import com.smarty.domain.student.model.StudentRequestDTO;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface StudentEnrollmentService {
+
+    StudentEnrollmentReportDTO enrollStudents(List<StudentRequestDTO> studentDTOs);
+
+    StudentEnrollmentReportDTO enrollStudents(InputStream csv);
+
+}
@@ -0,0 +1,305 @@
+package com.smarty.domain.student.service;
+
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.account.model.AccountRequestDTO;
+import com.smarty.domain.account.service.AccountService;
+import com.smarty.domain.major.service.MajorService;
+import com.smarty.domain.status.service.StatusService;
+import com.smarty.domain.student.event.StudentEnrolled;
+import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.student.model.StudentEnrollmentReportDTO;
+import com.smarty.domain.student.model.StudentEnrollmentResultDTO;
+import com.smarty.domain.student.model.StudentRequestDTO;
+import com.smarty.domain.student.repository.StudentRepository;
+import com.smarty.infrastructure.csv.CsvReader;
+import com.smarty.infrastructure.csv.CsvRow;
+import com.smarty.infrastructure.event.DomainEventPublisher;
+import com.smarty.infrastructure.handler.exceptions.ConflictException;
+import com.smarty.infrastructure.mapper.StudentMapper;
+import com.smarty.infrastructure.persistence.UniqueConstraints;
+import com.smarty.infrastructure.security.BoundedPasswordEncoder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class StudentEnrollmentServiceImpl implements StudentEnrollmentService {
+
+    private final StudentRepository studentRepository;
+    private final StudentMapper studentMapper;
+    private final MajorService majorService;
+    private final StatusService statusService;
+    private final AccountService accountService;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public StudentEnrollmentServiceImpl(StudentRepository studentRepository,
+                                        StudentMapper studentMapper,
+                                        MajorService majorService,
+                                        StatusService statusService,
+                                        AccountService accountService,
+                                        BoundedPasswordEncoder passwordEncoder,
+                                        Validator validator,
+                                        DomainEventPublisher domainEventPublisher,
+                                        PlatformTransactionManager transactionManager) {
+        this.studentRepository = studentRepository;
+        this.studentMapper = studentMapper;
+        this.majorService = majorService;
+        this.statusService = statusService;
+        this.accountService = accountService;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.domainEventPublisher = domainEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StudentEnrollmentReportDTO enrollStudents(List<StudentRequestDTO> studentDTOs) {
+        List<EnrollmentRow> rows = new ArrayList<>(studentDTOs.size());
+
+        for (int i = 0; i < studentDTOs.size(); i++) {
+            rows.add(new EnrollmentRow(i + 1, studentDTOs.get(i)));
+        }
+
+        return enroll(rows);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StudentEnrollmentReportDTO enrollStudents(InputStream csv) {
+        List<EnrollmentRow> rows = new ArrayList<>();
+
+        try (var csvReader = new CsvReader(csv)) {
+            CsvRow csvRow;
+
+            while ((csvRow = csvReader.next()) != null) {
+                rows.add(toEnrollmentRow(csvRow));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return enroll(rows);
+    }
+
+    private EnrollmentRow toEnrollmentRow(CsvRow csvRow) {
+        try {
+            var role = csvRow.get("role");
+            var account = new AccountRequestDTO(csvRow.get("email"), csvRow.get("password"),
+                    role == null ? Role.STUDENT : Role.valueOf(role.toUpperCase()));
+            var studentDTO = new StudentRequestDTO(
+                    csvRow.get("name"),
+                    csvRow.get("surname"),
+                    Objects.requireNonNullElse(csvRow.getInt("index"), 0),
+                    Objects.requireNonNullElse(csvRow.getInt("year"), 0),
+                    Objects.requireNonNullElse(csvRow.getInt("semester"), 0),
+                    csvRow.getLong("majorId"),
+                    csvRow.getLong("statusId"),
+                    account);
+
+            return new EnrollmentRow(csvRow.number(), studentDTO);
+        } catch (IllegalArgumentException e) {
+            var row = new EnrollmentRow(csvRow.number(), null);
+            row.reject("Entered value is not a valid type");
+
+            return row;
+        }
+    }
+
+    private StudentEnrollmentReportDTO enroll(List<EnrollmentRow> rows) {
+        validateRows(rows);
+        validateUniqueness(rows);
+        encodePasswords(rows);
+        saveStudents(rows);
+
+        return toReport(rows);
+    }
+
+    private void saveStudents(List<EnrollmentRow> rows) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                resolveMajorsAndStatuses(rows);
+
+                var acceptedRows = rows.stream().filter(EnrollmentRow::isAccepted).toList();
+                studentRepository.saveAllAndFlush(acceptedRows.stream().map(row -> row.student).toList());
+                acceptedRows.forEach(row -> domainEventPublisher.publish(
+                        new StudentEnrolled(row.student.getId(), row.student.getMajor().getId(), row.student.getYear())));
+            });
+        } catch (DataIntegrityViolationException e) {
+            var conflict = UniqueConstraints.translate(e, Map.of(
+                    Account.UNIQUE_EMAIL, "Account with one of the listed emails already exists",
+                    Student.UNIQUE_INDEX, "Student with one of the listed indexes already exists"));
+
+            if (!(conflict instanceof ConflictException) || !rejectConflictingRows(rows)) {
+                throw conflict;
+            }
+
+            saveStudents(rows);
+        }
+    }
+
+    private boolean rejectConflictingRows(List<EnrollmentRow> rows) {
+        var acceptedRows = rows.stream().filter(EnrollmentRow::isAccepted).count();
+
+        transactionTemplate.executeWithoutResult(status -> validateUniqueness(rows));
+
+        return rows.stream().filter(EnrollmentRow::isAccepted).count() < acceptedRows;
+    }
+
+    private void encodePasswords(List<EnrollmentRow> rows) {
+        var acceptedRows = rows.stream().filter(EnrollmentRow::isAccepted).toList();
+        var encodedPasswords = passwordEncoder.encodeAll(acceptedRows
+                .stream()
+                .map(row -> row.studentDTO.account().password())
+                .toList());
+
+        for (int i = 0; i < acceptedRows.size(); i++) {
+            acceptedRows.get(i).encodedPassword = encodedPasswords.get(i);
+        }
+    }
+
+    private void validateRows(List<EnrollmentRow> rows) {
+        Map<String, Integer> emails = new HashMap<>();
+        Map<Integer, Integer> indexes = new HashMap<>();
+
+        for (var row : rows.stream().filter(EnrollmentRow::isAccepted).toList()) {
+            var studentDTO = row.studentDTO;
+
+            if (studentDTO.account() == null) {
+                row.reject("Account can't be null");
+                continue;
+            }
+
+            var violations = validator.validate(studentDTO);
+
+            if (!violations.isEmpty()) {
+                row.reject(violations
+                        .stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+
+            var duplicateEmailRow = emails.putIfAbsent(studentDTO.account().email(), row.number);
+            var duplicateIndexRow = indexes.putIfAbsent(studentDTO.index(), row.number);
+
+            if (duplicateEmailRow != null) {
+                row.reject("Account with email %s is already listed in row %d".formatted(studentDTO.account().email(), duplicateEmailRow));
+            } else if (duplicateIndexRow != null) {
+                row.reject("Student with index %d is already listed in row %d".formatted(studentDTO.index(), duplicateIndexRow));
+            }
+        }
+    }
+
+    private void validateUniqueness(List<EnrollmentRow> rows) {
+        var acceptedRows = rows.stream().filter(EnrollmentRow::isAccepted).toList();
+        var existingEmails = accountService.getExistingEmails(acceptedRows
+                .stream()
+                .map(row -> row.studentDTO.account().email())
+                .collect(Collectors.toSet()));
+        var existingIndexes = acceptedRows.isEmpty() ? Set.<Integer>of() : studentRepository.findExistingIndexes(acceptedRows
+                .stream()
+                .map(row -> row.studentDTO.index())
+                .collect(Collectors.toSet()));
+
+        for (var row : acceptedRows) {
+            if (existingEmails.contains(row.studentDTO.account().email())) {
+                row.reject("Account with email %s already exists".formatted(row.studentDTO.account().email()));
+            } else if (existingIndexes.contains(row.studentDTO.index())) {
+                row.reject("Student with index %d already exists".formatted(row.studentDTO.index()));
+            }
+        }
+    }
+
+    private void resolveMajorsAndStatuses(List<EnrollmentRow> rows) {
+        var acceptedRows = rows.stream().filter(EnrollmentRow::isAccepted).toList();
+        var majors = majorService.getMajorsByIds(acceptedRows
+                .stream()
+                .map(row -> row.studentDTO.majorId())
+                .collect(Collectors.toSet()));
+        var statuses = statusService.getStatusesByIds(acceptedRows
+                .stream()
+                .map(row -> row.studentDTO.statusId())
+                .collect(Collectors.toSet()));
+
+        for (var row : acceptedRows) {
+            var major = majors.get(row.studentDTO.majorId());
+            var status = statuses.get(row.studentDTO.statusId());
+
+            if (major == null) {
+                row.reject("Major with id %d doesn't exist".formatted(row.studentDTO.majorId()));
+            } else if (status == null) {
+                row.reject("Status with id %d doesn't exist".formatted(row.studentDTO.statusId()));
+            } else {
+                row.student = studentMapper.toStudent(row.studentDTO);
+                row.student.getAccount().setPassword(row.encodedPassword);
+                row.student.setMajor(major);
+                row.student.setStatus(status);
+            }
+        }
+    }
+
+    private StudentEnrollmentReportDTO toReport(List<EnrollmentRow> rows) {
+        var results = rows
+                .stream()
+                .map(EnrollmentRow::toResultDTO)
+                .toList();
+        int enrolled = (int) results.stream().filter(StudentEnrollmentResultDTO::enrolled).count();
+
+        return new StudentEnrollmentReportDTO(results.size(), enrolled, results.size() - enrolled, results);
+    }
+
+    private static final class EnrollmentRow {
+
+        private final int number;
+        private final StudentRequestDTO studentDTO;
+        private Student student;
+        private String encodedPassword;
+        private String error;
+
+        private EnrollmentRow(int number, StudentRequestDTO studentDTO) {
+            this.number = number;
+            this.studentDTO = studentDTO;
+        }
+
+        private boolean isAccepted() {
+            return error == null;
+        }
+
+        private void reject(String error) {
+            this.error = error;
+        }
+
+        private StudentEnrollmentResultDTO toResultDTO() {
+            var email = studentDTO == null || studentDTO.account() == null ? null : studentDTO.account().email();
+            var index = studentDTO == null ? null : studentDTO.index();
+
+            if (!isAccepted()) {
+                return new StudentEnrollmentResultDTO(number, false, null, index, email, error);
+            }
+
+            return new StudentEnrollmentResultDTO(number, true, student.getId(), index, email, "Student enrolled");
+        }
+
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.smarty.domain.student.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+public interface StudentEventService {
+
+    ResponseBodyEmitter subscribe(Long studentId);
+
+}
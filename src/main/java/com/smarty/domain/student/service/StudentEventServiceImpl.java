@@ -0,0 +1,50 @@
+package com.smarty.domain.student.service;
+
+import com.smarty.domain.activity.event.ActivityRecorded;
+import com.smarty.domain.exam.event.ExamGraded;
+import com.smarty.infrastructure.event.DomainEvent;
+import com.smarty.infrastructure.event.DomainEventListener;
+import com.smarty.infrastructure.security.AuthenticationService;
+import com.smarty.infrastructure.streaming.SseDispatcher;
+import com.smarty.infrastructure.streaming.SseRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+@Service
+public class StudentEventServiceImpl implements StudentEventService, DomainEventListener {
+
+    private static final String ACTIVITY_RECORDED = "activity-recorded";
+    private static final String EXAM_GRADED = "exam-graded";
+
+    private final StudentService studentService;
+    private final AuthenticationService authenticationService;
+    private final SseRegistry<Long> sseRegistry;
+
+    @Autowired
+    public StudentEventServiceImpl(StudentService studentService,
+                                   AuthenticationService authenticationService,
+                                   SseDispatcher sseDispatcher) {
+        this.studentService = studentService;
+        this.authenticationService = authenticationService;
+        this.sseRegistry = new SseRegistry<>(sseDispatcher);
+    }
+
+    @Override
+    public ResponseBodyEmitter subscribe(Long studentId) {
+        var student = studentService.getStudentById(studentId);
+        authenticationService.canAccessStudent(student.account().email());
+
+        return sseRegistry.subscribe(studentId);
+    }
+
+    @Override
+    public void on(DomainEvent event) {
+        if (event instanceof ActivityRecorded activityRecorded) {
+            sseRegistry.publish(activityRecorded.studentId(), ACTIVITY_RECORDED, activityRecorded);
+        } else if (event instanceof ExamGraded examGraded) {
+            sseRegistry.publish(examGraded.studentId(), EXAM_GRADED, examGraded);
+        }
+    }
+
+}
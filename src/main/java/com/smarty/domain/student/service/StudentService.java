@@ -2,12 +2,15 @@ package com.smarty.domain.student.service;
 
 import com.smarty.domain.student.entity.Student;
 import com.smarty.domain.student.model.PasswordDTO;
+import com.smarty.domain.student.model.StudentAverageGradeDTO;
 import com.smarty.domain.student.model.StudentRequestDTO;
 import com.smarty.domain.student.model.StudentResponseDTO;
 import com.smarty.domain.student.model.StudentUpdateDTO;
+import com.smarty.infrastructure.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.OutputStream;
 import java.util.List;
 
 public interface StudentService {
@@ -16,22 +19,40 @@ public interface StudentService {
 
     Page<StudentResponseDTO> getAllStudents(Pageable pageable);
 
+    CursorPage<StudentResponseDTO> scrollStudents(String cursor, int size);
+
     StudentResponseDTO getStudentById(Long id);
 
     Student getById(Long id);
 
+    Student getReferenceById(Long id);
+
     Double getAverageGradeOfStudent(Long id);
 
+    Page<StudentAverageGradeDTO> getAverageGrades(Long majorId, Integer year, Pageable pageable);
+
     StudentResponseDTO getStudentByEmail(String email);
 
     void existsById(Long id);
 
     List<StudentResponseDTO> getStudentsByMajor(Long majorId);
 
+    Page<StudentResponseDTO> getStudentsByMajor(Long majorId, Pageable pageable);
+
+    void streamStudentsByMajor(Long majorId, OutputStream outputStream);
+
     List<StudentResponseDTO> getStudentsByStudyStatus(Long statusId);
 
+    Page<StudentResponseDTO> getStudentsByStudyStatus(Long statusId, Pageable pageable);
+
+    void streamStudentsByStudyStatus(Long statusId, OutputStream outputStream);
+
     List<StudentResponseDTO> getStudentsWhoPassedCertainCourse(Long courseId);
 
+    Page<StudentResponseDTO> getStudentsWhoPassedCertainCourse(Long courseId, Pageable pageable);
+
+    void streamStudentsWhoPassedCertainCourse(Long courseId, OutputStream outputStream);
+
     StudentResponseDTO updateStudent(Long id, StudentUpdateDTO studentDTO);
 
     StudentResponseDTO updatePassword(Long id, PasswordDTO passwordDTO);
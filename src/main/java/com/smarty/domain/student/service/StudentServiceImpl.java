@@ -1,31 +1,49 @@
 package com.smarty.domain.student.service;
 
-import com.smarty.domain.account.service.AccountService;
+import com.smarty.domain.account.entity.Account;
 import com.smarty.domain.course.service.CourseService;
 import com.smarty.domain.major.service.MajorService;
 import com.smarty.domain.status.service.StatusService;
+import com.smarty.domain.student.event.StudentDeleted;
+import com.smarty.domain.student.event.StudentEnrolled;
+import com.smarty.domain.student.event.StudentUpdated;
 import com.smarty.domain.student.entity.Student;
 import com.smarty.domain.student.model.PasswordDTO;
+import com.smarty.domain.student.model.StudentAverageGradeDTO;
 import com.smarty.domain.student.model.StudentRequestDTO;
 import com.smarty.domain.student.model.StudentResponseDTO;
 import com.smarty.domain.student.model.StudentUpdateDTO;
+import com.smarty.domain.student.model.StudentView;
 import com.smarty.domain.student.repository.StudentRepository;
-import com.smarty.infrastructure.handler.exceptions.ConflictException;
+import com.smarty.infrastructure.event.DomainEventPublisher;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.StudentMapper;
+import com.smarty.infrastructure.pagination.CursorPage;
+import com.smarty.infrastructure.pagination.CursorToken;
+import com.smarty.infrastructure.persistence.UniqueConstraints;
 import com.smarty.infrastructure.security.AuthenticationService;
+import com.smarty.infrastructure.streaming.JsonStreamWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class StudentServiceImpl implements StudentService {
 
     private static final String STUDENT_NOT_EXISTS = "Student with id %d doesn't exist";
@@ -34,9 +52,12 @@ public class StudentServiceImpl implements StudentService {
     private final StudentMapper studentMapper;
     private final MajorService majorService;
     private final StatusService statusService;
-    private final AccountService accountService;
     private final CourseService courseService;
     private final AuthenticationService authenticationService;
+    private final GradeSummaryService gradeSummaryService;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TransactionTemplate transactionTemplate;
     private PasswordEncoder passwordEncoder;
 
     @Autowired
@@ -44,32 +65,42 @@ public class StudentServiceImpl implements StudentService {
                               StudentMapper studentMapper,
                               MajorService majorService,
                               StatusService statusService,
-                              AccountService accountService,
                               @Lazy CourseService courseService,
-                              AuthenticationService authenticationService) {
+                              AuthenticationService authenticationService,
+                              GradeSummaryService gradeSummaryService,
+                              JsonStreamWriter jsonStreamWriter,
+                              DomainEventPublisher domainEventPublisher,
+                              PlatformTransactionManager transactionManager) {
         this.studentRepository = studentRepository;
         this.studentMapper = studentMapper;
         this.majorService = majorService;
         this.statusService = statusService;
-        this.accountService = accountService;
         this.courseService = courseService;
         this.authenticationService = authenticationService;
+        this.gradeSummaryService = gradeSummaryService;
+        this.jsonStreamWriter = jsonStreamWriter;
+        this.domainEventPublisher = domainEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StudentResponseDTO createStudent(StudentRequestDTO studentDTO) {
+        var encryptedPassword = encodePassword(studentDTO.account().password());
+
+        return transactionTemplate.execute(status -> createStudent(studentDTO, encryptedPassword));
+    }
+
+    private StudentResponseDTO createStudent(StudentRequestDTO studentDTO, String encryptedPassword) {
         Student student = studentMapper.toStudent(studentDTO);
         var major = majorService.getById(studentDTO.majorId());
         var status = statusService.getStatusById(studentDTO.statusId());
-        accountService.existsByEmail(studentDTO.account().email());
-
-        var encryptedPassword = encodePassword(studentDTO.account().password());
 
         student.setMajor(major);
         student.setStatus(status);
         student.getAccount().setPassword(encryptedPassword);
-        validateIndex(studentDTO.index());
-        studentRepository.save(student);
+        saveStudent(student);
+        domainEventPublisher.publish(new StudentEnrolled(student.getId(), major.getId(), student.getYear()));
 
         return studentMapper.toStudentResponseDTO(student);
     }
@@ -78,15 +109,27 @@ public class StudentServiceImpl implements StudentService {
         return passwordEncoder.encode(password);
     }
 
-    private void validateIndex(int index) {
-        if (studentRepository.existsByIndex(index)) {
-            throw new ConflictException("Student with index %d already exists".formatted(index));
+    private void saveStudent(Student student) {
+        try {
+            studentRepository.saveAndFlush(student);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, Map.of(
+                    Account.UNIQUE_EMAIL, "Account with email %s already exists".formatted(student.getAccount().getEmail()),
+                    Student.UNIQUE_INDEX, "Student with index %d already exists".formatted(student.getIndex())));
         }
     }
 
     @Override
     public Page<StudentResponseDTO> getAllStudents(Pageable pageable) {
-        return studentRepository.findAll(pageable).map(studentMapper::toStudentResponseDTO);
+        return studentRepository.findStudents(pageable).map(StudentView::toStudentResponseDTO);
+    }
+
+    @Override
+    public CursorPage<StudentResponseDTO> scrollStudents(String cursor, int size) {
+        var students = studentRepository.findStudentsAfter(CursorToken.decodeId(cursor), CursorToken.limit(size));
+
+        return CursorPage.of(students, CursorToken.size(size), student -> CursorToken.encode(student.id()))
+                .map(StudentView::toStudentResponseDTO);
     }
 
     @Override
@@ -104,11 +147,32 @@ public class StudentServiceImpl implements StudentService {
         return optionalStudent.get();
     }
 
+    @Override
+    public Student getReferenceById(Long id) {
+        return studentRepository.getReferenceById(id);
+    }
+
     @Override
     public Double getAverageGradeOfStudent(Long id) {
-        existsById(id);
+        var averageGrade = gradeSummaryService.getAverageGrade(id);
 
-        return studentRepository.findAverageGradeOfStudent(id);
+        if (averageGrade.isEmpty()) {
+            existsById(id);
+        }
+
+        return averageGrade.orElse(null);
+    }
+
+    @Override
+    public Page<StudentAverageGradeDTO> getAverageGrades(Long majorId, Integer year, Pageable pageable) {
+        var averageGrades = studentRepository.findAverageGrades(majorId, year,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+
+        if (averageGrades.getTotalElements() == 0 && majorId != null) {
+            majorService.existsById(majorId);
+        }
+
+        return averageGrades;
     }
 
     @Override
@@ -131,74 +195,144 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     public List<StudentResponseDTO> getStudentsByMajor(Long majorId) {
-        List<Student> studentsByMajor = studentRepository.findStudentsByMajor_Id(majorId);
-        majorService.existsById(majorId);
+        List<StudentView> studentsByMajor = studentRepository.findStudentsByMajor(majorId);
 
         if (studentsByMajor.isEmpty()) {
+            majorService.existsById(majorId);
             throw new NotFoundException("List of students by major is empty");
         }
 
         return getStudentListResponseDTO(studentsByMajor);
     }
 
+    @Override
+    public Page<StudentResponseDTO> getStudentsByMajor(Long majorId, Pageable pageable) {
+        var studentsByMajor = studentRepository.findStudentsByMajor(majorId, pageable);
+
+        if (studentsByMajor.isEmpty()) {
+            majorService.existsById(majorId);
+        }
+
+        return studentsByMajor.map(StudentView::toStudentResponseDTO);
+    }
+
+    @Override
+    public void streamStudentsByMajor(Long majorId, OutputStream outputStream) {
+        majorService.existsById(majorId);
+
+        jsonStreamWriter.writeArray(studentRepository.streamStudentsByMajor(majorId),
+                StudentView::toStudentResponseDTO, outputStream);
+    }
+
     @Override
     public List<StudentResponseDTO> getStudentsByStudyStatus(Long statusId) {
-        List<Student> studentsByStudyStatus = studentRepository.findStudentsByStatus_Id(statusId);
-        statusService.existsById(statusId);
+        List<StudentView> studentsByStudyStatus = studentRepository.findStudentsByStatus(statusId);
 
         if (studentsByStudyStatus.isEmpty()) {
+            statusService.existsById(statusId);
             throw new NotFoundException("List of students by study status is empty");
         }
 
         return getStudentListResponseDTO(studentsByStudyStatus);
     }
 
+    @Override
+    public Page<StudentResponseDTO> getStudentsByStudyStatus(Long statusId, Pageable pageable) {
+        var studentsByStudyStatus = studentRepository.findStudentsByStatus(statusId, pageable);
+
+        if (studentsByStudyStatus.isEmpty()) {
+            statusService.existsById(statusId);
+        }
+
+        return studentsByStudyStatus.map(StudentView::toStudentResponseDTO);
+    }
+
+    @Override
+    public void streamStudentsByStudyStatus(Long statusId, OutputStream outputStream) {
+        statusService.existsById(statusId);
+
+        jsonStreamWriter.writeArray(studentRepository.streamStudentsByStatus(statusId),
+                StudentView::toStudentResponseDTO, outputStream);
+    }
+
     @Override
     public List<StudentResponseDTO> getStudentsWhoPassedCertainCourse(Long courseId) {
-        List<Student> studentsWhoPassedCertainCourse = studentRepository.findStudentsWhoPassedCertainCourse(courseId);
-        courseService.existsById(courseId);
+        List<StudentView> studentsWhoPassedCertainCourse = studentRepository.findStudentsWhoPassedCertainCourse(courseId);
 
         if (studentsWhoPassedCertainCourse.isEmpty()) {
+            courseService.existsById(courseId);
             throw new NotFoundException("There are 0 students that passed course with id %d".formatted(courseId));
         }
 
         return getStudentListResponseDTO(studentsWhoPassedCertainCourse);
     }
 
-    private List<StudentResponseDTO> getStudentListResponseDTO(List<Student> studentList) {
+    @Override
+    public Page<StudentResponseDTO> getStudentsWhoPassedCertainCourse(Long courseId, Pageable pageable) {
+        var studentsWhoPassedCertainCourse = studentRepository.findStudentsWhoPassedCertainCourse(courseId, pageable);
+
+        if (studentsWhoPassedCertainCourse.isEmpty()) {
+            courseService.existsById(courseId);
+        }
+
+        return studentsWhoPassedCertainCourse.map(StudentView::toStudentResponseDTO);
+    }
+
+    @Override
+    public void streamStudentsWhoPassedCertainCourse(Long courseId, OutputStream outputStream) {
+        courseService.existsById(courseId);
+
+        jsonStreamWriter.writeArray(studentRepository.streamStudentsWhoPassedCertainCourse(courseId),
+                StudentView::toStudentResponseDTO, outputStream);
+    }
+
+    private List<StudentResponseDTO> getStudentListResponseDTO(List<StudentView> studentList) {
         return studentList
                 .stream()
-                .map(studentMapper::toStudentResponseDTO)
+                .map(StudentView::toStudentResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StudentResponseDTO updateStudent(Long id, StudentUpdateDTO studentDTO) {
+        var encryptedPassword = encodePassword(studentDTO.account().password());
+
+        return transactionTemplate.execute(status -> updateStudent(id, studentDTO, encryptedPassword));
+    }
+
+    private StudentResponseDTO updateStudent(Long id, StudentUpdateDTO studentDTO, String encryptedPassword) {
         Student student = getById(id);
         var major = majorService.getById(studentDTO.majorId());
         var status = statusService.getStatusById(studentDTO.statusId());
         studentMapper.updateStudentFromDTO(studentDTO, student);
 
-        var encryptedPassword = encodePassword(studentDTO.account().password());
-
         student.setMajor(major);
         student.setStatus(status);
         student.getAccount().setPassword(encryptedPassword);
         studentRepository.save(student);
+        authenticationService.evictAccount(student.getAccount().getEmail());
+        domainEventPublisher.publish(new StudentUpdated(student.getId(), major.getId(), status.getId(), student.getYear(), student.getSemester()));
 
         return studentMapper.toStudentResponseDTO(student);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StudentResponseDTO updatePassword(Long id, PasswordDTO passwordDTO) {
-        Student student = getById(id);
-
-        authenticationService.canUpdatePassword(student.getAccount().getEmail());
+        authenticationService.canUpdatePassword(getById(id).getAccount().getEmail());
         arePasswordsMatching(passwordDTO.password(), passwordDTO.confirmedPassword());
         var encryptedPassword = encodePassword(passwordDTO.password());
 
+        return transactionTemplate.execute(status -> updatePassword(id, encryptedPassword));
+    }
+
+    private StudentResponseDTO updatePassword(Long id, String encryptedPassword) {
+        Student student = getById(id);
+
         student.getAccount().setPassword(encryptedPassword);
         studentRepository.save(student);
+        authenticationService.evictAccount(student.getAccount().getEmail());
 
         return studentMapper.toStudentResponseDTO(student);
     }
@@ -210,10 +344,13 @@ public class StudentServiceImpl implements StudentService {
     }
 
     @Override
+    @Transactional
     public void deleteStudent(Long id) {
-        existsById(id);
+        Student student = getById(id);
 
-        studentRepository.deleteById(id);
+        studentRepository.delete(student);
+        authenticationService.evictAccount(student.getAccount().getEmail());
+        domainEventPublisher.publish(new StudentDeleted(student.getId()));
     }
 
     @Autowired
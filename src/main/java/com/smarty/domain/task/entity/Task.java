@@ -3,12 +3,21 @@ package com.smarty.domain.task.entity;
 import com.smarty.domain.course.entity.Course;
 import com.smarty.domain.task.enums.Type;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity(name = "task")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task")
+@NamedEntityGraph(name = "task.details", attributeNodes = @NamedAttributeNode("course"))
+@Table(uniqueConstraints = @UniqueConstraint(name = Task.UNIQUE_TYPE_COURSE, columnNames = {"type", "course_id"}))
 public class Task {
 
+    public static final String UNIQUE_TYPE_COURSE = "uk_task_type_course";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id")
+    @TableGenerator(name = "task_id", table = "id_generator", pkColumnValue = "task", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -21,7 +30,7 @@ public class Task {
     @Column(nullable = false)
     private int numberOfTasks;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
     private Course course;
 
@@ -1,9 +1,14 @@
 package com.smarty.domain.task.repository;
 
 import com.smarty.domain.task.entity.Task;
-import com.smarty.domain.task.enums.Type;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,8 +16,12 @@ import java.util.List;
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
-    boolean existsByTypeAndCourse_Id(Type type, Long courseId);
+    @Override
+    @EntityGraph("task.details")
+    Page<Task> findAll(Pageable pageable);
 
+    @EntityGraph("task.details")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Task> findByCourse_Id(Long courseId);
 
     @Query("SELECT SUM(t.maxPoints * t.numberOfTasks) FROM task t " +
@@ -1,26 +1,29 @@
 package com.smarty.domain.task.service;
 
+import com.smarty.domain.course.service.CourseCatalogService;
 import com.smarty.domain.course.service.CourseService;
 import com.smarty.domain.task.entity.Task;
-import com.smarty.domain.task.enums.Type;
 import com.smarty.domain.task.model.TaskRequestDTO;
 import com.smarty.domain.task.model.TaskResponseDTO;
 import com.smarty.domain.task.model.TaskUpdateDTO;
 import com.smarty.domain.task.repository.TaskRepository;
-import com.smarty.infrastructure.handler.exceptions.ConflictException;
 import com.smarty.infrastructure.handler.exceptions.ForbiddenException;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.TaskMapper;
+import com.smarty.infrastructure.persistence.UniqueConstraints;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class TaskServiceImpl implements TaskService {
 
     private static final String TASK_NOT_EXISTS = "Task with id %d doesn't exist";
@@ -29,32 +32,39 @@ public class TaskServiceImpl implements TaskService {
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final CourseService courseService;
+    private final CourseCatalogService courseCatalogService;
 
     @Autowired
     public TaskServiceImpl(TaskRepository taskRepository,
                            TaskMapper taskMapper,
-                           CourseService courseService) {
+                           CourseService courseService,
+                           CourseCatalogService courseCatalogService) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
         this.courseService = courseService;
+        this.courseCatalogService = courseCatalogService;
     }
 
     @Override
+    @Transactional
     public TaskResponseDTO createTask(TaskRequestDTO taskDTO) {
         Task task = taskMapper.toTask(taskDTO);
         var course = courseService.getById(taskDTO.courseId());
 
         task.setCourse(course);
-        validateTypeByCourse(taskDTO.type(), taskDTO.courseId());
         validateTotalTaskPointsByCourse(taskDTO.maxPoints(), taskDTO.numberOfTasks(), taskDTO.courseId());
-        taskRepository.save(task);
+        saveTask(task);
+        courseCatalogService.refreshAfterCommit();
 
         return taskMapper.toTaskResponseDTO(task);
     }
 
-    private void validateTypeByCourse(Type type, Long courseId) {
-        if (taskRepository.existsByTypeAndCourse_Id(type, courseId)) {
-            throw new ConflictException("Course with id %d already has type %s".formatted(courseId, type));
+    private void saveTask(Task task) {
+        try {
+            taskRepository.saveAndFlush(task);
+        } catch (DataIntegrityViolationException e) {
+            throw UniqueConstraints.translate(e, Map.of(Task.UNIQUE_TYPE_COURSE,
+                    "Course with id %d already has type %s".formatted(task.getCourse().getId(), task.getType())));
         }
     }
 
@@ -92,36 +102,37 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     public List<TaskResponseDTO> getTasksByCourse(Long courseId) {
-        List<Task> tasksByCourse = taskRepository.findByCourse_Id(courseId);
-        courseService.existsById(courseId);
+        List<TaskResponseDTO> tasksByCourse = courseCatalogService.getCatalog().getTasksByCourse(courseId);
 
         if (tasksByCourse.isEmpty()) {
+            courseService.existsById(courseId);
             throw new NotFoundException("There are 0 tasks for course with id %d".formatted(courseId));
         }
 
-        return tasksByCourse
-                .stream()
-                .map(taskMapper::toTaskResponseDTO)
-                .collect(Collectors.toList());
+        return tasksByCourse;
     }
 
     @Override
+    @Transactional
     public TaskResponseDTO updateTask(Long id, TaskUpdateDTO taskDTO) {
         Task task = getById(id);
         taskMapper.updateTaskFromDTO(taskDTO, task);
 
         taskRepository.save(task);
+        courseCatalogService.refreshAfterCommit();
 
         return taskMapper.toTaskResponseDTO(task);
     }
 
     @Override
+    @Transactional
     public void deleteTask(Long id) {
         if (!taskRepository.existsById(id)) {
             throw new NotFoundException(TASK_NOT_EXISTS.formatted(id));
         }
 
         taskRepository.deleteById(id);
+        courseCatalogService.refreshAfterCommit();
     }
 
 }
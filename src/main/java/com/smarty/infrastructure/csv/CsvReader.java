@@ -0,0 +1,108 @@
+package com.smarty.infrastructure.csv;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+public class CsvReader implements Closeable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final BufferedReader reader;
+    private final List<String> header;
+    private int lineNumber;
+
+    public CsvReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.header = readHeader();
+    }
+
+    private List<String> readHeader() {
+        var line = readLine();
+
+        if (line == null) {
+            return List.of();
+        }
+
+        return parseLine(line.replace("\uFEFF", ""))
+                .stream()
+                .map(String::trim)
+                .toList();
+    }
+
+    public CsvRow next() {
+        String line;
+
+        do {
+            line = readLine();
+        } while (line != null && line.isBlank());
+
+        if (line == null) {
+            return null;
+        }
+
+        var fields = parseLine(line);
+        var values = new HashMap<String, String>(header.size());
+
+        for (int i = 0; i < header.size() && i < fields.size(); i++) {
+            values.put(header.get(i), fields.get(i));
+        }
+
+        return new CsvRow(lineNumber - 1, values);
+    }
+
+    private String readLine() {
+        try {
+            var line = reader.readLine();
+
+            if (line != null) {
+                lineNumber++;
+            }
+
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        var field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char character = line.charAt(i);
+
+            if (quoted) {
+                if (character == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else if (character == QUOTE) {
+                    quoted = false;
+                } else {
+                    field.append(character);
+                }
+            } else if (character == QUOTE) {
+                quoted = true;
+            } else if (character == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(character);
+            }
+        }
+
+        fields.add(field.toString());
+
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
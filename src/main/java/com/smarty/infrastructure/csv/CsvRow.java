@@ -0,0 +1,36 @@
+package com.smarty.infrastructure.csv;
+
+import java.util.Map;
+
+public record CsvRow(
+
+        int number,
+        Map<String, String> values
+
+) {
+
+    public String get(String column) {
+        var value = values.get(column);
+
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    public Integer getInt(String column) {
+        var value = get(column);
+
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    public Long getLong(String column) {
+        var value = get(column);
+
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    public Double getDouble(String column) {
+        var value = get(column);
+
+        return value == null ? null : Double.valueOf(value);
+    }
+
+}
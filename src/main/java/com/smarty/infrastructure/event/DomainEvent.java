@@ -0,0 +1,11 @@
+package com.smarty.infrastructure.event;
+
+import java.time.Instant;
+
+public interface DomainEvent {
+
+    Object aggregateKey();
+
+    Instant occurredAt();
+
+}
@@ -0,0 +1,7 @@
+package com.smarty.infrastructure.event;
+
+public interface DomainEventListener {
+
+    void on(DomainEvent event);
+
+}
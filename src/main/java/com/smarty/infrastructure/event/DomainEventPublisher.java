@@ -0,0 +1,161 @@
+package com.smarty.infrastructure.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class DomainEventPublisher implements DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DomainEventPublisher.class);
+    private static final String METRIC_PREFIX = "smarty.events";
+
+    private final ObjectProvider<DomainEventListener> listenerProvider;
+    private final ObjectProvider<DomainEventRecorder> recorderProvider;
+    private final ThreadPoolExecutor[] lanes;
+    private final Timer lagTimer;
+    private final Counter shedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private volatile List<DomainEventListener> listeners;
+
+    @Autowired
+    public DomainEventPublisher(ObjectProvider<DomainEventListener> listenerProvider,
+                                ObjectProvider<DomainEventRecorder> recorderProvider,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.events.lanes}") int laneCount,
+                                @Value("${app.events.queue-capacity}") int queueCapacity) {
+        this.listenerProvider = listenerProvider;
+        this.recorderProvider = recorderProvider;
+        this.lanes = new ThreadPoolExecutor[laneCount];
+
+        for (int lane = 0; lane < laneCount; lane++) {
+            lanes[lane] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    new CustomizableThreadFactory("domain-events-%d-".formatted(lane)));
+        }
+
+        this.lagTimer = Timer.builder(METRIC_PREFIX + ".lag")
+                .register(meterRegistry);
+        this.shedCounter = Counter.builder(METRIC_PREFIX + ".shed")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".failed")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", lanes, executors -> Arrays
+                        .stream(executors)
+                        .mapToInt(executor -> executor.getQueue().size())
+                        .sum())
+                .register(meterRegistry);
+    }
+
+    public void publish(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Domain event %s must be published inside a transaction".formatted(event.getClass().getSimpleName()));
+        }
+
+        getPendingEvents().add(event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DomainEvent> getPendingEvents() {
+        var pendingEvents = (List<DomainEvent>) TransactionSynchronizationManager.getResource(this);
+
+        if (pendingEvents != null) {
+            return pendingEvents;
+        }
+
+        List<DomainEvent> transactionEvents = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, transactionEvents);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                recorderProvider.orderedStream().forEach(recorder -> recorder.record(transactionEvents));
+            }
+
+            @Override
+            public void afterCommit() {
+                dispatch(transactionEvents);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DomainEventPublisher.this);
+            }
+        });
+
+        return transactionEvents;
+    }
+
+    private void dispatch(List<DomainEvent> events) {
+        if (getListeners().isEmpty()) {
+            return;
+        }
+
+        for (var event : events) {
+            var lane = lanes[Math.floorMod(Objects.hashCode(event.aggregateKey()), lanes.length)];
+
+            try {
+                lane.execute(() -> deliver(event));
+            } catch (RejectedExecutionException e) {
+                if (lane.isShutdown()) {
+                    rejectedCounter.increment();
+                    LOGGER.warn("Domain event {} for key {} was dropped because its lane is shut down", event.getClass().getSimpleName(), event.aggregateKey());
+                } else {
+                    shedCounter.increment();
+                    LOGGER.warn("Domain event {} for key {} was shed because its lane is full", event.getClass().getSimpleName(), event.aggregateKey());
+                }
+            }
+        }
+    }
+
+    private void deliver(DomainEvent event) {
+        lagTimer.record(Duration.between(event.occurredAt(), Instant.now()));
+
+        for (var listener : getListeners()) {
+            try {
+                listener.on(event);
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                LOGGER.error("Listener {} failed on domain event {}", listener.getClass().getSimpleName(), event, e);
+            }
+        }
+    }
+
+    private List<DomainEventListener> getListeners() {
+        if (listeners == null) {
+            listeners = listenerProvider.orderedStream().toList();
+        }
+
+        return listeners;
+    }
+
+    @Override
+    public void destroy() {
+        Arrays.stream(lanes).forEach(ThreadPoolExecutor::shutdown);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.smarty.infrastructure.event;
+
+import java.util.List;
+
+public interface DomainEventRecorder {
+
+    void record(List<DomainEvent> events);
+
+}
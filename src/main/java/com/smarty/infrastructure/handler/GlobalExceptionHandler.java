@@ -1,7 +1,9 @@
 package com.smarty.infrastructure.handler;
 
 import com.smarty.infrastructure.handler.exceptions.BaseException;
+import com.smarty.infrastructure.handler.exceptions.ServiceUnavailableException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -48,6 +50,16 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, status);
     }
 
+    @ExceptionHandler(value = {ServiceUnavailableException.class})
+    public ResponseEntity<ApiErrorResponse> handleServiceUnavailableException(ServiceUnavailableException e) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ApiErrorResponse response = new ApiErrorResponse(e.getMessage(), status, TIMESTAMP);
+
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter()))
+                .body(response);
+    }
+
     @ExceptionHandler(value = {MethodArgumentTypeMismatchException.class, HttpMessageNotReadableException.class})
     public ResponseEntity<ApiErrorResponse> handleInvalidTypeException(Exception e) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
@@ -0,0 +1,13 @@
+package com.smarty.infrastructure.handler.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BadRequestException extends BaseException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.smarty.infrastructure.mapper;
+
+import com.smarty.domain.outbox.entity.OutboxEntry;
+import com.smarty.domain.outbox.model.OutboxEntryDTO;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface OutboxMapper {
+
+    OutboxEntryDTO toOutboxEntryDTO(OutboxEntry outboxEntry);
+
+}
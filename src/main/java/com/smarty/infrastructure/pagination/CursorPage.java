@@ -0,0 +1,26 @@
+package com.smarty.infrastructure.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(
+
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+
+) {
+
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursor) {
+        boolean hasNext = rows.size() > size;
+        var content = hasNext ? rows.subList(0, size) : rows;
+
+        return new CursorPage<>(content, content.size(), hasNext, hasNext ? cursor.apply(content.get(size - 1)) : null);
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+
+}
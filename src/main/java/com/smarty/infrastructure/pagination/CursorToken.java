@@ -0,0 +1,82 @@
+package com.smarty.infrastructure.pagination;
+
+import com.smarty.infrastructure.handler.exceptions.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+public final class CursorToken {
+
+    public static final int MAX_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+    private static final String INVALID_CURSOR = "Cursor %s is not valid";
+
+    private CursorToken() {
+    }
+
+    public static int size(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public static Pageable limit(int size) {
+        return PageRequest.ofSize(size(size) + 1);
+    }
+
+    public static String encode(Object... keys) {
+        var token = Arrays.stream(keys)
+                .map(String::valueOf)
+                .collect(Collectors.joining(SEPARATOR));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+
+        try {
+            return Long.valueOf(decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(INVALID_CURSOR.formatted(cursor));
+        }
+    }
+
+    public static LocalDateTime decodeTimestamp(String cursor) {
+        try {
+            return LocalDateTime.parse(decode(cursor, 2)[0]);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(INVALID_CURSOR.formatted(cursor));
+        }
+    }
+
+    public static Long decodeTimestampId(String cursor) {
+        try {
+            return Long.valueOf(decode(cursor, 2)[1]);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(INVALID_CURSOR.formatted(cursor));
+        }
+    }
+
+    private static String[] decode(String cursor, int keys) {
+        try {
+            var keyValues = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\" + SEPARATOR);
+
+            if (keyValues.length != keys) {
+                throw new BadRequestException(INVALID_CURSOR.formatted(cursor));
+            }
+
+            return keyValues;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(INVALID_CURSOR.formatted(cursor));
+        }
+    }
+
+}
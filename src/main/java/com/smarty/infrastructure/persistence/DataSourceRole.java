@@ -0,0 +1,5 @@
+package com.smarty.infrastructure.persistence;
+
+public enum DataSourceRole {
+    PRIMARY, REPLICA
+}
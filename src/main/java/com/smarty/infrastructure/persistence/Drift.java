@@ -0,0 +1,10 @@
+package com.smarty.infrastructure.persistence;
+
+public record Drift<T>(
+
+        T recorded,
+        T actual
+
+) {
+
+}
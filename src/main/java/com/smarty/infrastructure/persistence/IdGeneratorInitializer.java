@@ -0,0 +1,71 @@
+package com.smarty.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.metamodel.EntityType;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Field;
+
+@Component
+public class IdGeneratorInitializer implements SmartInitializingSingleton {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public IdGeneratorInitializer(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .getMetamodel()
+                .getEntities()
+                .stream()
+                .filter(EntityType::hasSingleIdAttribute)
+                .forEach(this::initialize));
+    }
+
+    private void initialize(EntityType<?> entityType) {
+        var idAttribute = entityType.getId(entityType.getIdType().getJavaType());
+
+        if (!(idAttribute.getJavaMember() instanceof Field idField)) {
+            return;
+        }
+
+        var tableGenerator = idField.getAnnotation(TableGenerator.class);
+
+        if (tableGenerator == null) {
+            return;
+        }
+
+        var maxId = entityManager
+                .createQuery("SELECT COALESCE(MAX(e.%s), 0) FROM %s e".formatted(idAttribute.getName(), entityType.getName()), Long.class)
+                .getSingleResult();
+        var nextValue = maxId + tableGenerator.allocationSize() + 1;
+
+        int updated = entityManager
+                .createNativeQuery("UPDATE %s SET next_val = GREATEST(next_val, :nextValue) WHERE sequence_name = :name".formatted(tableGenerator.table()))
+                .setParameter("nextValue", nextValue)
+                .setParameter("name", tableGenerator.pkColumnValue())
+                .executeUpdate();
+
+        if (updated == 0) {
+            entityManager
+                    .createNativeQuery("INSERT INTO %s (sequence_name, next_val) VALUES (:name, :nextValue)".formatted(tableGenerator.table()))
+                    .setParameter("name", tableGenerator.pkColumnValue())
+                    .setParameter("nextValue", nextValue)
+                    .executeUpdate();
+        }
+    }
+
+}
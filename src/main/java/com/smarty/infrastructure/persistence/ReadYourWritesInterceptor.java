@@ -0,0 +1,74 @@
+package com.smarty.infrastructure.persistence;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private final ThreadLocal<RequestState> requestState = new ThreadLocal<>();
+    private final Cache<String, Boolean> pinnedPrincipals;
+
+    public ReadYourWritesInterceptor(long window) {
+        this.pinnedPrincipals = CacheBuilder.newBuilder()
+                .expireAfterWrite(window, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        var principal = getPrincipal();
+        requestState.set(new RequestState(principal, principal != null && pinnedPrincipals.getIfPresent(principal) != null));
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception exception) {
+        var state = requestState.get();
+        requestState.remove();
+
+        if (state != null && state.wrote && state.principal != null) {
+            pinnedPrincipals.put(state.principal, Boolean.TRUE);
+        }
+    }
+
+    public boolean isPinned() {
+        var state = requestState.get();
+
+        return state != null && (state.pinned || state.wrote);
+    }
+
+    public void recordWrite() {
+        var state = requestState.get();
+
+        if (state != null) {
+            state.wrote = true;
+        }
+    }
+
+    private String getPrincipal() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        return authentication == null ? null : authentication.getName();
+    }
+
+    private static final class RequestState {
+
+        private final String principal;
+        private final boolean pinned;
+        private boolean wrote;
+
+        private RequestState(String principal, boolean pinned) {
+            this.principal = principal;
+            this.pinned = pinned;
+        }
+
+    }
+
+}
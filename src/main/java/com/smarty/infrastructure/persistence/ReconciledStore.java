@@ -0,0 +1,20 @@
+package com.smarty.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ReconciledStore<K, T> {
+
+    List<T> findRecorded();
+
+    List<T> calculateActual();
+
+    K getKey(T entry);
+
+    T empty(K key);
+
+    boolean matches(T recorded, T actual);
+
+    Optional<Drift<T>> repair(K key);
+
+}
@@ -0,0 +1,73 @@
+package com.smarty.infrastructure.persistence;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class Reconciler {
+
+    private final TransactionTemplate scanTemplate;
+    private final TransactionTemplate repairTemplate;
+
+    @Autowired
+    public Reconciler(PlatformTransactionManager transactionManager) {
+        this.scanTemplate = new TransactionTemplate(transactionManager);
+        this.scanTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.scanTemplate.setReadOnly(true);
+        this.repairTemplate = new TransactionTemplate(transactionManager);
+        this.repairTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <K, T> Reconciliation<T> reconcile(ReconciledStore<K, T> store) {
+        List<T> actualEntries = new ArrayList<>();
+        Set<K> driftedKeys = scanTemplate.execute(status -> {
+            actualEntries.addAll(store.calculateActual());
+
+            return findDriftedKeys(store, store.findRecorded(), actualEntries);
+        });
+
+        List<Drift<T>> drifts = new ArrayList<>();
+
+        for (var key : driftedKeys) {
+            repairTemplate.execute(status -> store.repair(key)).ifPresent(drifts::add);
+        }
+
+        return new Reconciliation<>(actualEntries.size(), drifts);
+    }
+
+    private <K, T> Set<K> findDriftedKeys(ReconciledStore<K, T> store, List<T> recordedEntries, List<T> actualEntries) {
+        Map<K, T> recorded = recordedEntries
+                .stream()
+                .collect(Collectors.toMap(store::getKey, Function.identity()));
+        Set<K> driftedKeys = new LinkedHashSet<>();
+
+        for (var actual : actualEntries) {
+            var key = store.getKey(actual);
+            var recordedEntry = recorded.remove(key);
+
+            if (!store.matches(recordedEntry == null ? store.empty(key) : recordedEntry, actual)) {
+                driftedKeys.add(key);
+            }
+        }
+
+        recorded.forEach((key, orphan) -> {
+            if (!store.matches(orphan, store.empty(key))) {
+                driftedKeys.add(key);
+            }
+        });
+
+        return driftedKeys;
+    }
+
+}
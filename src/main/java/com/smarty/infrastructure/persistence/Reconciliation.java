@@ -0,0 +1,12 @@
+package com.smarty.infrastructure.persistence;
+
+import java.util.List;
+
+public record Reconciliation<T>(
+
+        int entries,
+        List<Drift<T>> drifts
+
+) {
+
+}
@@ -0,0 +1,64 @@
+package com.smarty.infrastructure.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+public class ReplicaLagMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLag;
+    private volatile boolean replicaUsable;
+    private volatile long usableUntil;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval}")
+    public void checkLag() {
+        boolean wasUsable = isReplicaUsable();
+        long checkedAt = System.nanoTime();
+
+        try {
+            Long lag = replicaJdbcTemplate.queryForObject(lagQuery, Long.class);
+
+            if (lag != null && lag <= maxLag) {
+                usableUntil = checkedAt + TimeUnit.MILLISECONDS.toNanos(maxLag - lag);
+            }
+
+            replicaUsable = lag != null && lag <= maxLag;
+
+            if (wasUsable && lag == null) {
+                LOGGER.warn("Replica isn't replicating, routing reads to primary");
+            } else if (wasUsable && !replicaUsable) {
+                LOGGER.warn("Replica lag of {} ms exceeds {} ms, routing reads to primary", lag, maxLag);
+            }
+        } catch (DataAccessException e) {
+            replicaUsable = false;
+
+            if (wasUsable) {
+                LOGGER.warn("Replica lag check failed, routing reads to primary", e);
+            }
+        }
+
+        if (!wasUsable && replicaUsable) {
+            LOGGER.info("Replica lag is within {} ms, routing read-only transactions to replica", maxLag);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable && System.nanoTime() - usableUntil < 0;
+    }
+
+}
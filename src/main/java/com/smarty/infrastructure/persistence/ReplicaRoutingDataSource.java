@@ -0,0 +1,56 @@
+package com.smarty.infrastructure.persistence;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesInterceptor readYourWritesInterceptor;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource,
+                                    DataSource replicaDataSource,
+                                    ReplicaLagMonitor replicaLagMonitor,
+                                    ReadYourWritesInterceptor readYourWritesInterceptor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesInterceptor = readYourWritesInterceptor;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primaryDataSource, DataSourceRole.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesInterceptor.recordWrite();
+            }
+
+            return DataSourceRole.PRIMARY;
+        }
+
+        if (readYourWritesInterceptor.isPinned() || !replicaLagMonitor.isReplicaUsable()) {
+            return DataSourceRole.PRIMARY;
+        }
+
+        disableCachePuts();
+
+        return DataSourceRole.REPLICA;
+    }
+
+    private void disableCachePuts() {
+        TransactionSynchronizationManager.getResourceMap()
+                .values()
+                .stream()
+                .filter(EntityManagerHolder.class::isInstance)
+                .map(holder -> ((EntityManagerHolder) holder).getEntityManager().unwrap(Session.class))
+                .forEach(session -> session.setCacheMode(CacheMode.GET));
+    }
+
+}
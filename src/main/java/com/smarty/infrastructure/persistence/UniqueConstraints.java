@@ -0,0 +1,36 @@
+package com.smarty.infrastructure.persistence;
+
+import com.smarty.infrastructure.handler.exceptions.ConflictException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.Map;
+
+public final class UniqueConstraints {
+
+    private UniqueConstraints() {
+    }
+
+    public static RuntimeException translate(DataIntegrityViolationException e, Map<String, String> conflicts) {
+        var violatedConstraint = violatedConstraint(e);
+
+        return conflicts.entrySet()
+                .stream()
+                .filter(conflict -> violatedConstraint.contains(conflict.getKey()))
+                .findFirst()
+                .<RuntimeException>map(conflict -> new ConflictException(conflict.getValue()))
+                .orElse(e);
+    }
+
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        var constraintName = e.getCause() instanceof ConstraintViolationException violation ? violation.getConstraintName() : null;
+
+        if (constraintName == null) {
+            constraintName = String.valueOf(e.getMostSpecificCause().getMessage());
+        }
+
+        return constraintName.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.smarty.infrastructure.security;
 
+import com.smarty.domain.account.enums.Role;
 import com.smarty.domain.account.model.LoginRequestDTO;
 import com.smarty.domain.account.model.LoginResponseDTO;
 import com.smarty.domain.account.service.AccountService;
@@ -20,12 +21,14 @@ public class AuthenticationService implements UserDetailsService {
 
     private final AccountService accountService;
     private final JwtUtil jwtUtil;
+    private final PrincipalResolver principalResolver;
     private PasswordEncoder passwordEncoder;
 
     @Autowired
-    public AuthenticationService(AccountService accountService, JwtUtil jwtUtil) {
+    public AuthenticationService(AccountService accountService, JwtUtil jwtUtil, PrincipalResolver principalResolver) {
         this.accountService = accountService;
         this.jwtUtil = jwtUtil;
+        this.principalResolver = principalResolver;
     }
 
     @Override
@@ -64,6 +67,21 @@ public class AuthenticationService implements UserDetailsService {
         }
     }
 
+    public void canAccessStudent(String accountEmail) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        var isStudent = authentication.getAuthorities()
+                .stream()
+                .anyMatch(authority -> authority.getAuthority().equals("ROLE_%s".formatted(Role.STUDENT)));
+
+        if (isStudent && !authentication.getName().equals(accountEmail)) {
+            throw new ForbiddenException("You don't have permission to access this student");
+        }
+    }
+
+    public void evictAccount(String accountEmail) {
+        principalResolver.evict(accountEmail);
+    }
+
     @Autowired
     public void setPasswordEncoder(PasswordEncoder passwordEncoder) {
         this.passwordEncoder = passwordEncoder;
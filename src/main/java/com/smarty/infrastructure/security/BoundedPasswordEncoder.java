@@ -0,0 +1,140 @@
+package com.smarty.infrastructure.security;
+
+import com.google.common.collect.Lists;
+import com.smarty.infrastructure.handler.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final String METRIC_PREFIX = "smarty.password.hashing";
+
+    private final PasswordEncoder delegate;
+    private final int bulkPoolSize;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final long retryAfter;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate,
+                                  int poolSize,
+                                  int queueCapacity,
+                                  int bulkPoolSize,
+                                  long retryAfter,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.bulkPoolSize = bulkPoolSize;
+        this.retryAfter = retryAfter;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.bulkExecutor = new ThreadPoolExecutor(bulkPoolSize, bulkPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(bulkPoolSize),
+                new CustomizableThreadFactory("password-bulk-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder(METRIC_PREFIX)
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder(METRIC_PREFIX)
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".bulk.active", bulkExecutor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        if (rawPasswords.isEmpty()) {
+            return List.of();
+        }
+
+        int chunkSize = (rawPasswords.size() + bulkPoolSize - 1) / bulkPoolSize;
+        List<Future<List<String>>> futures = new ArrayList<>(bulkPoolSize);
+
+        try {
+            for (var chunk : Lists.partition(rawPasswords, chunkSize)) {
+                futures.add(submit(bulkExecutor, () -> chunk
+                        .stream()
+                        .map(rawPassword -> encodeTimer.record(() -> delegate.encode(rawPassword)))
+                        .toList()));
+            }
+        } catch (ServiceUnavailableException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+
+        List<String> encodedPasswords = new ArrayList<>(rawPasswords.size());
+        futures.forEach(future -> encodedPasswords.addAll(await(future)));
+
+        return encodedPasswords;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Timer timer, Callable<T> hashing) {
+        return await(submit(executor, () -> timer.recordCallable(hashing)));
+    }
+
+    private <T> Future<T> submit(ExecutorService executor, Callable<T> hashing) {
+        try {
+            return executor.submit(hashing);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("Too many password requests at the moment, please try again later", retryAfter);
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Password hashing was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        bulkExecutor.shutdown();
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.smarty.infrastructure.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,7 +9,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -23,12 +23,12 @@ public class JwtFilter extends OncePerRequestFilter {
     private final Set<String> excludedUrls = Set.of("/authenticate", "/v3/api-docs", "swagger-ui");
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsService authenticationService;
+    private final PrincipalResolver principalResolver;
 
     @Autowired
-    public JwtFilter(JwtUtil jwtUtil, UserDetailsService authenticationService) {
+    public JwtFilter(JwtUtil jwtUtil, PrincipalResolver principalResolver) {
         this.jwtUtil = jwtUtil;
-        this.authenticationService = authenticationService;
+        this.principalResolver = principalResolver;
     }
 
     @Override
@@ -43,13 +43,13 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         var accessToken = authHeader.substring(BEARER.length()).trim();
-        var username = jwtUtil.extractUsername(accessToken);
 
         try {
-            var authenticatedUser = (AuthenticatedUser) authenticationService.loadUserByUsername(username);
+            var verifiedToken = jwtUtil.verify(accessToken);
+            var authenticatedUser = principalResolver.resolve(verifiedToken.username(), verifiedToken.role());
             var authenticationToken = new UsernamePasswordAuthenticationToken(authenticatedUser, null, authenticatedUser.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-        } catch (UsernameNotFoundException e) {
+        } catch (JwtException | IllegalArgumentException | UsernameNotFoundException e) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return;
         }
@@ -1,14 +1,21 @@
 package com.smarty.infrastructure.security;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import io.jsonwebtoken.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class JwtUtil {
@@ -18,30 +25,53 @@ public class JwtUtil {
     @Value("${app.jwt.secret-key}")
     private String secretKey;
 
-    @Value("${app.jwt.expiration}")
-    private Long expiration;
+    private final long expiration;
+    private final Cache<HashCode, VerifiedToken> verifiedTokens;
+
+    @Autowired
+    public JwtUtil(@Value("${app.jwt.cache.max-size}") long cacheMaxSize,
+                   @Value("${app.jwt.expiration}") long expiration) {
+        this.expiration = expiration;
+        this.verifiedTokens = CacheBuilder.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(expiration, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public VerifiedToken verify(String jwt) {
+        var digest = Hashing.sha256().hashString(jwt, StandardCharsets.UTF_8);
+        var verifiedToken = verifiedTokens.getIfPresent(digest);
+
+        if (verifiedToken != null && !verifiedToken.isExpired()) {
+            return verifiedToken;
+        }
 
-    public String extractUsername(String jwt) {
         Claims claims = Jwts.parser()
                 .setSigningKey(secretKey)
                 .parseClaimsJws(jwt)
                 .getBody();
 
-        return (String) claims.get("username");
+        verifiedToken = new VerifiedToken((String) claims.get("username"), (String) claims.get("role"), claims.getExpiration());
+        verifiedTokens.put(digest, verifiedToken);
+
+        return verifiedToken;
+    }
+
+    public String extractUsername(String jwt) {
+        return verify(jwt).username();
+    }
+
+    public String extractRole(String jwt) {
+        return verify(jwt).role();
     }
 
     public Date extractExpiration(String jwt) {
-        return Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(jwt)
-                .getBody().getExpiration();
+        return verify(jwt).expiration();
     }
 
     public boolean validateToken(String jwt) {
         try {
-            Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .parseClaimsJws(jwt);
+            verify(jwt);
 
             return true;
         } catch (ExpiredJwtException e) {
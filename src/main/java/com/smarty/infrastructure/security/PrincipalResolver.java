@@ -0,0 +1,70 @@
+package com.smarty.infrastructure.security;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.service.AccountService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class PrincipalResolver {
+
+    private final AccountService accountService;
+    private final Cache<String, Account> accounts;
+
+    @Autowired
+    public PrincipalResolver(AccountService accountService,
+                             @Value("${app.security.account-cache.max-size}") long maxSize,
+                             @Value("${app.security.account-cache.expiration}") long expiration) {
+        this.accountService = accountService;
+        this.accounts = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expiration, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public AuthenticatedUser resolve(String username, String role) {
+        var authenticatedUser = new AuthenticatedUser(getAccount(username));
+        var authority = authenticatedUser.getAuthorities().iterator().next().getAuthority();
+
+        if (!Objects.equals(authority, role)) {
+            throw new UsernameNotFoundException("Role of account %s has changed".formatted(username));
+        }
+
+        return authenticatedUser;
+    }
+
+    private Account getAccount(String email) {
+        var account = accounts.getIfPresent(email);
+
+        if (account == null) {
+            account = accountService.getAccountByEmail(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("Email doesn't exist"));
+            accounts.put(email, account);
+        }
+
+        return account;
+    }
+
+    public void evict(String email) {
+        accounts.invalidate(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    accounts.invalidate(email);
+                }
+            });
+        }
+    }
+
+}
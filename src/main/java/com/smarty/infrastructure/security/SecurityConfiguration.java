@@ -1,6 +1,8 @@
 package com.smarty.infrastructure.security;
 
 import com.google.common.collect.ImmutableList;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
@@ -10,7 +12,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -25,8 +26,13 @@ public class SecurityConfiguration {
     public static final String AUTH_ENDPOINT = "/authenticate/**";
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(@Value("${app.password-hashing.strength}") int strength,
+                                           @Value("${app.password-hashing.pool-size}") int poolSize,
+                                           @Value("${app.password-hashing.queue-capacity}") int queueCapacity,
+                                           @Value("${app.password-hashing.bulk-pool-size}") int bulkPoolSize,
+                                           @Value("${app.password-hashing.retry-after}") long retryAfter,
+                                           MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity, bulkPoolSize, retryAfter, meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,17 @@
+package com.smarty.infrastructure.security;
+
+import java.util.Date;
+
+public record VerifiedToken(
+
+        String username,
+        String role,
+        Date expiration
+
+) {
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.smarty.infrastructure.streaming;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SseBroadcaster {
+
+    private final SseDispatcher sseDispatcher;
+    private final Set<SseSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    public SseBroadcaster(SseDispatcher sseDispatcher) {
+        this.sseDispatcher = sseDispatcher;
+    }
+
+    public ResponseBodyEmitter subscribe() {
+        var subscriber = sseDispatcher.subscribe(subscribers::remove);
+        subscribers.add(subscriber);
+
+        return subscriber.getEmitter();
+    }
+
+    public void broadcast(String name, Object data) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        var event = sseDispatcher.toEvent(name, data);
+        subscribers.forEach(subscriber -> sseDispatcher.deliver(subscriber, event));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+}
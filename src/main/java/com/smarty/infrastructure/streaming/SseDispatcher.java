@@ -0,0 +1,133 @@
+package com.smarty.infrastructure.streaming;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarty.infrastructure.handler.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Component
+public class SseDispatcher implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "smarty.sse";
+    private static final String HEARTBEAT = toFrame(SseEmitter.event().comment("heartbeat"));
+
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final Set<SseSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final long timeout;
+    private final long writeTimeout;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final long retryAfter;
+    private final Counter evictedCounter;
+
+    @Autowired
+    public SseDispatcher(ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.sse.timeout}") long timeout,
+                         @Value("${app.sse.write-timeout}") long writeTimeout,
+                         @Value("${app.sse.pool-size}") int poolSize,
+                         @Value("${app.sse.queue-capacity}") int queueCapacity,
+                         @Value("${app.sse.max-subscribers}") int maxSubscribers,
+                         @Value("${app.sse.retry-after}") long retryAfter) {
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.writeTimeout = writeTimeout;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.retryAfter = retryAfter;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("sse-dispatch-"));
+
+        this.evictedCounter = Counter.builder(METRIC_PREFIX + ".evicted")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".subscribers", subscribers, Set::size)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public SseSubscriber subscribe(Consumer<SseSubscriber> onClose) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Too many open event streams at the moment, please try again later", retryAfter);
+        }
+
+        var subscriber = new SseSubscriber(new ResponseBodyEmitter(timeout), executor, queueCapacity, closedSubscriber -> {
+            subscribers.remove(closedSubscriber);
+            onClose.accept(closedSubscriber);
+        });
+        subscribers.add(subscriber);
+
+        return subscriber;
+    }
+
+    public String toEvent(String name, Object data) {
+        try {
+            return toFrame(SseEmitter.event()
+                    .name(name)
+                    .data(objectMapper.writeValueAsString(data)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void deliver(SseSubscriber subscriber, String event) {
+        if (!subscriber.offer(event)) {
+            evictedCounter.increment();
+            subscriber.close();
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.sse.heartbeat-interval}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> deliver(subscriber, HEARTBEAT));
+    }
+
+    @Scheduled(fixedRateString = "${app.sse.write-timeout}")
+    public void evictStalledSubscribers() {
+        subscribers
+                .stream()
+                .filter(subscriber -> subscriber.isStalled(writeTimeout))
+                .forEach(subscriber -> {
+                    evictedCounter.increment();
+                    subscriber.evict();
+                });
+    }
+
+    private static String toFrame(SseEmitter.SseEventBuilder event) {
+        return event
+                .build()
+                .stream()
+                .map(DataWithMediaType::getData)
+                .map(String::valueOf)
+                .collect(Collectors.joining());
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.forEach(SseSubscriber::close);
+        executor.shutdown();
+    }
+
+}
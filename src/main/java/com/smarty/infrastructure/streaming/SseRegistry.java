@@ -0,0 +1,56 @@
+package com.smarty.infrastructure.streaming;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SseRegistry<K> {
+
+    private final SseDispatcher sseDispatcher;
+    private final Map<K, Set<SseSubscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public SseRegistry(SseDispatcher sseDispatcher) {
+        this.sseDispatcher = sseDispatcher;
+    }
+
+    public ResponseBodyEmitter subscribe(K key) {
+        var subscriber = sseDispatcher.subscribe(closedSubscriber -> unregister(key, closedSubscriber));
+
+        subscribers.compute(key, (subscriberKey, keySubscribers) -> {
+            var registeredSubscribers = keySubscribers == null ? ConcurrentHashMap.<SseSubscriber>newKeySet() : keySubscribers;
+            registeredSubscribers.add(subscriber);
+
+            return registeredSubscribers;
+        });
+
+        return subscriber.getEmitter();
+    }
+
+    public void publish(K key, String name, Object data) {
+        var keySubscribers = subscribers.get(key);
+
+        if (keySubscribers == null) {
+            return;
+        }
+
+        var event = sseDispatcher.toEvent(name, data);
+        keySubscribers.forEach(subscriber -> sseDispatcher.deliver(subscriber, event));
+    }
+
+    public int getSubscriberCount(K key) {
+        var keySubscribers = subscribers.get(key);
+
+        return keySubscribers == null ? 0 : keySubscribers.size();
+    }
+
+    private void unregister(K key, SseSubscriber subscriber) {
+        subscribers.computeIfPresent(key, (subscriberKey, keySubscribers) -> {
+            keySubscribers.remove(subscriber);
+
+            return keySubscribers.isEmpty() ? null : keySubscribers;
+        });
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.smarty.infrastructure.streaming;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class SseSubscriber {
+
+    private final ResponseBodyEmitter emitter;
+    private final Executor executor;
+    private final int queueCapacity;
+    private final Consumer<SseSubscriber> onClose;
+    private final Deque<String> queue;
+    private Thread sendingThread;
+    private long sendStartedAt;
+    private boolean draining;
+    private boolean closed;
+
+    public SseSubscriber(ResponseBodyEmitter emitter, Executor executor, int queueCapacity, Consumer<SseSubscriber> onClose) {
+        this.emitter = emitter;
+        this.executor = executor;
+        this.queueCapacity = queueCapacity;
+        this.onClose = onClose;
+        this.queue = new ArrayDeque<>(queueCapacity);
+
+        emitter.onCompletion(this::close);
+        emitter.onTimeout(this::close);
+        emitter.onError(e -> close());
+    }
+
+    public ResponseBodyEmitter getEmitter() {
+        return emitter;
+    }
+
+    public synchronized boolean offer(String event) {
+        if (closed) {
+            return true;
+        }
+
+        if (queue.size() >= queueCapacity) {
+            return false;
+        }
+
+        queue.add(event);
+
+        if (!draining) {
+            draining = true;
+
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining = false;
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            queue.clear();
+        }
+
+        emitter.complete();
+        onClose.accept(this);
+    }
+
+    public synchronized boolean isStalled(long writeTimeout) {
+        return !closed && sendingThread != null && System.nanoTime() - sendStartedAt > TimeUnit.MILLISECONDS.toNanos(writeTimeout);
+    }
+
+    public void evict() {
+        boolean sending;
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            queue.clear();
+            sending = sendingThread != null;
+
+            if (sending) {
+                sendingThread.interrupt();
+            }
+        }
+
+        if (!sending) {
+            emitter.complete();
+        }
+
+        onClose.accept(this);
+    }
+
+    private void drain() {
+        String event;
+
+        try {
+            while ((event = next()) != null) {
+                try {
+                    emitter.send(event, MediaType.TEXT_PLAIN);
+                } catch (IOException | IllegalStateException e) {
+                    close();
+                    return;
+                }
+            }
+
+            if (isClosed()) {
+                emitter.complete();
+            }
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private synchronized String next() {
+        var event = closed ? null : queue.poll();
+
+        if (event == null) {
+            sendingThread = null;
+            draining = false;
+        } else {
+            sendingThread = Thread.currentThread();
+            sendStartedAt = System.nanoTime();
+        }
+
+        return event;
+    }
+
+    private synchronized boolean isClosed() {
+        return closed;
+    }
+
+}
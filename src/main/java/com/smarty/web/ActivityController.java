@@ -1,18 +1,25 @@
 package com.smarty.web;
 
+import com.smarty.domain.activity.model.ActivityImportReportDTO;
+import com.smarty.domain.activity.model.ActivityLedgerReconciliationDTO;
 import com.smarty.domain.activity.model.ActivityRequestDTO;
 import com.smarty.domain.activity.model.ActivityResponseDTO;
 import com.smarty.domain.activity.model.ActivityUpdateDTO;
+import com.smarty.domain.activity.service.ActivityImportService;
+import com.smarty.domain.activity.service.ActivityLedgerService;
 import com.smarty.domain.activity.service.ActivityService;
+import com.smarty.infrastructure.pagination.CursorPage;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -20,10 +27,16 @@ import java.util.List;
 public class ActivityController {
 
     private final ActivityService activityService;
+    private final ActivityLedgerService activityLedgerService;
+    private final ActivityImportService activityImportService;
 
     @Autowired
-    public ActivityController(ActivityService activityService) {
+    public ActivityController(ActivityService activityService,
+                              ActivityLedgerService activityLedgerService,
+                              ActivityImportService activityImportService) {
         this.activityService = activityService;
+        this.activityLedgerService = activityLedgerService;
+        this.activityImportService = activityImportService;
     }
 
     @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
@@ -32,12 +45,31 @@ public class ActivityController {
         return ResponseEntity.ok(activityService.createActivity(activityDTO));
     }
 
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
+    @PostMapping(value = "/bulk/{taskId}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ActivityImportReportDTO> importActivities(@PathVariable Long taskId, InputStream json) {
+        return ResponseEntity.ok(activityImportService.importActivitiesFromJson(taskId, json));
+    }
+
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
+    @PostMapping(value = "/bulk/{taskId}", consumes = "text/csv")
+    public ResponseEntity<ActivityImportReportDTO> importActivitiesFromCsv(@PathVariable Long taskId, InputStream csv) {
+        return ResponseEntity.ok(activityImportService.importActivitiesFromCsv(taskId, csv));
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT')")
     @GetMapping
     public ResponseEntity<Page<ActivityResponseDTO>> getAllActivities(Pageable pageable) {
         return ResponseEntity.ok(activityService.getAllActivities(pageable));
     }
 
+    @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT')")
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<ActivityResponseDTO>> scrollActivities(@RequestParam(required = false) String cursor,
+                                                                            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(activityService.scrollActivities(cursor, size));
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT')")
     @GetMapping("/{id}")
     public ResponseEntity<ActivityResponseDTO> getActivityById(@PathVariable Long id) {
@@ -50,6 +82,12 @@ public class ActivityController {
         return ResponseEntity.ok(activityService.getStudentActivitiesByCourse(studentId, code));
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/ledger/reconcile")
+    public ResponseEntity<ActivityLedgerReconciliationDTO> reconcileLedger() {
+        return ResponseEntity.ok(activityLedgerService.reconcile());
+    }
+
     @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
     @PutMapping("/{id}")
     public ResponseEntity<ActivityResponseDTO> updateActivity(@PathVariable Long id, @Valid @RequestBody ActivityUpdateDTO activityDTO) {
@@ -2,16 +2,22 @@ package com.smarty.web;
 
 import com.smarty.domain.exam.model.ExamRequestDTO;
 import com.smarty.domain.exam.model.ExamResponseDTO;
+import com.smarty.domain.exam.model.ExamSessionReportDTO;
+import com.smarty.domain.exam.model.ExamSessionRequestDTO;
 import com.smarty.domain.exam.model.ExamUpdateDTO;
 import com.smarty.domain.exam.service.ExamService;
+import com.smarty.domain.exam.service.ExamSessionService;
+import com.smarty.infrastructure.pagination.CursorPage;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -20,10 +26,12 @@ import java.util.List;
 public class ExamController {
 
     private final ExamService examService;
+    private final ExamSessionService examSessionService;
 
     @Autowired
-    public ExamController(ExamService examService) {
+    public ExamController(ExamService examService, ExamSessionService examSessionService) {
         this.examService = examService;
+        this.examSessionService = examSessionService;
     }
 
     @PreAuthorize("hasRole('PROFESSOR')")
@@ -32,12 +40,25 @@ public class ExamController {
         return ResponseEntity.ok(examService.createExam(examDTO));
     }
 
+    @PreAuthorize("hasRole('PROFESSOR')")
+    @PostMapping("/sessions")
+    public ResponseEntity<ExamSessionReportDTO> gradeExamSession(@Valid @RequestBody ExamSessionRequestDTO examSessionDTO) {
+        return ResponseEntity.ok(examSessionService.gradeExamSession(examSessionDTO));
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT')")
     @GetMapping
     public ResponseEntity<Page<ExamResponseDTO>> getAllExams(Pageable pageable) {
         return ResponseEntity.ok(examService.getAllExams(pageable));
     }
 
+    @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT')")
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<ExamResponseDTO>> scrollExams(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(examService.scrollExams(cursor, size));
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT')")
     @GetMapping("/{id}")
     public ResponseEntity<ExamResponseDTO> getExamById(@PathVariable Long id) {
@@ -56,6 +77,18 @@ public class ExamController {
         return ResponseEntity.ok(examService.getExamHistoryByCourse(courseId));
     }
 
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
+    @GetMapping("/by-course/{courseId}/page")
+    public ResponseEntity<Page<ExamResponseDTO>> getExamHistoryByCoursePage(@PathVariable Long courseId, Pageable pageable) {
+        return ResponseEntity.ok(examService.getExamHistoryByCourse(courseId, pageable));
+    }
+
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
+    @GetMapping(value = "/by-course/{courseId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamExamHistoryByCourse(@PathVariable Long courseId) {
+        return ResponseEntity.ok(outputStream -> examService.streamExamHistoryByCourse(courseId, outputStream));
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT')")
     @GetMapping("/by-student-passed/{studentId}")
     public ResponseEntity<List<ExamResponseDTO>> getPassedExamsByStudent(@PathVariable Long studentId, @RequestParam int year) {
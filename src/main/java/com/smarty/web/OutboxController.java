@@ -0,0 +1,32 @@
+package com.smarty.web;
+
+import com.smarty.domain.outbox.model.OutboxBatchDTO;
+import com.smarty.domain.outbox.service.OutboxService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@PreAuthorize("hasRole('ADMIN')")
+@RequestMapping("/api/outbox")
+public class OutboxController {
+
+    private final OutboxService outboxService;
+
+    @Autowired
+    public OutboxController(OutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    @GetMapping
+    public ResponseEntity<OutboxBatchDTO> getEntries(@RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "100") int size,
+                                                     @RequestParam(required = false) String type) {
+        return ResponseEntity.ok(outboxService.getEntries(cursor, size, type));
+    }
+
+}
@@ -3,15 +3,20 @@ package com.smarty.web;
 import com.smarty.domain.post.model.PostRequestDTO;
 import com.smarty.domain.post.model.PostResponseDTO;
 import com.smarty.domain.post.model.PostUpdateDTO;
+import com.smarty.domain.post.service.PostEventService;
 import com.smarty.domain.post.service.PostService;
+import com.smarty.infrastructure.pagination.CursorPage;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import java.util.List;
 
@@ -20,10 +25,12 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
+    private final PostEventService postEventService;
 
     @Autowired
-    public PostController(PostService postService) {
+    public PostController(PostService postService, PostEventService postEventService) {
         this.postService = postService;
+        this.postEventService = postEventService;
     }
 
     @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
@@ -38,6 +45,22 @@ public class PostController {
         return ResponseEntity.ok(postService.getAllPosts(pageable));
     }
 
+    @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT')")
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<PostResponseDTO>> scrollPosts(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.scrollPosts(cursor, size));
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT')")
+    @GetMapping("/events")
+    public ResponseEntity<ResponseBodyEmitter> subscribeToPostEvents() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .cacheControl(CacheControl.noCache())
+                .body(postEventService.subscribe());
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT')")
     @GetMapping("/{id}")
     public ResponseEntity<PostResponseDTO> getPostById(@PathVariable Long id) {
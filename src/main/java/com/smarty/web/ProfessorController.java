@@ -10,9 +10,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -57,6 +59,18 @@ public class ProfessorController {
         return ResponseEntity.ok(professorService.getProfessorsByCourse(courseId));
     }
 
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT', 'ADMIN')")
+    @GetMapping("/by-course/{courseId}/page")
+    public ResponseEntity<Page<ProfessorResponseDTO>> getProfessorsByCoursePage(@PathVariable Long courseId, Pageable pageable) {
+        return ResponseEntity.ok(professorService.getProfessorsByCourse(courseId, pageable));
+    }
+
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT', 'ADMIN')")
+    @GetMapping(value = "/by-course/{courseId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamProfessorsByCourse(@PathVariable Long courseId) {
+        return ResponseEntity.ok(outputStream -> professorService.streamProfessorsByCourse(courseId, outputStream));
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{id}")
     public ResponseEntity<ProfessorResponseDTO> updateProfessor(@PathVariable Long id, @Valid @RequestBody ProfessorUpdateDTO professorDTO) {
@@ -1,19 +1,31 @@
 package com.smarty.web;
 
+import com.smarty.domain.student.model.GradeSummaryReconciliationDTO;
 import com.smarty.domain.student.model.PasswordDTO;
+import com.smarty.domain.student.model.StudentAverageGradeDTO;
+import com.smarty.domain.student.model.StudentEnrollmentReportDTO;
 import com.smarty.domain.student.model.StudentRequestDTO;
 import com.smarty.domain.student.model.StudentResponseDTO;
 import com.smarty.domain.student.model.StudentUpdateDTO;
+import com.smarty.domain.student.service.GradeSummaryService;
+import com.smarty.domain.student.service.StudentEnrollmentService;
+import com.smarty.domain.student.service.StudentEventService;
 import com.smarty.domain.student.service.StudentService;
+import com.smarty.infrastructure.pagination.CursorPage;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -21,10 +33,19 @@ import java.util.List;
 public class StudentController {
 
     private final StudentService studentService;
+    private final StudentEnrollmentService studentEnrollmentService;
+    private final StudentEventService studentEventService;
+    private final GradeSummaryService gradeSummaryService;
 
     @Autowired
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService,
+                             StudentEnrollmentService studentEnrollmentService,
+                             StudentEventService studentEventService,
+                             GradeSummaryService gradeSummaryService) {
         this.studentService = studentService;
+        this.studentEnrollmentService = studentEnrollmentService;
+        this.studentEventService = studentEventService;
+        this.gradeSummaryService = gradeSummaryService;
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -33,24 +54,66 @@ public class StudentController {
         return ResponseEntity.ok(studentService.createStudent(studentDTO));
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StudentEnrollmentReportDTO> enrollStudents(@RequestBody List<StudentRequestDTO> studentDTOs) {
+        return ResponseEntity.ok(studentEnrollmentService.enrollStudents(studentDTOs));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<StudentEnrollmentReportDTO> enrollStudentsFromCsv(InputStream csv) {
+        return ResponseEntity.ok(studentEnrollmentService.enrollStudents(csv));
+    }
+
     @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT', 'ADMIN')")
     @GetMapping
     public ResponseEntity<Page<StudentResponseDTO>> getAllStudents(Pageable pageable) {
         return ResponseEntity.ok(studentService.getAllStudents(pageable));
     }
 
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT', 'ADMIN')")
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<StudentResponseDTO>> scrollStudents(@RequestParam(required = false) String cursor,
+                                                                         @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(studentService.scrollStudents(cursor, size));
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT', 'ADMIN')")
     @GetMapping("/{id}")
     public ResponseEntity<StudentResponseDTO> getStudentById(@PathVariable Long id) {
         return ResponseEntity.ok(studentService.getStudentById(id));
     }
 
+    @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT', 'ADMIN')")
+    @GetMapping("/{id}/events")
+    public ResponseEntity<ResponseBodyEmitter> subscribeToStudentEvents(@PathVariable Long id) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .cacheControl(CacheControl.noCache())
+                .body(studentEventService.subscribe(id));
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT', 'ADMIN')")
     @GetMapping("/average-grade/{id}")
     public ResponseEntity<Double> getAverageGradeOfStudent(@PathVariable Long id) {
         return ResponseEntity.ok(studentService.getAverageGradeOfStudent(id));
     }
 
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT', 'ADMIN')")
+    @GetMapping("/average-grades")
+    public ResponseEntity<Page<StudentAverageGradeDTO>> getAverageGrades(@RequestParam(required = false) Long majorId,
+                                                                         @RequestParam(required = false) Integer year,
+                                                                         Pageable pageable) {
+        return ResponseEntity.ok(studentService.getAverageGrades(majorId, year, pageable));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/average-grades/reconcile")
+    public ResponseEntity<GradeSummaryReconciliationDTO> reconcileGradeSummaries() {
+        return ResponseEntity.ok(gradeSummaryService.reconcile());
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'PROFESSOR', 'ASSISTANT', 'ADMIN')")
     @GetMapping("/by-email")
     public ResponseEntity<StudentResponseDTO> getStudentByEmail(@RequestParam String email) {
@@ -63,18 +126,54 @@ public class StudentController {
         return ResponseEntity.ok(studentService.getStudentsByMajor(majorId));
     }
 
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
+    @GetMapping("/by-major/{majorId}/page")
+    public ResponseEntity<Page<StudentResponseDTO>> getStudentsByMajorPage(@PathVariable Long majorId, Pageable pageable) {
+        return ResponseEntity.ok(studentService.getStudentsByMajor(majorId, pageable));
+    }
+
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
+    @GetMapping(value = "/by-major/{majorId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamStudentsByMajor(@PathVariable Long majorId) {
+        return ResponseEntity.ok(outputStream -> studentService.streamStudentsByMajor(majorId, outputStream));
+    }
+
     @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
     @GetMapping("/by-status/{statusId}")
     public ResponseEntity<List<StudentResponseDTO>> getStudentsByStudyStatus(@PathVariable Long statusId) {
         return ResponseEntity.ok(studentService.getStudentsByStudyStatus(statusId));
     }
 
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
+    @GetMapping("/by-status/{statusId}/page")
+    public ResponseEntity<Page<StudentResponseDTO>> getStudentsByStudyStatusPage(@PathVariable Long statusId, Pageable pageable) {
+        return ResponseEntity.ok(studentService.getStudentsByStudyStatus(statusId, pageable));
+    }
+
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
+    @GetMapping(value = "/by-status/{statusId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamStudentsByStudyStatus(@PathVariable Long statusId) {
+        return ResponseEntity.ok(outputStream -> studentService.streamStudentsByStudyStatus(statusId, outputStream));
+    }
+
     @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
     @GetMapping("/by-course-passed/{courseId}")
     public ResponseEntity<List<StudentResponseDTO>> getStudentsWhoPassedCertainCourse(@PathVariable Long courseId) {
         return ResponseEntity.ok(studentService.getStudentsWhoPassedCertainCourse(courseId));
     }
 
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
+    @GetMapping("/by-course-passed/{courseId}/page")
+    public ResponseEntity<Page<StudentResponseDTO>> getStudentsWhoPassedCertainCoursePage(@PathVariable Long courseId, Pageable pageable) {
+        return ResponseEntity.ok(studentService.getStudentsWhoPassedCertainCourse(courseId, pageable));
+    }
+
+    @PreAuthorize("hasAnyRole('PROFESSOR', 'ASSISTANT')")
+    @GetMapping(value = "/by-course-passed/{courseId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamStudentsWhoPassedCertainCourse(@PathVariable Long courseId) {
+        return ResponseEntity.ok(outputStream -> studentService.streamStudentsWhoPassedCertainCourse(courseId, outputStream));
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/{id}")
     public ResponseEntity<StudentResponseDTO> updateStudent(@PathVariable Long id, @Valid @RequestBody StudentUpdateDTO studentDTO) {
@@ -0,0 +1,182 @@
+package com.smarty.domain.activity.repository;
+
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.activity.entity.Activity;
+import com.smarty.domain.activity.entity.ActivityLedger;
+import com.smarty.domain.activity.entity.ActivityLedgerId;
+import com.smarty.domain.activity.model.StudentActivityName;
+import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.major.entity.Major;
+import com.smarty.domain.status.entity.Status;
+import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.task.entity.Task;
+import com.smarty.domain.task.enums.Type;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ActivityLedgerRepositoryTest {
+
+    Student student;
+
+    Course course;
+
+    Task homework;
+
+    Task project;
+
+    @Autowired
+    ActivityLedgerRepository activityLedgerRepository;
+
+    @Autowired
+    ActivityRepository activityRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        var major = new Major();
+        major.setCode("SE");
+        major.setFullName("Software engineering");
+        major.setDescription("Software engineering major");
+        major.setDuration(4);
+        entityManager.persist(major);
+
+        var status = new Status();
+        status.setType("Traditional");
+        entityManager.persist(status);
+
+        var account = new Account();
+        account.setEmail("sasa@metropolitan.ac.rs");
+        account.setPassword("$hash$");
+        account.setRole(Role.STUDENT);
+
+        student = new Student();
+        student.setName("Sasa");
+        student.setSurname("Stanisic");
+        student.setIndex(4377);
+        student.setYear(3);
+        student.setSemester(6);
+        student.setMajor(major);
+        student.setStatus(status);
+        student.setAccount(account);
+        entityManager.persist(student);
+
+        course = new Course();
+        course.setCode("IT355");
+        course.setFullName("Web Systems 2");
+        course.setPoints(8);
+        course.setYear(3);
+        course.setSemester(6);
+        course.setDescription("Course about learning backend framework Spring and Spring Boot");
+        entityManager.persist(course);
+
+        homework = task(Type.HOMEWORK);
+        project = task(Type.PROJECT);
+    }
+
+    @Test
+    void testRecord() {
+        activityLedgerRepository.record(student.getId(), course.getId(), 1.5, 1, 0, 0, 0);
+        activityLedgerRepository.record(student.getId(), course.getId(), 12, 0, 1, 0, 0);
+        activityLedgerRepository.record(student.getId(), course.getId(), -1.5, -1, 0, 0, 0);
+        entityManager.clear();
+
+        var ledger = activityLedgerRepository.findById(new ActivityLedgerId(student.getId(), course.getId())).orElseThrow();
+
+        Assertions.assertEquals(12, ledger.getTotalPoints(), 0.001);
+        Assertions.assertEquals(0, ledger.getCount(Type.HOMEWORK));
+        Assertions.assertEquals(1, ledger.getCount(Type.PROJECT));
+    }
+
+    @Test
+    void testCalculateLedgers() {
+        activity("Homework 1", 1.5, homework);
+        activity("Homework 2", 1, homework);
+        activity("Project 1", 12, project);
+        entityManager.flush();
+
+        var ledgers = activityLedgerRepository.calculateLedgers();
+
+        Assertions.assertEquals(1, ledgers.size());
+        Assertions.assertTrue(ledgers.get(0).matches(new ActivityLedger(student.getId(), course.getId(), 14.5, 2, 1, 0, 0)));
+    }
+
+    @Test
+    void testCalculateLedger() {
+        activity("Homework 1", 1.5, homework);
+        activity("Project 1", 12, project);
+        entityManager.flush();
+
+        var ledger = activityLedgerRepository.calculateLedger(student.getId(), course.getId()).orElseThrow();
+
+        Assertions.assertTrue(ledger.matches(new ActivityLedger(student.getId(), course.getId(), 13.5, 1, 1, 0, 0)));
+        Assertions.assertTrue(activityLedgerRepository.calculateLedger(student.getId(), course.getId() + 1).isEmpty());
+    }
+
+    @Test
+    void testReplace() {
+        activityLedgerRepository.record(student.getId(), course.getId(), 1.5, 1, 0, 0, 0);
+        activityLedgerRepository.replace(student.getId(), course.getId(), 12, 0, 1, 0, 0);
+        entityManager.clear();
+
+        var ledger = activityLedgerRepository.findForUpdate(student.getId(), course.getId()).orElseThrow();
+
+        Assertions.assertTrue(ledger.matches(new ActivityLedger(student.getId(), course.getId(), 12, 0, 1, 0, 0)));
+    }
+
+    @Test
+    void testFindByCourseIdAndStudentIdIn() {
+        activityLedgerRepository.record(student.getId(), course.getId(), 1.5, 1, 0, 0, 0);
+        entityManager.clear();
+
+        var ledgers = activityLedgerRepository.findByCourseIdAndStudentIdIn(course.getId(), List.of(student.getId(), student.getId() + 1));
+
+        Assertions.assertEquals(1, ledgers.size());
+        Assertions.assertEquals(1, ledgers.get(0).getCount(Type.HOMEWORK));
+    }
+
+    @Test
+    void testFindStudentActivityNames() {
+        activity("Homework 1", 1.5, homework);
+        activity("Homework 2", 1, homework);
+        entityManager.flush();
+
+        var activityNames = activityRepository.findStudentActivityNames(List.of(student.getId()), List.of("Homework 1", "Homework 3"));
+
+        Assertions.assertEquals(Set.of(new StudentActivityName(student.getId(), "Homework 1")), activityNames);
+    }
+
+    private Task task(Type type) {
+        var task = new Task();
+        task.setType(type);
+        task.setMaxPoints(15);
+        task.setNumberOfTasks(10);
+        task.setCourse(course);
+
+        return entityManager.persist(task);
+    }
+
+    private void activity(String activityName, double points, Task task) {
+        var activity = new Activity();
+        activity.setActivityName(activityName);
+        activity.setPoints(points);
+        activity.setTask(task);
+        activity.setStudent(student);
+        entityManager.persist(activity);
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.smarty.domain.activity.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarty.domain.activity.entity.Activity;
+import com.smarty.domain.activity.entity.ActivityLedger;
+import com.smarty.domain.activity.event.ActivityRecorded;
+import com.smarty.domain.activity.model.ActivityImportResultDTO;
+import com.smarty.domain.activity.model.StudentActivityName;
+import com.smarty.domain.activity.repository.ActivityRepository;
+import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.exam.model.ExamEligibility;
+import com.smarty.domain.exam.service.ExamEligibilityService;
+import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.student.service.StudentService;
+import com.smarty.domain.task.entity.Task;
+import com.smarty.domain.task.enums.Type;
+import com.smarty.domain.task.service.TaskService;
+import com.smarty.infrastructure.event.DomainEventPublisher;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ActivityImportServiceImplTest {
+
+    Task task;
+
+    ActivityImportServiceImpl activityImportService;
+
+    @Mock
+    ActivityRepository activityRepository;
+
+    @Mock
+    TaskService taskService;
+
+    @Mock
+    StudentService studentService;
+
+    @Mock
+    ExamEligibilityService examEligibilityService;
+
+    @Mock
+    ActivityLedgerService activityLedgerService;
+
+    @Mock
+    EntityManager entityManager;
+
+    @Mock
+    DomainEventPublisher domainEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        var course = new Course();
+        course.setId(1L);
+        course.setCode("IT355");
+        course.setYear(3);
+
+        task = new Task();
+        task.setId(1L);
+        task.setType(Type.HOMEWORK);
+        task.setMaxPoints(2);
+        task.setNumberOfTasks(2);
+        task.setCourse(course);
+
+        activityImportService = new ActivityImportServiceImpl(activityRepository, taskService, studentService,
+                examEligibilityService, activityLedgerService, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), domainEventPublisher);
+        ReflectionTestUtils.setField(activityImportService, "entityManager", entityManager);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportActivitiesFromCsv() {
+        var csv = """
+                activityName,points,comment,studentId
+                Homework 1,1.5,,1
+                Homework 2,2,,1
+                Homework 3,2,,1
+                Homework 1,3,,2
+                Homework 1,abc,,2
+                Homework 1,1,,3
+                Homework 2,1,,2
+                Homework 1,1,,4
+                """;
+        var passedEligibility = new ExamEligibility(4L, "Andjela", 3, 1L, "IT355", 3, true, 60);
+
+        when(taskService.getById(1L)).thenReturn(task);
+        when(examEligibilityService.getEligibilities(Set.of(1L, 2L, 3L, 4L), 1L)).thenReturn(Map.of(
+                1L, new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 20),
+                2L, new ExamEligibility(2L, "Milica", 3, 1L, "IT355", 3, false, 20),
+                4L, passedEligibility));
+        when(examEligibilityService.getActivityRejectionReason(any(ExamEligibility.class))).thenReturn(null);
+        when(examEligibilityService.getActivityRejectionReason(passedEligibility)).thenReturn("Student Andjela has already passed the IT355 exam");
+        when(activityRepository.findStudentActivityNames(anyCollection(), anyCollection()))
+                .thenReturn(Set.of(new StudentActivityName(2L, "Homework 2")));
+        when(activityLedgerService.getLedgers(Set.of(1L, 2L, 3L, 4L), 1L))
+                .thenReturn(Map.of(1L, new ActivityLedger(1L, 1L, 1, 1, 0, 0, 0)));
+        when(studentService.getReferenceById(1L)).thenReturn(new Student());
+
+        var report = activityImportService.importActivitiesFromCsv(1L, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        ArgumentCaptor<List<Activity>> savedActivities = ArgumentCaptor.forClass(List.class);
+        verify(activityRepository, times(1)).saveAll(savedActivities.capture());
+        verify(examEligibilityService, times(1)).getEligibilities(anyCollection(), anyLong());
+        verify(activityLedgerService, times(1)).recordActivity(1L, 1L, Type.HOMEWORK, 1.5, 1);
+        verify(domainEventPublisher, times(1)).publish(any(ActivityRecorded.class));
+
+        Assertions.assertEquals(8, report.total());
+        Assertions.assertEquals(1, report.imported());
+        Assertions.assertEquals(List.of(true, false, false, false, false, false, false, false),
+                report.results().stream().map(ActivityImportResultDTO::imported).toList());
+        Assertions.assertEquals(1, savedActivities.getValue().size());
+        Assertions.assertEquals("Limit for storing activities by type HOMEWORK is reached for student with id 1", report.results().get(1).message());
+        Assertions.assertEquals("It is not allowed to enter 3.00 points for this activity", report.results().get(3).message());
+        Assertions.assertEquals("Entered value is not a valid type", report.results().get(4).message());
+        Assertions.assertEquals("Student with id 3 doesn't exist", report.results().get(5).message());
+        Assertions.assertEquals("Activity named Homework 2 already exists for student with id 2", report.results().get(6).message());
+        Assertions.assertEquals("Student Andjela has already passed the IT355 exam", report.results().get(7).message());
+    }
+
+    @Test
+    void testImportActivitiesFromJson() {
+        var json = """
+                [
+                  {"activityName": "Homework 1", "points": 1.5, "studentId": 1},
+                  {"activityName": "Homework 1", "points": 1, "studentId": 1},
+                  {"activityName": "", "points": 1, "studentId": 1}
+                ]
+                """;
+
+        when(taskService.getById(1L)).thenReturn(task);
+        when(examEligibilityService.getEligibilities(Set.of(1L), 1L)).thenReturn(Map.of(
+                1L, new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 20)));
+        when(activityRepository.findStudentActivityNames(anyCollection(), anyCollection())).thenReturn(Set.of());
+        when(activityLedgerService.getLedgers(Set.of(1L), 1L)).thenReturn(Map.of());
+        when(studentService.getReferenceById(1L)).thenReturn(new Student());
+
+        var report = activityImportService.importActivitiesFromJson(1L, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        verify(entityManager, times(1)).clear();
+        Assertions.assertEquals(3, report.total());
+        Assertions.assertEquals(1, report.imported());
+        Assertions.assertEquals("Activity named Homework 1 is already listed in row 1 for student with id 1", report.results().get(1).message());
+        Assertions.assertEquals("Activity name can't be blank", report.results().get(2).message());
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.smarty.domain.activity.service;
+
+import com.smarty.domain.activity.entity.ActivityLedger;
+import com.smarty.domain.activity.repository.ActivityLedgerRepository;
+import com.smarty.domain.task.enums.Type;
+import com.smarty.infrastructure.persistence.Reconciler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ActivityLedgerServiceImplTest {
+
+    ActivityLedgerServiceImpl activityLedgerService;
+
+    @Mock
+    ActivityLedgerRepository activityLedgerRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        activityLedgerService = new ActivityLedgerServiceImpl(activityLedgerRepository, new Reconciler(transactionManager));
+    }
+
+    @Test
+    void testRecordActivity() {
+        activityLedgerService.recordActivity(1L, 2L, Type.TEST, 2.0, 1);
+
+        verify(activityLedgerRepository, times(1)).record(1L, 2L, 2.0, 0, 0, 1, 0);
+    }
+
+    @Test
+    void testGetLedgerForUpdate() {
+        var ledger = new ActivityLedger(1L, 2L, 10, 1, 0, 2, 0);
+
+        when(activityLedgerRepository.findForUpdate(1L, 2L)).thenReturn(Optional.of(ledger));
+
+        Assertions.assertEquals(2, activityLedgerService.getLedgerForUpdate(1L, 2L).getCount(Type.TEST));
+    }
+
+    @Test
+    void testGetLedgerForUpdate_Empty() {
+        when(activityLedgerRepository.findForUpdate(1L, 2L)).thenReturn(Optional.empty());
+
+        Assertions.assertEquals(0, activityLedgerService.getLedgerForUpdate(1L, 2L).getCount(Type.TEST));
+    }
+
+    @Test
+    void testReconcile() {
+        var consistentLedger = new ActivityLedger(1L, 1L, 14.5, 2, 1, 0, 0);
+        var driftedLedger = new ActivityLedger(1L, 2L, 10, 1, 0, 0, 0);
+        var orphanLedger = new ActivityLedger(2L, 1L, 3, 0, 0, 1, 0);
+        var settledLedger = new ActivityLedger(4L, 1L, 5, 1, 0, 0, 0);
+
+        when(activityLedgerRepository.findAll()).thenReturn(List.of(consistentLedger, driftedLedger, orphanLedger, settledLedger));
+        when(activityLedgerRepository.calculateLedgers()).thenReturn(List.of(
+                new ActivityLedger(1L, 1L, 14.5, 2, 1, 0, 0),
+                new ActivityLedger(1L, 2L, 12, 1, 1, 0, 0),
+                new ActivityLedger(3L, 1L, 2, 0, 0, 1, 0),
+                new ActivityLedger(4L, 1L, 7, 2, 0, 0, 0)));
+        when(activityLedgerRepository.findForUpdate(1L, 2L)).thenReturn(Optional.of(driftedLedger));
+        when(activityLedgerRepository.calculateLedger(1L, 2L)).thenReturn(Optional.of(new ActivityLedger(1L, 2L, 12, 1, 1, 0, 0)));
+        when(activityLedgerRepository.findForUpdate(3L, 1L)).thenReturn(Optional.empty());
+        when(activityLedgerRepository.calculateLedger(3L, 1L)).thenReturn(Optional.of(new ActivityLedger(3L, 1L, 2, 0, 0, 1, 0)));
+        when(activityLedgerRepository.findForUpdate(4L, 1L)).thenReturn(Optional.of(new ActivityLedger(4L, 1L, 7, 2, 0, 0, 0)));
+        when(activityLedgerRepository.calculateLedger(4L, 1L)).thenReturn(Optional.of(new ActivityLedger(4L, 1L, 7, 2, 0, 0, 0)));
+        when(activityLedgerRepository.findForUpdate(2L, 1L)).thenReturn(Optional.of(orphanLedger));
+        when(activityLedgerRepository.calculateLedger(2L, 1L)).thenReturn(Optional.empty());
+
+        var reconciliation = activityLedgerService.reconcile();
+
+        verify(activityLedgerRepository, times(1)).replace(1L, 2L, 12, 1, 1, 0, 0);
+        verify(activityLedgerRepository, times(1)).replace(3L, 1L, 2, 0, 0, 1, 0);
+        verify(activityLedgerRepository, times(1)).replace(2L, 1L, 0, 0, 0, 0, 0);
+        verify(activityLedgerRepository, never()).replace(eq(4L), eq(1L), anyDouble(), anyInt(), anyInt(), anyInt(), anyInt());
+        verify(activityLedgerRepository, never()).replace(eq(1L), eq(1L), anyDouble(), anyInt(), anyInt(), anyInt(), anyInt());
+
+        Assertions.assertEquals(4, reconciliation.ledgers());
+        Assertions.assertEquals(3, reconciliation.drifted());
+        Assertions.assertEquals(12, reconciliation.drifts().get(0).actualPoints());
+        Assertions.assertEquals(10, reconciliation.drifts().get(0).recordedPoints());
+        Assertions.assertEquals(0, reconciliation.drifts().get(2).actualPoints());
+    }
+
+}
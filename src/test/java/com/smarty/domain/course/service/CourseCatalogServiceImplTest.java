@@ -0,0 +1,147 @@
+package com.smarty.domain.course.service;
+
+import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.course.repository.CourseRepository;
+import com.smarty.domain.engagement.model.EngagementView;
+import com.smarty.domain.engagement.repository.EngagementRepository;
+import com.smarty.domain.task.entity.Task;
+import com.smarty.domain.task.enums.Type;
+import com.smarty.domain.task.repository.TaskRepository;
+import com.smarty.infrastructure.mapper.CourseMapperImpl;
+import com.smarty.infrastructure.mapper.TaskMapperImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CourseCatalogServiceImplTest {
+
+    Course webSystems;
+
+    Course databases;
+
+    CourseCatalogServiceImpl courseCatalogService;
+
+    @Mock
+    CourseRepository courseRepository;
+
+    @Mock
+    TaskRepository taskRepository;
+
+    @Mock
+    EngagementRepository engagementRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        webSystems = course(1L, "IT355", 3, 6);
+        databases = course(2L, "IT250", 2, 4);
+
+        courseCatalogService = new CourseCatalogServiceImpl(courseRepository, taskRepository, engagementRepository,
+                new CourseMapperImpl(), new TaskMapperImpl(), transactionManager);
+    }
+
+    @Test
+    void testRefresh() {
+        when(courseRepository.findAll(any(Sort.class))).thenReturn(List.of(webSystems, databases));
+        when(taskRepository.findAll(any(Sort.class))).thenReturn(List.of(task(webSystems)));
+        when(engagementRepository.findEngagements()).thenReturn(List.of(new EngagementView(1L, 5L, 2L)));
+
+        courseCatalogService.refresh();
+        var catalog = courseCatalogService.getCatalog();
+
+        Assertions.assertEquals("IT250", catalog.getCourse(2L).orElseThrow().code());
+        Assertions.assertEquals(1L, catalog.getCourseByCode("IT355").orElseThrow().id());
+        Assertions.assertEquals(List.of(1L), catalog.getCoursesByYear(3).stream().map(course -> course.id()).toList());
+        Assertions.assertEquals(List.of(2L), catalog.getCoursesBySemester(4).stream().map(course -> course.id()).toList());
+        Assertions.assertEquals(Type.HOMEWORK, catalog.getTasksByCourse(1L).get(0).type());
+        Assertions.assertTrue(catalog.getTasksByCourse(2L).isEmpty());
+        Assertions.assertEquals("IT250", catalog.getCoursesByProfessor(5L).get(0).code());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> catalog.getCoursesByYear(3).clear());
+        verify(transactionManager).getTransaction(argThat(definition -> !definition.isReadOnly()));
+    }
+
+    @Test
+    void testRefreshAfterCommit_RebuildsOnlyAfterCommit() throws InterruptedException {
+        when(courseRepository.findAll(any(Sort.class))).thenReturn(List.of(webSystems));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            courseCatalogService.refreshAfterCommit();
+            verifyNoInteractions(courseRepository);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        courseCatalogService.destroy();
+
+        Assertions.assertTrue(courseCatalogService.getCatalog().getCourse(1L).isPresent());
+        verify(courseRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void testRefreshAfterCommit_CoalescesRefreshes() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        when(courseRepository.findAll(any(Sort.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(webSystems);
+        }).thenReturn(List.of(webSystems, databases));
+
+        courseCatalogService.refreshAfterCommit();
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        courseCatalogService.refreshAfterCommit();
+        courseCatalogService.refreshAfterCommit();
+        courseCatalogService.refreshAfterCommit();
+        release.countDown();
+        courseCatalogService.destroy();
+
+        verify(courseRepository, times(2)).findAll(any(Sort.class));
+        Assertions.assertTrue(courseCatalogService.getCatalog().getCourse(2L).isPresent());
+    }
+
+    private Course course(Long id, String code, int year, int semester) {
+        var course = new Course();
+        course.setId(id);
+        course.setCode(code);
+        course.setFullName("Web Systems 2");
+        course.setPoints(8);
+        course.setYear(year);
+        course.setSemester(semester);
+        course.setDescription("Course about learning backend framework Spring and Spring Boot");
+
+        return course;
+    }
+
+    private Task task(Course course) {
+        var task = new Task();
+        task.setId(1L);
+        task.setType(Type.HOMEWORK);
+        task.setMaxPoints(1.5);
+        task.setNumberOfTasks(15);
+        task.setCourse(course);
+
+        return task;
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.smarty.domain.course.service;
 
 import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.course.model.CourseCatalog;
 import com.smarty.domain.course.model.CourseRequestDTO;
 import com.smarty.domain.course.model.CourseResponseDTO;
 import com.smarty.domain.course.model.CourseUpdateDTO;
@@ -8,6 +9,7 @@ import com.smarty.domain.course.repository.CourseRepository;
 import com.smarty.infrastructure.handler.exceptions.ConflictException;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.CourseMapperImpl;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -42,6 +45,9 @@ public class CourseServiceImplTest {
     @Mock
     CourseMapperImpl courseMapper;
 
+    @Mock
+    CourseCatalogService courseCatalogService;
+
     @BeforeEach
     void setUp() {
         course = new Course();
@@ -66,8 +72,7 @@ public class CourseServiceImplTest {
                 "Course about learning backend framework Spring and Spring Boot");
 
         when(courseMapper.toCourse(courseRequestDTO)).thenReturn(course);
-        when(courseRepository.existsByCode(courseRequestDTO.code())).thenReturn(false);
-        when(courseRepository.save(course)).thenReturn(course);
+        when(courseRepository.saveAndFlush(course)).thenReturn(course);
         doReturn(courseResponseDTO).when(courseMapper).toCourseResponseDTO(course);
 
         var createdCourseDTO = courseService.createCourse(courseRequestDTO);
@@ -81,9 +86,11 @@ public class CourseServiceImplTest {
                 "Course about learning backend framework Spring and Spring Boot");
 
         when(courseMapper.toCourse(courseRequestDTO)).thenReturn(course);
-        doReturn(true).when(courseRepository).existsByCode("IT355");
+        doThrow(new DataIntegrityViolationException("Duplicate entry",
+                new ConstraintViolationException("Duplicate entry", null, Course.UNIQUE_CODE))).when(courseRepository).saveAndFlush(course);
 
-        Assertions.assertThrows(ConflictException.class, () -> courseService.createCourse(courseRequestDTO));
+        var exception = Assertions.assertThrows(ConflictException.class, () -> courseService.createCourse(courseRequestDTO));
+        Assertions.assertEquals("Course with code IT355 already exists", exception.getMessage());
     }
 
     @Test
@@ -105,20 +112,32 @@ public class CourseServiceImplTest {
         CourseResponseDTO courseResponseDTO = new CourseResponseDTO(1L, "IT355", "Web Systems 2", 8, 3, 6,
                 "Course about learning backend framework Spring and Spring Boot");
 
-        when(courseMapper.toCourseResponseDTO(course)).thenReturn(courseResponseDTO);
-        var expectedCourse = courseMapper.toCourseResponseDTO(course);
-        doReturn(Optional.of(course)).when(courseRepository).findById(1L);
+        when(courseCatalogService.getCatalog()).thenReturn(CourseCatalog.of(List.of(courseResponseDTO), List.of(), List.of()));
         var returnedCourse = courseService.getCourseById(1L);
 
-        Assertions.assertEquals(expectedCourse, returnedCourse);
+        Assertions.assertEquals(courseResponseDTO, returnedCourse);
+        verifyNoInteractions(courseRepository);
     }
 
     @Test
     void testGetCourseById_NotFound() {
-        doReturn(Optional.empty()).when(courseRepository).findById(1L);
+        when(courseCatalogService.getCatalog()).thenReturn(CourseCatalog.EMPTY);
         Assertions.assertThrows(NotFoundException.class, () -> courseService.getCourseById(1L));
     }
 
+    @Test
+    void testGetCoursesByYear() {
+        CourseResponseDTO courseResponseDTO = new CourseResponseDTO(1L, "IT355", "Web Systems 2", 8, 3, 6,
+                "Course about learning backend framework Spring and Spring Boot");
+
+        when(courseCatalogService.getCatalog()).thenReturn(CourseCatalog.of(List.of(courseResponseDTO), List.of(), List.of()));
+
+        Assertions.assertEquals(List.of(courseResponseDTO), courseService.getCoursesByYear(3));
+        Assertions.assertThrows(NotFoundException.class, () -> courseService.getCoursesByYear(2));
+        Assertions.assertThrows(NotFoundException.class, () -> courseService.getCoursesByYear(5));
+        verifyNoInteractions(courseRepository);
+    }
+
     @Test
     void testUpdateCourse() {
         CourseUpdateDTO courseUpdateDTO = new CourseUpdateDTO("Web Systems 2", 10, 3, 6,
@@ -134,6 +153,7 @@ public class CourseServiceImplTest {
         var updatedCourseDTO = courseService.updateCourse(1L, courseUpdateDTO);
 
         assertThat(courseResponseDTO).isEqualTo(updatedCourseDTO);
+        verify(courseCatalogService, times(1)).refreshAfterCommit();
     }
 
     @Test
@@ -0,0 +1,141 @@
+package com.smarty.domain.exam.repository;
+
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.activity.entity.ActivityLedger;
+import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.exam.entity.Exam;
+import com.smarty.domain.exam.model.ExamEligibility;
+import com.smarty.domain.major.entity.Major;
+import com.smarty.domain.status.entity.Status;
+import com.smarty.domain.student.entity.Student;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ExamRepositoryTest {
+
+    Student student;
+
+    Course course;
+
+    Course passedCourse;
+
+    Statistics statistics;
+
+    @Autowired
+    ExamRepository examRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        var major = new Major();
+        major.setCode("SE");
+        major.setFullName("Software engineering");
+        major.setDescription("Software engineering major");
+        major.setDuration(4);
+        entityManager.persist(major);
+
+        var status = new Status();
+        status.setType("Traditional");
+        entityManager.persist(status);
+
+        var account = new Account();
+        account.setEmail("sasa@metropolitan.ac.rs");
+        account.setPassword("$hash$");
+        account.setRole(Role.STUDENT);
+
+        student = new Student();
+        student.setName("Sasa");
+        student.setSurname("Stanisic");
+        student.setIndex(4377);
+        student.setYear(3);
+        student.setSemester(6);
+        student.setMajor(major);
+        student.setStatus(status);
+        student.setAccount(account);
+        entityManager.persist(student);
+
+        course = course("IT355", 3);
+        passedCourse = course("IT255", 3);
+
+        var exam = new Exam();
+        exam.setName("IT255 - June");
+        exam.setGrade(8);
+        exam.setPoints(25);
+        exam.setTotalPoints(75);
+        exam.setDateOfExamination(LocalDate.of(2023, 6, 15));
+        exam.setStudent(student);
+        exam.setCourse(passedCourse);
+        entityManager.persist(exam);
+        entityManager.persist(new ActivityLedger(student.getId(), course.getId(), 42.5, 10, 1, 3, 0));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager
+                .getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindExamEligibility() {
+        var eligibility = examRepository.findExamEligibility(student.getId(), course.getId());
+
+        Assertions.assertEquals(new ExamEligibility(student.getId(), "Sasa", 3, course.getId(), "IT355", 3, false, 42.5),
+                eligibility.orElseThrow());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindExamEligibilityOfPassedCourse() {
+        var eligibility = examRepository.findExamEligibility(student.getId(), passedCourse.getId()).orElseThrow();
+
+        Assertions.assertTrue(eligibility.examPassed());
+        Assertions.assertEquals(0, eligibility.activityPoints());
+    }
+
+    @Test
+    void testFindExamEligibilities() {
+        var eligibilities = examRepository.findExamEligibilities(List.of(student.getId(), student.getId() + 1000), course.getId());
+
+        Assertions.assertEquals(1, eligibilities.size());
+        Assertions.assertEquals(42.5, eligibilities.get(0).activityPoints());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindExamEligibility_NotFound() {
+        Assertions.assertTrue(examRepository.findExamEligibility(student.getId() + 1000, course.getId()).isEmpty());
+    }
+
+    private Course course(String code, int year) {
+        var course = new Course();
+        course.setCode(code);
+        course.setFullName(code);
+        course.setPoints(8);
+        course.setYear(year);
+        course.setSemester(6);
+        course.setDescription(code);
+
+        return entityManager.persist(course);
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.smarty.domain.exam.service;
+
+import com.smarty.domain.course.service.CourseService;
+import com.smarty.domain.exam.model.ExamEligibility;
+import com.smarty.domain.exam.repository.ExamRepository;
+import com.smarty.domain.student.service.StudentService;
+import com.smarty.infrastructure.handler.exceptions.ConflictException;
+import com.smarty.infrastructure.handler.exceptions.ForbiddenException;
+import com.smarty.infrastructure.handler.exceptions.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExamEligibilityServiceImplTest {
+
+    @InjectMocks
+    ExamEligibilityServiceImpl examEligibilityService;
+
+    @Mock
+    ExamRepository examRepository;
+
+    @Mock
+    StudentService studentService;
+
+    @Mock
+    CourseService courseService;
+
+    @Test
+    void testGetEligibility() {
+        var eligibility = new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 45);
+
+        when(examRepository.findExamEligibility(1L, 1L)).thenReturn(Optional.of(eligibility));
+
+        Assertions.assertEquals(eligibility, examEligibilityService.getEligibility(1L, 1L));
+        verifyNoInteractions(studentService, courseService);
+    }
+
+    @Test
+    void testGetEligibility_NotFound() {
+        when(examRepository.findExamEligibility(2L, 1L)).thenReturn(Optional.empty());
+        doThrow(new NotFoundException("Student with id 2 doesn't exist")).when(studentService).existsById(2L);
+
+        var exception = Assertions.assertThrows(NotFoundException.class, () -> examEligibilityService.getEligibility(2L, 1L));
+
+        Assertions.assertEquals("Student with id 2 doesn't exist", exception.getMessage());
+    }
+
+    @Test
+    void testGetEligibilities() {
+        var eligibility = new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 45);
+
+        when(examRepository.findExamEligibilities(List.of(1L, 2L), 1L)).thenReturn(List.of(eligibility));
+
+        Assertions.assertEquals(Map.of(1L, eligibility), examEligibilityService.getEligibilities(List.of(1L, 2L), 1L));
+        Assertions.assertEquals(Map.of(), examEligibilityService.getEligibilities(List.of(), 1L));
+        verify(examRepository, times(1)).findExamEligibilities(anyCollection(), anyLong());
+    }
+
+    @Test
+    void testGetRejectionReason() {
+        Assertions.assertNull(examEligibilityService.getRejectionReason(
+                new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 45)));
+        Assertions.assertEquals("Student Sasa has already passed the IT355 exam", examEligibilityService.getRejectionReason(
+                new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, true, 45)));
+        Assertions.assertEquals("Student can't take the exam because he needs at least 35 points for activities. " +
+                "Right now he has 30.00 points", examEligibilityService.getRejectionReason(
+                new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 30)));
+    }
+
+    @Test
+    void testValidateEligibility() {
+        Assertions.assertDoesNotThrow(() -> examEligibilityService.validateEligibility(
+                new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 45)));
+        Assertions.assertThrows(ForbiddenException.class, () -> examEligibilityService.validateEligibility(
+                new ExamEligibility(1L, "Sasa", 2, 1L, "IT355", 3, false, 45)));
+        Assertions.assertThrows(ConflictException.class, () -> examEligibilityService.validateEligibility(
+                new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, true, 45)));
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.smarty.domain.exam.service;
+
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.activity.service.ActivityService;
+import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.course.service.CourseService;
+import com.smarty.domain.exam.entity.Exam;
+import com.smarty.domain.exam.event.ExamGraded;
+import com.smarty.domain.exam.model.ExamEligibility;
+import com.smarty.domain.exam.model.ExamRequestDTO;
+import com.smarty.domain.exam.model.ExamView;
+import com.smarty.domain.exam.repository.ExamRepository;
+import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.student.service.GradeSummaryService;
+import com.smarty.domain.student.service.StudentService;
+import com.smarty.infrastructure.event.DomainEventPublisher;
+import com.smarty.infrastructure.handler.exceptions.ConflictException;
+import com.smarty.infrastructure.handler.exceptions.ForbiddenException;
+import com.smarty.infrastructure.mapper.ExamMapperImpl;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExamServiceImplTest {
+
+    Student student;
+
+    Course course;
+
+    ExamRequestDTO examRequestDTO;
+
+    ExamView examView;
+
+    @InjectMocks
+    ExamServiceImpl examService;
+
+    @Mock
+    ExamRepository examRepository;
+
+    @Mock
+    ExamMapperImpl examMapper;
+
+    @Mock
+    StudentService studentService;
+
+    @Mock
+    CourseService courseService;
+
+    @Mock
+    ActivityService activityService;
+
+    @Mock
+    GradeSummaryService gradeSummaryService;
+
+    @Mock
+    ExamEligibilityService examEligibilityService;
+
+    @Mock
+    DomainEventPublisher domainEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        student = new Student();
+        student.setId(1L);
+        student.setName("Sasa");
+        student.setYear(3);
+
+        course = new Course();
+        course.setId(1L);
+        course.setCode("IT355");
+        course.setYear(3);
+
+        examRequestDTO = new ExamRequestDTO("IT355 - June", 20, LocalDate.of(2023, 6, 15), null, 1L, 1L);
+        examView = new ExamView(1L, "IT355 - June", 7, 20, LocalDate.of(2023, 6, 15), null, 65,
+                1L, "Sasa", "Stanisic", 4377, 3, 6, 1L, "SE", "Software engineering", "Software engineering major", 4,
+                1L, "Traditional", "sasa@metropolitan.ac.rs", "$hash$", Role.STUDENT,
+                1L, "IT355", "Web Systems 2", 8, 3, 6, "Course about learning backend framework Spring and Spring Boot");
+    }
+
+    @Test
+    void testCreateExam() {
+        var eligibility = new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 45);
+
+        when(examMapper.toExam(examRequestDTO)).thenReturn(new Exam());
+        when(examEligibilityService.getEligibility(1L, 1L)).thenReturn(eligibility);
+        when(studentService.getReferenceById(1L)).thenReturn(student);
+        when(courseService.getReferenceById(1L)).thenReturn(course);
+        when(examRepository.findExamById(any())).thenReturn(Optional.of(examView));
+
+        examService.createExam(examRequestDTO);
+
+        verify(examEligibilityService, times(1)).getEligibility(1L, 1L);
+        verify(examEligibilityService, times(1)).validateEligibility(eligibility);
+        verify(studentService, times(1)).getReferenceById(1L);
+        verify(courseService, times(1)).getReferenceById(1L);
+        verify(examRepository, times(1)).saveAndFlush(any(Exam.class));
+        verify(examRepository, times(1)).findExamById(any());
+        verify(gradeSummaryService, times(1)).recordGrade(1L, 0, 7);
+        verify(domainEventPublisher, times(1)).publish(any(ExamGraded.class));
+        verifyNoMoreInteractions(examRepository, studentService, courseService);
+        verifyNoInteractions(activityService);
+    }
+
+    @Test
+    void testCreateExam_AlreadyExists() {
+        var eligibility = new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 45);
+        var exam = new Exam();
+        exam.setName("IT355 - June");
+
+        when(examMapper.toExam(examRequestDTO)).thenReturn(exam);
+        when(examEligibilityService.getEligibility(1L, 1L)).thenReturn(eligibility);
+        when(studentService.getReferenceById(1L)).thenReturn(student);
+        when(courseService.getReferenceById(1L)).thenReturn(course);
+        doThrow(new DataIntegrityViolationException("Duplicate entry",
+                new ConstraintViolationException("Duplicate entry", null, Exam.UNIQUE_STUDENT_COURSE_NAME))).when(examRepository).saveAndFlush(exam);
+
+        var exception = Assertions.assertThrows(ConflictException.class, () -> examService.createExam(examRequestDTO));
+        Assertions.assertEquals("Exam IT355 - June already exists for student with id 1", exception.getMessage());
+        verifyNoInteractions(gradeSummaryService, domainEventPublisher);
+    }
+
+    @Test
+    void testCreateExam_NotEnoughActivityPoints() {
+        var eligibility = new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 30);
+
+        when(examMapper.toExam(examRequestDTO)).thenReturn(new Exam());
+        when(examEligibilityService.getEligibility(1L, 1L)).thenReturn(eligibility);
+        doThrow(ForbiddenException.class).when(examEligibilityService).validateActivityPoints(30);
+
+        Assertions.assertThrows(ForbiddenException.class, () -> examService.createExam(examRequestDTO));
+        verifyNoInteractions(examRepository, studentService, courseService, gradeSummaryService, domainEventPublisher);
+    }
+
+}
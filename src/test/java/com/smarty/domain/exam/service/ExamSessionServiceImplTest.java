@@ -0,0 +1,245 @@
+package com.smarty.domain.exam.service;
+
+import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.course.service.CourseService;
+import com.smarty.domain.exam.entity.Exam;
+import com.smarty.domain.exam.event.ExamGraded;
+import com.smarty.domain.exam.model.ExamEligibility;
+import com.smarty.domain.exam.model.ExamSessionRequestDTO;
+import com.smarty.domain.exam.model.ExamSessionResultDTO;
+import com.smarty.domain.exam.model.ExamSessionRowDTO;
+import com.smarty.domain.exam.repository.ExamRepository;
+import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.student.service.GradeSummaryService;
+import com.smarty.domain.student.service.StudentService;
+import com.smarty.infrastructure.event.DomainEventPublisher;
+import com.smarty.infrastructure.handler.exceptions.ConflictException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExamSessionServiceImplTest {
+
+    Course course;
+
+    @InjectMocks
+    ExamSessionServiceImpl examSessionService;
+
+    @Mock
+    ExamRepository examRepository;
+
+    @Mock
+    ExamEligibilityService examEligibilityService;
+
+    @Mock
+    StudentService studentService;
+
+    @Mock
+    CourseService courseService;
+
+    @Mock
+    GradeSummaryService gradeSummaryService;
+
+    @Mock
+    DomainEventPublisher domainEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        course = new Course();
+        course.setId(1L);
+        course.setCode("IT355");
+        course.setYear(3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGradeExamSession() {
+        var date = LocalDate.of(2023, 6, 15);
+        var passedEligibility = new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 45);
+        var failedEligibility = new ExamEligibility(2L, "Milica", 3, 1L, "IT355", 3, false, 50);
+        var alreadyPassedEligibility = new ExamEligibility(3L, "Andjela", 3, 1L, "IT355", 3, true, 60);
+        var examSessionDTO = new ExamSessionRequestDTO("IT355 - June", 1L, List.of(
+                new ExamSessionRowDTO(1L, 20, date, null),
+                new ExamSessionRowDTO(2L, 10, date, null),
+                new ExamSessionRowDTO(3L, 25, date, null),
+                new ExamSessionRowDTO(4L, 25, date, null),
+                new ExamSessionRowDTO(1L, 25, date, null)));
+
+        when(courseService.getById(1L)).thenReturn(course);
+        when(examEligibilityService.getSessionEligibilities(Set.of(1L, 2L, 3L, 4L), 1L, "IT355 - June")).thenReturn(Map.of(
+                1L, passedEligibility, 2L, failedEligibility, 3L, alreadyPassedEligibility));
+        when(examEligibilityService.getRejectionReason(any(ExamEligibility.class))).thenReturn(null);
+        when(examEligibilityService.getRejectionReason(alreadyPassedEligibility)).thenReturn("Student Andjela has already passed the IT355 exam");
+        when(studentService.getReferenceById(any())).thenAnswer(invocation -> new Student());
+
+        var report = examSessionService.gradeExamSession(examSessionDTO);
+
+        ArgumentCaptor<List<Exam>> savedExams = ArgumentCaptor.forClass(List.class);
+        verify(examRepository, times(1)).saveAllAndFlush(savedExams.capture());
+        verify(examEligibilityService, times(1)).getSessionEligibilities(any(), any(), any());
+        verify(gradeSummaryService, times(1)).recordGrades(Map.of(1L, 0, 2L, 0), Map.of(1L, 7, 2L, 5));
+        verify(domainEventPublisher, times(2)).publish(any(ExamGraded.class));
+
+        Assertions.assertEquals(5, report.total());
+        Assertions.assertEquals(2, report.graded());
+        Assertions.assertEquals(List.of(true, true, false, false, false),
+                report.results().stream().map(ExamSessionResultDTO::graded).toList());
+        Assertions.assertEquals(List.of(7, 5), savedExams.getValue().stream().map(Exam::getGrade).toList());
+        Assertions.assertEquals("Student Andjela has already passed the IT355 exam", report.results().get(2).message());
+        Assertions.assertEquals("Student with id 4 doesn't exist", report.results().get(3).message());
+        Assertions.assertEquals("Student with id 1 is already listed in row 1", report.results().get(4).message());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGradeExamSession_MixedEligibility() {
+        var date = LocalDate.of(2023, 6, 15);
+        var eligibleEligibility = new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 50);
+        var firstYearEligibility = new ExamEligibility(2L, "Milica", 1, 1L, "IT355", 3, false, 50);
+        var inactiveEligibility = new ExamEligibility(3L, "Andjela", 3, 1L, "IT355", 3, false, 20);
+        var secondEligibleEligibility = new ExamEligibility(4L, "Nemanja", 4, 1L, "IT355", 3, false, 40);
+        var examSessionDTO = new ExamSessionRequestDTO("IT355 - June", 1L, List.of(
+                new ExamSessionRowDTO(1L, 25, date, null),
+                new ExamSessionRowDTO(2L, 25, date, null),
+                new ExamSessionRowDTO(3L, 25, date, null),
+                new ExamSessionRowDTO(4L, 30, date, "Excellent"),
+                new ExamSessionRowDTO(5L, 25, date, null)));
+
+        when(courseService.getById(1L)).thenReturn(course);
+        when(examEligibilityService.getSessionEligibilities(Set.of(1L, 2L, 3L, 4L, 5L), 1L, "IT355 - June")).thenReturn(Map.of(
+                1L, eligibleEligibility, 2L, firstYearEligibility, 3L, inactiveEligibility, 4L, secondEligibleEligibility));
+        when(examEligibilityService.getRejectionReason(any(ExamEligibility.class))).thenReturn(null);
+        when(examEligibilityService.getRejectionReason(firstYearEligibility)).thenReturn("Student Milica can't take the exam");
+        when(examEligibilityService.getRejectionReason(inactiveEligibility)).thenReturn("Student needs at least 35 points for activities");
+        when(studentService.getReferenceById(any())).thenAnswer(invocation -> new Student());
+
+        var report = examSessionService.gradeExamSession(examSessionDTO);
+
+        ArgumentCaptor<List<Exam>> savedExams = ArgumentCaptor.forClass(List.class);
+        verify(examRepository, times(1)).saveAllAndFlush(savedExams.capture());
+        verify(studentService, times(1)).getReferenceById(1L);
+        verify(studentService, times(1)).getReferenceById(4L);
+        verifyNoMoreInteractions(studentService);
+        verify(gradeSummaryService, times(1)).recordGrades(Map.of(1L, 0, 4L, 0), Map.of(1L, 8, 4L, 8));
+        verify(domainEventPublisher, times(2)).publish(any(ExamGraded.class));
+
+        Assertions.assertEquals(2, report.graded());
+        Assertions.assertEquals(3, report.rejected());
+        Assertions.assertEquals(List.of(true, false, false, true, false),
+                report.results().stream().map(ExamSessionResultDTO::graded).toList());
+        Assertions.assertEquals(List.of(75.0, 70.0), savedExams.getValue().stream().map(Exam::getTotalPoints).toList());
+        Assertions.assertEquals("Excellent", savedExams.getValue().get(1).getComment());
+        Assertions.assertEquals("Student Milica can't take the exam", report.results().get(1).message());
+        Assertions.assertEquals("Student needs at least 35 points for activities", report.results().get(2).message());
+        Assertions.assertEquals("Student with id 5 doesn't exist", report.results().get(4).message());
+    }
+
+    @Test
+    void testGradeExamSession_AlreadyGradedConcurrently() {
+        var date = LocalDate.of(2023, 6, 15);
+        var examSessionDTO = new ExamSessionRequestDTO("IT355 - June", 1L, List.of(new ExamSessionRowDTO(1L, 20, date, null)));
+
+        when(courseService.getById(1L)).thenReturn(course);
+        when(examEligibilityService.getSessionEligibilities(Set.of(1L), 1L, "IT355 - June")).thenReturn(Map.of(
+                1L, new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 45)));
+        when(studentService.getReferenceById(1L)).thenReturn(student(1L));
+        doThrow(new DataIntegrityViolationException("Duplicate entry",
+                new ConstraintViolationException("Duplicate entry", null, Exam.UNIQUE_STUDENT_COURSE_NAME))).when(examRepository).saveAllAndFlush(any());
+
+        var exception = Assertions.assertThrows(ConflictException.class, () -> examSessionService.gradeExamSession(examSessionDTO));
+        Assertions.assertEquals("Exam IT355 - June is already graded for one of the listed students", exception.getMessage());
+        verifyNoInteractions(gradeSummaryService, domainEventPublisher);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGradeExamSession_UpdatesExistingExams() {
+        var date = LocalDate.of(2023, 6, 15);
+        var existingExam = exam(10L, 1L, 5, 10);
+        var examSessionDTO = new ExamSessionRequestDTO("IT355 - June", 1L, List.of(
+                new ExamSessionRowDTO(1L, 20, date, "Corrected"),
+                new ExamSessionRowDTO(2L, 20, date, null)));
+
+        when(courseService.getById(1L)).thenReturn(course);
+        when(examEligibilityService.getSessionEligibilities(Set.of(1L, 2L), 1L, "IT355 - June")).thenReturn(Map.of(
+                1L, new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 45),
+                2L, new ExamEligibility(2L, "Milica", 3, 1L, "IT355", 3, false, 45)));
+        when(examRepository.findByCourse_IdAndNameAndStudent_IdIn(1L, "IT355 - June", Set.of(1L, 2L))).thenReturn(List.of(existingExam));
+        when(studentService.getReferenceById(2L)).thenReturn(student(2L));
+
+        var report = examSessionService.gradeExamSession(examSessionDTO);
+
+        ArgumentCaptor<List<Exam>> savedExams = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<ExamGraded> publishedEvents = ArgumentCaptor.forClass(ExamGraded.class);
+        verify(examRepository, times(1)).saveAllAndFlush(savedExams.capture());
+        verify(studentService, never()).getReferenceById(1L);
+        verify(domainEventPublisher, times(2)).publish(publishedEvents.capture());
+
+        Assertions.assertEquals(2, report.graded());
+        Assertions.assertEquals(1, savedExams.getValue().size());
+        Assertions.assertEquals(2L, savedExams.getValue().get(0).getStudent().getId());
+        Assertions.assertEquals(10L, report.results().get(0).examId());
+        Assertions.assertEquals(7, existingExam.getGrade());
+        Assertions.assertEquals(65, existingExam.getTotalPoints());
+        Assertions.assertEquals("Corrected", existingExam.getComment());
+        Assertions.assertEquals(List.of(5, 0), publishedEvents.getAllValues().stream().map(ExamGraded::previousGrade).toList());
+    }
+
+    @Test
+    void testGradeExamSession_RecordsGradeSummaryDeltas() {
+        var date = LocalDate.of(2023, 6, 15);
+        var examSessionDTO = new ExamSessionRequestDTO("IT355 - June", 1L, List.of(
+                new ExamSessionRowDTO(1L, 10, date, null),
+                new ExamSessionRowDTO(2L, 30, date, null),
+                new ExamSessionRowDTO(3L, 25, date, null)));
+
+        when(courseService.getById(1L)).thenReturn(course);
+        when(examEligibilityService.getSessionEligibilities(Set.of(1L, 2L, 3L), 1L, "IT355 - June")).thenReturn(Map.of(
+                1L, new ExamEligibility(1L, "Sasa", 3, 1L, "IT355", 3, false, 50),
+                2L, new ExamEligibility(2L, "Milica", 3, 1L, "IT355", 3, false, 50),
+                3L, new ExamEligibility(3L, "Andjela", 3, 1L, "IT355", 3, false, 50)));
+        when(examRepository.findByCourse_IdAndNameAndStudent_IdIn(1L, "IT355 - June", Set.of(1L, 2L, 3L)))
+                .thenReturn(List.of(exam(10L, 1L, 8, 30), exam(11L, 2L, 5, 10)));
+        when(studentService.getReferenceById(3L)).thenReturn(student(3L));
+
+        examSessionService.gradeExamSession(examSessionDTO);
+
+        verify(gradeSummaryService, times(1)).recordGrades(Map.of(1L, 8, 2L, 5, 3L, 0), Map.of(1L, 5, 2L, 9, 3L, 8));
+    }
+
+    private Exam exam(Long id, Long studentId, int grade, double points) {
+        var exam = new Exam();
+        exam.setId(id);
+        exam.setName("IT355 - June");
+        exam.setGrade(grade);
+        exam.setPoints(points);
+        exam.setStudent(student(studentId));
+        exam.setCourse(course);
+
+        return exam;
+    }
+
+    private Student student(Long id) {
+        var student = new Student();
+        student.setId(id);
+
+        return student;
+    }
+
+}
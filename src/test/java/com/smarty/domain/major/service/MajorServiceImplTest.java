@@ -8,6 +8,7 @@ import com.smarty.domain.major.repository.MajorRepository;
 import com.smarty.infrastructure.handler.exceptions.ConflictException;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.MajorMapperImpl;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -62,7 +64,7 @@ public class MajorServiceImplTest {
         MajorResponseDTO majorResponseDTO = new MajorResponseDTO(1L, "SE", "Software engineering", "Software engineering major", 4);
 
         when(majorMapper.toMajor(majorRequestDTO)).thenReturn(major);
-        when(majorRepository.save(major)).thenReturn(major);
+        when(majorRepository.saveAndFlush(major)).thenReturn(major);
         doReturn(majorResponseDTO).when(majorMapper).toMajorResponseDTO(major);
 
         var createdMajorDTO = majorService.createMajor(majorRequestDTO);
@@ -75,7 +77,7 @@ public class MajorServiceImplTest {
         MajorRequestDTO majorRequestDTO = new MajorRequestDTO("SE", "Software engineering", "Software engineering major", 4);
 
         when(majorMapper.toMajor(majorRequestDTO)).thenReturn(major);
-        doReturn(false).when(majorRepository).existsByCode("SE");
+        doReturn(major).when(majorRepository).saveAndFlush(major);
 
         Assertions.assertDoesNotThrow(() -> majorService.createMajor(majorRequestDTO));
     }
@@ -85,9 +87,11 @@ public class MajorServiceImplTest {
         MajorRequestDTO majorRequestDTO = new MajorRequestDTO("SE", "Software engineering", "Software engineering major", 4);
 
         when(majorMapper.toMajor(majorRequestDTO)).thenReturn(major);
-        doReturn(true).when(majorRepository).existsByCode("SE");
+        doThrow(new DataIntegrityViolationException("Duplicate entry",
+                new ConstraintViolationException("Duplicate entry", null, Major.UNIQUE_CODE))).when(majorRepository).saveAndFlush(major);
 
-        Assertions.assertThrows(ConflictException.class, () -> majorService.createMajor(majorRequestDTO));
+        var exception = Assertions.assertThrows(ConflictException.class, () -> majorService.createMajor(majorRequestDTO));
+        Assertions.assertEquals("Major with code SE already exists", exception.getMessage());
     }
 
     @Test
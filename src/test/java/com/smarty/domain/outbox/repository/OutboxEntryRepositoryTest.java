@@ -0,0 +1,82 @@
+package com.smarty.domain.outbox.repository;
+
+import com.smarty.domain.outbox.entity.OutboxEntry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class OutboxEntryRepositoryTest {
+
+    LocalDateTime createdAt;
+
+    @Autowired
+    OutboxEntryRepository outboxEntryRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        createdAt = LocalDateTime.of(2023, 6, 1, 12, 0);
+
+        outboxEntry(1, "ExamGraded", "1", createdAt.minusDays(1));
+        outboxEntry(2, "ActivityRecorded", "1", createdAt);
+        outboxEntry(4, "ExamGraded", "2", createdAt.minusMinutes(1));
+        outboxEntry(3, "ExamGraded", "3", createdAt.plusMinutes(1));
+        outboxEntry(5, "ExamGraded", "1", createdAt.plusMinutes(2));
+        entityManager.flush();
+    }
+
+    @Test
+    void testFindEntriesAfter() {
+        var firstBatch = outboxEntryRepository.findEntriesAfter(0L, null, PageRequest.ofSize(2));
+        var secondBatch = outboxEntryRepository.findEntriesAfter(firstBatch.get(1).getPosition(), null, PageRequest.ofSize(2));
+
+        Assertions.assertEquals(List.of("ExamGraded:1", "ActivityRecorded:1"), firstBatch.stream().map(this::key).toList());
+        Assertions.assertEquals(List.of("ExamGraded:3", "ExamGraded:2"), secondBatch.stream().map(this::key).toList());
+    }
+
+    @Test
+    void testFindEntriesAfter_FiltersByType() {
+        var entries = outboxEntryRepository.findEntriesAfter(0L, "ExamGraded", PageRequest.ofSize(10));
+
+        Assertions.assertEquals(List.of("ExamGraded:1", "ExamGraded:3", "ExamGraded:2", "ExamGraded:1"), entries.stream().map(this::key).toList());
+    }
+
+    @Test
+    void testFindSupersededIds() {
+        var ids = outboxEntryRepository.findSupersededIds(PageRequest.ofSize(10));
+
+        Assertions.assertEquals(List.of(1L), outboxEntryRepository.findAllById(ids).stream().map(OutboxEntry::getPosition).toList());
+    }
+
+    @Test
+    void testFindIdsCreatedBefore() {
+        var ids = outboxEntryRepository.findIdsCreatedBefore(createdAt, PageRequest.ofSize(10));
+
+        Assertions.assertEquals(2, ids.size());
+    }
+
+    private String key(OutboxEntry outboxEntry) {
+        return outboxEntry.getType() + ":" + outboxEntry.getAggregateKey();
+    }
+
+    private void outboxEntry(long position, String type, String aggregateKey, LocalDateTime createdAt) {
+        var outboxEntry = new OutboxEntry(type, aggregateKey, "{}", createdAt);
+        outboxEntry.setPosition(position);
+        entityManager.persist(outboxEntry);
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.smarty.domain.outbox.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarty.domain.exam.event.ExamGraded;
+import com.smarty.domain.outbox.entity.OutboxEntry;
+import com.smarty.domain.outbox.entity.OutboxSequence;
+import com.smarty.domain.outbox.model.OutboxEntryDTO;
+import com.smarty.domain.outbox.repository.OutboxEntryRepository;
+import com.smarty.domain.outbox.repository.OutboxSequenceRepository;
+import com.smarty.domain.post.event.PostDeleted;
+import com.smarty.domain.student.event.StudentDeleted;
+import com.smarty.infrastructure.handler.exceptions.BadRequestException;
+import com.smarty.infrastructure.mapper.OutboxMapperImpl;
+import com.smarty.infrastructure.pagination.CursorToken;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxServiceImplTest {
+
+    LocalDateTime createdAt;
+
+    OutboxServiceImpl outboxService;
+
+    @Mock
+    OutboxEntryRepository outboxEntryRepository;
+
+    @Mock
+    OutboxSequenceRepository outboxSequenceRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        createdAt = LocalDateTime.of(2023, 6, 1, 12, 0);
+        outboxService = new OutboxServiceImpl(outboxEntryRepository, outboxSequenceRepository, new OutboxMapperImpl(),
+                new ObjectMapper().findAndRegisterModules(), transactionManager, 2, 7, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRecord_OnlyExportedEvents() {
+        var sequence = outboxSequence(10L);
+
+        when(outboxSequenceRepository.findForUpdate("outbox_entry")).thenReturn(Optional.of(sequence));
+
+        outboxService.record(List.of(new ExamGraded(1L, 2L, 3L, 0, 7, 75), new PostDeleted(1L), new StudentDeleted(2L)));
+
+        ArgumentCaptor<List<OutboxEntry>> savedEntries = ArgumentCaptor.forClass(List.class);
+        verify(outboxEntryRepository, times(1)).saveAll(savedEntries.capture());
+        Assertions.assertEquals(List.of("ExamGraded:1", "StudentDeleted:2"), savedEntries.getValue()
+                .stream()
+                .map(outboxEntry -> outboxEntry.getType() + ":" + outboxEntry.getAggregateKey())
+                .toList());
+        Assertions.assertEquals(List.of(11L, 12L), savedEntries.getValue().stream().map(OutboxEntry::getPosition).toList());
+        Assertions.assertTrue(savedEntries.getValue().get(0).getPayload().contains("\"grade\":7"));
+        Assertions.assertEquals(12L, sequence.getPosition());
+    }
+
+    @Test
+    void testRecord_CreatesMissingSequence() {
+        var sequence = outboxSequence(0L);
+
+        when(outboxSequenceRepository.findForUpdate("outbox_entry")).thenReturn(Optional.empty(), Optional.of(sequence));
+
+        outboxService.record(List.of(new StudentDeleted(2L)));
+
+        verify(outboxSequenceRepository, times(1)).saveAndFlush(argThat(created -> created.getName().equals("outbox_entry")));
+        Assertions.assertEquals(1L, sequence.getPosition());
+    }
+
+    @Test
+    void testRecord_NothingExported() {
+        outboxService.record(List.of(new PostDeleted(1L)));
+
+        verifyNoInteractions(outboxEntryRepository, outboxSequenceRepository);
+    }
+
+    @Test
+    void testGetEntries() {
+        when(outboxEntryRepository.findEntriesAfter(0L, "ExamGraded", PageRequest.ofSize(3)))
+                .thenReturn(List.of(outboxEntry(1L), outboxEntry(2L), outboxEntry(3L)));
+
+        var batch = outboxService.getEntries(null, 10, "ExamGraded");
+
+        Assertions.assertEquals(List.of(1L, 2L), batch.entries().stream().map(OutboxEntryDTO::id).toList());
+        Assertions.assertTrue(batch.hasMore());
+        Assertions.assertEquals(CursorToken.encode(2L), batch.nextCursor());
+    }
+
+    @Test
+    void testGetEntries_CaughtUpKeepsCursor() {
+        var cursor = CursorToken.encode(2L);
+
+        when(outboxEntryRepository.findEntriesAfter(eq(2L), eq(null), any())).thenReturn(List.of());
+
+        var batch = outboxService.getEntries(cursor, 2, null);
+
+        Assertions.assertTrue(batch.entries().isEmpty());
+        Assertions.assertFalse(batch.hasMore());
+        Assertions.assertEquals(cursor, batch.nextCursor());
+    }
+
+    @Test
+    void testGetEntries_EmptyFeedStartsAtHighWaterMark() {
+        when(outboxSequenceRepository.findById("outbox_entry")).thenReturn(Optional.of(outboxSequence(42L)));
+        when(outboxEntryRepository.findEntriesAfter(eq(0L), eq("ExamGraded"), any())).thenReturn(List.of());
+
+        var batch = outboxService.getEntries(null, 10, "ExamGraded");
+
+        Assertions.assertTrue(batch.entries().isEmpty());
+        Assertions.assertFalse(batch.hasMore());
+        Assertions.assertEquals(CursorToken.encode(42L), batch.nextCursor());
+    }
+
+    @Test
+    void testGetEntries_InvalidCursor() {
+        Assertions.assertThrows(BadRequestException.class, () -> outboxService.getEntries("invalid", 2, null));
+        verifyNoInteractions(outboxEntryRepository);
+    }
+
+    @Test
+    void testPurgeExpiredEntries() {
+        when(outboxEntryRepository.findIdsCreatedBefore(any(), eq(PageRequest.ofSize(2))))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+
+        Assertions.assertEquals(3, outboxService.purgeExpiredEntries());
+        verify(outboxEntryRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxEntryRepository, times(1)).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    @Test
+    void testCompactEntries() {
+        when(outboxEntryRepository.findSupersededIds(PageRequest.ofSize(2))).thenReturn(List.of(4L, 5L), List.of());
+
+        Assertions.assertEquals(2, outboxService.compactEntries());
+        verify(outboxEntryRepository, times(1)).deleteAllByIdInBatch(List.of(4L, 5L));
+        verify(outboxEntryRepository, times(1)).deleteAllByIdInBatch(List.of());
+    }
+
+    private OutboxSequence outboxSequence(long position) {
+        var outboxSequence = new OutboxSequence();
+        outboxSequence.setName("outbox_entry");
+        outboxSequence.setPosition(position);
+
+        return outboxSequence;
+    }
+
+    private OutboxEntry outboxEntry(Long id) {
+        var outboxEntry = new OutboxEntry("ExamGraded", "1", "{}", createdAt);
+        outboxEntry.setId(id);
+        outboxEntry.setPosition(id);
+
+        return outboxEntry;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.smarty.domain.post.repository;
+
+import com.smarty.domain.post.entity.Post;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class PostRepositoryTest {
+
+    LocalDateTime createdAt;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        createdAt = LocalDateTime.of(2023, 6, 1, 12, 0);
+
+        post("Exam schedule", createdAt.minusDays(1));
+        post("Project deadline", createdAt);
+        post("Homework published", createdAt);
+        post("Welcome", createdAt.minusDays(2));
+        entityManager.flush();
+    }
+
+    @Test
+    void testFindPostsBefore() {
+        var firstPage = postRepository.findByOrderByCreatedAtDescIdDesc(PageRequest.ofSize(2));
+        var lastPost = firstPage.get(1);
+        var secondPage = postRepository.findPostsBefore(lastPost.getCreatedAt(), lastPost.getId(), PageRequest.ofSize(2));
+
+        Assertions.assertEquals(List.of("Homework published", "Project deadline"), firstPage.stream().map(Post::getTitle).toList());
+        Assertions.assertEquals(List.of("Exam schedule", "Welcome"), secondPage.stream().map(Post::getTitle).toList());
+    }
+
+    private void post(String title, LocalDateTime createdAt) {
+        var post = new Post();
+        post.setTitle(title);
+        post.setDescription(title);
+        post.setCreatedAt(createdAt);
+        entityManager.persist(post);
+    }
+
+}
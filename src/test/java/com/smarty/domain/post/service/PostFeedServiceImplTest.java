@@ -0,0 +1,126 @@
+package com.smarty.domain.post.service;
+
+import com.smarty.domain.post.entity.Post;
+import com.smarty.domain.post.event.PostDeleted;
+import com.smarty.domain.post.event.PostPublished;
+import com.smarty.domain.post.model.PostResponseDTO;
+import com.smarty.domain.post.repository.PostRepository;
+import com.smarty.infrastructure.handler.exceptions.BadRequestException;
+import com.smarty.infrastructure.mapper.PostMapperImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostFeedServiceImplTest {
+
+    LocalDateTime createdAt;
+
+    PostFeedServiceImpl postFeedService;
+
+    @Mock
+    PostRepository postRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        createdAt = LocalDateTime.of(2023, 6, 1, 12, 0);
+        postFeedService = new PostFeedServiceImpl(postRepository, new PostMapperImpl(), transactionManager, 3);
+    }
+
+    @Test
+    void testGetLatestPosts_ServedFromMemory() {
+        when(postRepository.findByOrderByCreatedAtDescIdDesc(PageRequest.ofSize(3)))
+                .thenReturn(List.of(post(3L, createdAt), post(2L, createdAt.minusDays(1)), post(1L, createdAt.minusDays(2))));
+        postFeedService.refresh();
+
+        var latestPosts = postFeedService.getLatestPosts(2);
+
+        Assertions.assertEquals(List.of(3L, 2L), latestPosts.stream().map(PostResponseDTO::id).toList());
+        verify(postRepository, times(1)).findByOrderByCreatedAtDescIdDesc(any());
+    }
+
+    @Test
+    void testGetLatestPosts_BeyondCapacity() {
+        when(postRepository.findByOrderByCreatedAtDescIdDesc(PageRequest.ofSize(3)))
+                .thenReturn(List.of(post(4L, createdAt), post(3L, createdAt), post(2L, createdAt)));
+        when(postRepository.findByOrderByCreatedAtDescIdDesc(PageRequest.ofSize(4)))
+                .thenReturn(List.of(post(4L, createdAt), post(3L, createdAt), post(2L, createdAt), post(1L, createdAt)));
+        postFeedService.refresh();
+
+        Assertions.assertEquals(4, postFeedService.getLatestPosts(4).size());
+    }
+
+    @Test
+    void testScrollPosts() {
+        var olderPost = post(1L, createdAt.minusDays(2));
+
+        when(postRepository.findByOrderByCreatedAtDescIdDesc(PageRequest.ofSize(3)))
+                .thenReturn(List.of(post(3L, createdAt), post(2L, createdAt.minusDays(1)), olderPost));
+        postFeedService.refresh();
+
+        var firstPage = postFeedService.scrollPosts(null, 2);
+
+        doReturn(List.of(olderPost)).when(postRepository).findPostsBefore(createdAt.minusDays(1), 2L, PageRequest.ofSize(3));
+        var secondPage = postFeedService.scrollPosts(firstPage.nextCursor(), 2);
+
+        Assertions.assertEquals(List.of(3L, 2L), firstPage.content().stream().map(PostResponseDTO::id).toList());
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertEquals(List.of(1L), secondPage.content().stream().map(PostResponseDTO::id).toList());
+        Assertions.assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    void testScrollPosts_InvalidCursor() {
+        Assertions.assertThrows(BadRequestException.class, () -> postFeedService.scrollPosts("not-a-cursor", 10));
+    }
+
+    @Test
+    void testOn_PostPublished() {
+        when(postRepository.findByOrderByCreatedAtDescIdDesc(PageRequest.ofSize(3)))
+                .thenReturn(List.of(post(3L, createdAt), post(2L, createdAt.minusDays(1)), post(1L, createdAt.minusDays(2))));
+        postFeedService.refresh();
+
+        postFeedService.on(new PostPublished(new PostResponseDTO(1L, "Updated", "Updated", createdAt.plusDays(1)), true));
+        postFeedService.on(new PostPublished(new PostResponseDTO(4L, "New", "New", createdAt.plusDays(2)), false));
+
+        Assertions.assertEquals(List.of(4L, 1L, 3L), postFeedService.getLatestPosts(3).stream().map(PostResponseDTO::id).toList());
+        verify(postRepository, times(1)).findByOrderByCreatedAtDescIdDesc(any());
+    }
+
+    @Test
+    void testOn_PostDeletedRefillsFullFeed() {
+        when(postRepository.findByOrderByCreatedAtDescIdDesc(PageRequest.ofSize(3)))
+                .thenReturn(List.of(post(3L, createdAt), post(2L, createdAt), post(1L, createdAt)))
+                .thenReturn(List.of(post(3L, createdAt), post(1L, createdAt), post(0L, createdAt)));
+        postFeedService.refresh();
+
+        postFeedService.on(new PostDeleted(2L));
+
+        Assertions.assertEquals(List.of(3L, 1L, 0L), postFeedService.getLatestPosts(3).stream().map(PostResponseDTO::id).toList());
+        verify(postRepository, times(2)).findByOrderByCreatedAtDescIdDesc(any());
+    }
+
+    private Post post(Long id, LocalDateTime createdAt) {
+        var post = new Post();
+        post.setId(id);
+        post.setTitle("Post %d".formatted(id));
+        post.setDescription("This post is used for testing purposes");
+        post.setCreatedAt(createdAt);
+
+        return post;
+    }
+
+}
@@ -1,12 +1,16 @@
 package com.smarty.domain.post.service;
 
 import com.smarty.domain.post.entity.Post;
+import com.smarty.domain.post.event.PostDeleted;
+import com.smarty.domain.post.event.PostPublished;
 import com.smarty.domain.post.model.PostRequestDTO;
 import com.smarty.domain.post.model.PostResponseDTO;
 import com.smarty.domain.post.model.PostUpdateDTO;
 import com.smarty.domain.post.repository.PostRepository;
+import com.smarty.infrastructure.event.DomainEventPublisher;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.PostMapperImpl;
+import com.smarty.infrastructure.pagination.CursorPage;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,6 +46,12 @@ public class PostServiceImplTest {
     @Mock
     PostMapperImpl postMapper;
 
+    @Mock
+    PostFeedService postFeedService;
+
+    @Mock
+    DomainEventPublisher domainEventPublisher;
+
     @BeforeEach
     void setUp() {
         post = new Post();
@@ -67,6 +77,8 @@ public class PostServiceImplTest {
         var createdPostDTO = postService.createPost(postRequestDTO);
 
         assertThat(postResponseDTO).isEqualTo(createdPostDTO);
+        verify(domainEventPublisher, times(1)).publish(argThat(event -> event instanceof PostPublished postPublished
+                && postPublished.post().equals(postResponseDTO) && !postPublished.updated()));
     }
 
     @Test
@@ -82,6 +94,17 @@ public class PostServiceImplTest {
         Assertions.assertEquals(expectedPosts, postPage);
     }
 
+    @Test
+    void testScrollPosts() {
+        PostResponseDTO postResponseDTO = new PostResponseDTO(1L, "Test post", "This post is used for testing purposes", LocalDateTime.now());
+        var firstPage = new CursorPage<>(List.of(postResponseDTO), 1, false, null);
+
+        doReturn(firstPage).when(postFeedService).scrollPosts(null, 1);
+
+        Assertions.assertEquals(firstPage, postService.scrollPosts(null, 1));
+        verifyNoInteractions(postRepository);
+    }
+
     @Test
     void testGetPostById() {
         PostResponseDTO postResponseDTO = new PostResponseDTO(1L, "Test post", "This post is used for testing purposes", LocalDateTime.now());
@@ -102,19 +125,19 @@ public class PostServiceImplTest {
 
     @Test
     void testGetLatestPosts() {
-        List<Post> latestPosts = List.of(post);
         PostResponseDTO postResponseDTO = new PostResponseDTO(1L, "Test post", "This post is used for testing purposes", LocalDateTime.now());
 
-        when(postMapper.toPostResponseDTO(post)).thenReturn(postResponseDTO);
-        var expectedList = latestPosts
-                .stream()
-                .map(postMapper::toPostResponseDTO)
-                .toList();
-        doReturn(latestPosts).when(postRepository).findByOrderByCreatedAtDesc();
+        doReturn(List.of(postResponseDTO)).when(postFeedService).getLatestPosts(2);
         var returnedList = postService.getLatestPosts();
 
-        Assertions.assertTrue(latestPosts.contains(post));
-        Assertions.assertEquals(expectedList, returnedList);
+        Assertions.assertEquals(List.of(postResponseDTO), returnedList);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    void testGetLatestPosts_NotFound() {
+        doReturn(List.of()).when(postFeedService).getLatestPosts(2);
+        Assertions.assertThrows(NotFoundException.class, () -> postService.getLatestPosts());
     }
 
     @Test
@@ -130,6 +153,8 @@ public class PostServiceImplTest {
         var updatedPostDTO = postService.updatePost(1L, postUpdateDTO);
 
         assertThat(postResponseDTO).isEqualTo(updatedPostDTO);
+        verify(domainEventPublisher, times(1)).publish(argThat(event -> event instanceof PostPublished postPublished
+                && postPublished.post().equals(postResponseDTO) && postPublished.updated()));
     }
 
     @Test
@@ -137,6 +162,7 @@ public class PostServiceImplTest {
         when(postRepository.existsById(1L)).thenReturn(true);
         doNothing().when(postRepository).deleteById(1L);
         Assertions.assertDoesNotThrow(() -> postService.deletePost(1L));
+        verify(domainEventPublisher, times(1)).publish(argThat(event -> event instanceof PostDeleted postDeleted && postDeleted.postId().equals(1L)));
     }
 
     @Test
@@ -5,7 +5,6 @@ import com.smarty.domain.account.enums.Role;
 import com.smarty.domain.account.model.AccountRequestDTO;
 import com.smarty.domain.account.model.AccountResponseDTO;
 import com.smarty.domain.account.model.AccountUpdateDTO;
-import com.smarty.domain.account.service.AccountService;
 import com.smarty.domain.course.entity.Course;
 import com.smarty.domain.course.service.CourseService;
 import com.smarty.domain.professor.entity.Professor;
@@ -21,6 +20,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -28,6 +28,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -54,9 +55,6 @@ public class ProfessorServiceImplTest {
     @Mock
     ProfessorMapperImpl professorMapper;
 
-    @Mock
-    AccountService accountService;
-
     @Mock
     CourseService courseService;
 
@@ -66,6 +64,9 @@ public class ProfessorServiceImplTest {
     @Mock
     PasswordEncoder passwordEncoder;
 
+    @Mock
+    PlatformTransactionManager transactionManager;
+
     @BeforeEach
     void setUp() {
         account = new Account();
@@ -97,14 +98,17 @@ public class ProfessorServiceImplTest {
         ProfessorResponseDTO professorResponseDTO = new ProfessorResponseDTO(1L, "Bojan", "Simovic", 5, accountResponseDTO);
 
         when(professorMapper.toProfessor(professorRequestDTO)).thenReturn(professor);
-        doNothing().when(accountService).existsByEmail(professorRequestDTO.account().email());
         when(passwordEncoder.encode(professorRequestDTO.account().password())).thenReturn(accountResponseDTO.password());
-        when(professorRepository.save(professor)).thenReturn(professor);
+        when(professorRepository.saveAndFlush(professor)).thenReturn(professor);
         doReturn(professorResponseDTO).when(professorMapper).toProfessorResponseDTO(professor);
 
         var createdProfessorDTO = professorService.createProfessor(professorRequestDTO);
 
         assertThat(professorResponseDTO).usingRecursiveComparison().isEqualTo(createdProfessorDTO);
+        InOrder inOrder = inOrder(passwordEncoder, transactionManager, professorRepository);
+        inOrder.verify(passwordEncoder).encode(professorRequestDTO.account().password());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(professorRepository).saveAndFlush(professor);
     }
 
     @Test
@@ -178,9 +182,9 @@ public class ProfessorServiceImplTest {
                 .map(professorMapper::toProfessorResponseDTO)
                 .toList();
         doReturn(professorsByCourse).when(professorRepository).findProfessorsByCourse(new Course().getId());
-        doNothing().when(courseService).existsById(new Course().getId());
         var returnedList = professorService.getProfessorsByCourse(new Course().getId());
 
+        verify(courseService, never()).existsById(new Course().getId());
         Assertions.assertTrue(professorsByCourse.contains(professor));
         Assertions.assertEquals(expectedList, returnedList);
         Assertions.assertFalse(returnedList.isEmpty());
@@ -224,14 +228,15 @@ public class ProfessorServiceImplTest {
 
     @Test
     void testDeleteProfessor() {
-        when(professorRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(professorRepository).deleteById(1L);
+        when(professorRepository.findById(1L)).thenReturn(Optional.of(professor));
+        doNothing().when(professorRepository).delete(professor);
         Assertions.assertDoesNotThrow(() -> professorService.deleteProfessor(1L));
+        verify(authenticationService, times(1)).evictAccount(professor.getAccount().getEmail());
     }
 
     @Test
     void testDeleteProfessor_NotFound() {
-        doReturn(false).when(professorRepository).existsById(1L);
+        doReturn(Optional.empty()).when(professorRepository).findById(1L);
         Assertions.assertThrows(NotFoundException.class, () -> professorService.deleteProfessor(1L));
     }
 
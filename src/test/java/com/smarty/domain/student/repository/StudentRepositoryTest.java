@@ -0,0 +1,146 @@
+package com.smarty.domain.student.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.major.entity.Major;
+import com.smarty.domain.status.entity.Status;
+import com.smarty.domain.student.entity.GradeSummary;
+import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.student.model.StudentAverageGradeDTO;
+import com.smarty.domain.student.model.StudentView;
+import com.smarty.infrastructure.streaming.JsonStreamWriter;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class StudentRepositoryTest {
+
+    Major major;
+
+    Status status;
+
+    Statistics statistics;
+
+    @Autowired
+    StudentRepository studentRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        major = new Major();
+        major.setCode("SE");
+        major.setFullName("Software engineering");
+        major.setDescription("Software engineering major");
+        major.setDuration(4);
+        entityManager.persist(major);
+
+        status = new Status();
+        status.setType("Traditional");
+        entityManager.persist(status);
+        entityManager.flush();
+
+        statistics = entityManager
+                .getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testSaveAllBatchesInserts() {
+        var students = IntStream.rangeClosed(1, 100)
+                .mapToObj(this::student)
+                .toList();
+
+        studentRepository.saveAll(students);
+        entityManager.flush();
+
+        Assertions.assertEquals(200, statistics.getEntityInsertCount());
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+    }
+
+    @Test
+    void testFindAverageGrades() {
+        var students = studentRepository.saveAll(IntStream.rangeClosed(1, 3)
+                .mapToObj(this::student)
+                .toList());
+        entityManager.persist(new GradeSummary(students.get(0).getId(), 2, 17));
+        entityManager.persist(new GradeSummary(students.get(1).getId(), 0, 0));
+        entityManager.persist(new GradeSummary(students.get(2).getId(), 1, 10));
+        entityManager.flush();
+
+        var averageGrades = studentRepository.findAverageGrades(major.getId(), 3, PageRequest.of(0, 2));
+        var lastPage = studentRepository.findAverageGrades(major.getId(), 3, PageRequest.of(1, 2));
+
+        Assertions.assertEquals(3, averageGrades.getTotalElements());
+        Assertions.assertEquals(List.of(students.get(2).getId(), students.get(0).getId()),
+                averageGrades.stream().map(StudentAverageGradeDTO::id).toList());
+        Assertions.assertEquals(10, averageGrades.getContent().get(0).averageGrade());
+        Assertions.assertEquals(8.5, averageGrades.getContent().get(1).averageGrade());
+        Assertions.assertEquals(List.of(students.get(1).getId()), lastPage.stream().map(StudentAverageGradeDTO::id).toList());
+        Assertions.assertNull(lastPage.getContent().get(0).averageGrade());
+        Assertions.assertTrue(studentRepository.findAverageGrades(major.getId(), 4, PageRequest.of(0, 2)).isEmpty());
+    }
+
+    @Test
+    void testStreamStudentsByMajor() throws IOException {
+        studentRepository.saveAll(IntStream.rangeClosed(1, 250)
+                .mapToObj(this::student)
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        var objectMapper = new ObjectMapper();
+        var jsonStreamWriter = new JsonStreamWriter(objectMapper);
+        ReflectionTestUtils.setField(jsonStreamWriter, "entityManager", entityManager.getEntityManager());
+        var outputStream = new ByteArrayOutputStream();
+
+        jsonStreamWriter.writeArray(studentRepository.streamStudentsByMajor(major.getId()), StudentView::index, outputStream);
+
+        var indexes = objectMapper.readValue(outputStream.toByteArray(), int[].class);
+        Assertions.assertArrayEquals(IntStream.rangeClosed(1, 250).toArray(), indexes);
+    }
+
+    private Student student(int index) {
+        var account = new Account();
+        account.setEmail("student%d@metropolitan.ac.rs".formatted(index));
+        account.setPassword("$hash$");
+        account.setRole(Role.STUDENT);
+
+        var student = new Student();
+        student.setName("Sasa");
+        student.setSurname("Stanisic");
+        student.setIndex(index);
+        student.setYear(3);
+        student.setSemester(6);
+        student.setMajor(major);
+        student.setStatus(status);
+        student.setAccount(account);
+
+        return student;
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.smarty.domain.student.service;
+
+import com.smarty.domain.student.entity.GradeSummary;
+import com.smarty.domain.student.model.GradeSummaryDriftDTO;
+import com.smarty.domain.student.repository.GradeSummaryRepository;
+import com.smarty.infrastructure.persistence.Reconciler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GradeSummaryServiceImplTest {
+
+    GradeSummaryServiceImpl gradeSummaryService;
+
+    @Mock
+    GradeSummaryRepository gradeSummaryRepository;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        gradeSummaryService = new GradeSummaryServiceImpl(gradeSummaryRepository, jdbcTemplate, new Reconciler(transactionManager));
+    }
+
+    @Test
+    void testGetAverageGrade() {
+        when(gradeSummaryRepository.findById(1L)).thenReturn(Optional.of(new GradeSummary(1L, 2, 17)));
+        Assertions.assertEquals(Optional.of(8.5), gradeSummaryService.getAverageGrade(1L));
+    }
+
+    @Test
+    void testRecordPassedGrade() {
+        gradeSummaryService.recordGrade(1L, 0, 8);
+        verify(gradeSummaryRepository, times(1)).record(1L, 1, 8);
+    }
+
+    @Test
+    void testRecordChangedGrade() {
+        gradeSummaryService.recordGrade(1L, 8, 5);
+        gradeSummaryService.recordGrade(1L, 7, 9);
+        verify(gradeSummaryRepository, times(1)).record(1L, -1, -8);
+        verify(gradeSummaryRepository, times(1)).record(1L, 0, 2);
+    }
+
+    @Test
+    void testRecordFailedGrade() {
+        gradeSummaryService.recordGrade(1L, 0, 5);
+        verify(gradeSummaryRepository, never()).record(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRecordGrades() {
+        gradeSummaryService.recordGrades(Map.of(), Map.of(1L, 8, 2L, 5));
+
+        ArgumentCaptor<List<Object[]>> batchArgs = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), batchArgs.capture());
+        Assertions.assertEquals(1, batchArgs.getValue().size());
+        Assertions.assertArrayEquals(new Object[]{1L, 1, 8}, batchArgs.getValue().get(0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRecordChangedGrades() {
+        gradeSummaryService.recordGrades(Map.of(1L, 8, 2L, 5, 3L, 7), Map.of(1L, 5, 2L, 9, 3L, 7));
+
+        ArgumentCaptor<List<Object[]>> batchArgs = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), batchArgs.capture());
+        Assertions.assertEquals(2, batchArgs.getValue().size());
+        Assertions.assertTrue(batchArgs.getValue().stream().anyMatch(delta -> Arrays.equals(new Object[]{1L, -1, -8}, delta)));
+        Assertions.assertTrue(batchArgs.getValue().stream().anyMatch(delta -> Arrays.equals(new Object[]{2L, 1, 9}, delta)));
+    }
+
+    @Test
+    void testReconcile() {
+        when(gradeSummaryRepository.findAll()).thenReturn(List.of(new GradeSummary(1L, 2, 17), new GradeSummary(2L, 1, 9)));
+        when(gradeSummaryRepository.calculateGradeSummaries()).thenReturn(List.of(new GradeSummary(1L, 2, 17), new GradeSummary(3L, 1, 6)));
+        when(gradeSummaryRepository.findForUpdate(2L)).thenReturn(Optional.of(new GradeSummary(2L, 1, 9)));
+        when(gradeSummaryRepository.calculateGradeSummary(2L)).thenReturn(Optional.empty());
+        when(gradeSummaryRepository.findForUpdate(3L)).thenReturn(Optional.of(new GradeSummary(3L, 1, 6)));
+        when(gradeSummaryRepository.calculateGradeSummary(3L)).thenReturn(Optional.of(new GradeSummary(3L, 1, 6)));
+
+        var reconciliation = gradeSummaryService.reconcile();
+
+        Assertions.assertEquals(1, reconciliation.drifted());
+        Assertions.assertEquals(new GradeSummaryDriftDTO(2L, 1, 0, 9, 0), reconciliation.drifts().get(0));
+        verify(gradeSummaryRepository, times(1)).replace(2L, 0, 0);
+        verify(gradeSummaryRepository, never()).replace(eq(3L), anyInt(), anyLong());
+    }
+
+}
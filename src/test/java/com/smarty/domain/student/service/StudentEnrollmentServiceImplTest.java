@@ -0,0 +1,202 @@
+package com.smarty.domain.student.service;
+
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.account.model.AccountRequestDTO;
+import com.smarty.domain.account.service.AccountService;
+import com.smarty.domain.major.entity.Major;
+import com.smarty.domain.major.service.MajorService;
+import com.smarty.domain.status.entity.Status;
+import com.smarty.domain.status.service.StatusService;
+import com.smarty.domain.student.event.StudentEnrolled;
+import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.student.model.StudentEnrollmentResultDTO;
+import com.smarty.domain.student.model.StudentRequestDTO;
+import com.smarty.domain.student.repository.StudentRepository;
+import com.smarty.infrastructure.event.DomainEventPublisher;
+import com.smarty.infrastructure.handler.exceptions.ConflictException;
+import com.smarty.infrastructure.mapper.StudentMapperImpl;
+import com.smarty.infrastructure.security.BoundedPasswordEncoder;
+import jakarta.validation.Validation;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StudentEnrollmentServiceImplTest {
+
+    Major major;
+
+    Status status;
+
+    StudentEnrollmentServiceImpl studentEnrollmentService;
+
+    @Mock
+    StudentRepository studentRepository;
+
+    @Mock
+    MajorService majorService;
+
+    @Mock
+    StatusService statusService;
+
+    @Mock
+    AccountService accountService;
+
+    @Mock
+    BoundedPasswordEncoder passwordEncoder;
+
+    @Mock
+    DomainEventPublisher domainEventPublisher;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        major = new Major();
+        major.setId(1L);
+        major.setCode("SE");
+
+        status = new Status(1L, "Traditional");
+
+        studentEnrollmentService = new StudentEnrollmentServiceImpl(studentRepository, new StudentMapperImpl(),
+                majorService, statusService, accountService, passwordEncoder,
+                Validation.buildDefaultValidatorFactory().getValidator(), domainEventPublisher, transactionManager);
+    }
+
+    @Test
+    void testEnrollStudents() {
+        var enrolledDTO = studentRequestDTO("sasa@metropolitan.ac.rs", 4377, 1L);
+        var existingEmailDTO = studentRequestDTO("milica@metropolitan.ac.rs", 4380, 1L);
+        var unknownMajorDTO = studentRequestDTO("andjela@metropolitan.ac.rs", 4410, 9L);
+        var duplicateIndexDTO = studentRequestDTO("david@metropolitan.ac.rs", 4377, 1L);
+        var invalidDTO = new StudentRequestDTO("", "Antic", 4626, 3, 6, 1L, 1L,
+                new AccountRequestDTO("david@metropolitan.ac.rs", "david123", Role.STUDENT));
+
+        when(accountService.getExistingEmails(anyCollection())).thenReturn(Set.of("milica@metropolitan.ac.rs"));
+        when(studentRepository.findExistingIndexes(anyCollection())).thenReturn(Set.of());
+        when(majorService.getMajorsByIds(anyCollection())).thenReturn(Map.of(1L, major));
+        when(statusService.getStatusesByIds(anyCollection())).thenReturn(Map.of(1L, status));
+        when(passwordEncoder.encodeAll(List.of("password123", "password123")))
+                .thenReturn(List.of("$hash1$", "$hash2$"));
+
+        var report = studentEnrollmentService.enrollStudents(List.of(enrolledDTO, existingEmailDTO, unknownMajorDTO,
+                duplicateIndexDTO, invalidDTO));
+
+        Assertions.assertEquals(5, report.total());
+        Assertions.assertEquals(1, report.enrolled());
+        Assertions.assertEquals(4, report.rejected());
+        Assertions.assertEquals(List.of(true, false, false, false, false),
+                report.results().stream().map(StudentEnrollmentResultDTO::enrolled).toList());
+        Assertions.assertEquals("Account with email milica@metropolitan.ac.rs already exists", report.results().get(1).message());
+        Assertions.assertEquals("Major with id 9 doesn't exist", report.results().get(2).message());
+        Assertions.assertEquals("Student with index 4377 is already listed in row 1", report.results().get(3).message());
+        Assertions.assertEquals("Name can't be blank", report.results().get(4).message());
+
+        var inOrder = inOrder(passwordEncoder, transactionManager, accountService);
+        inOrder.verify(accountService).getExistingEmails(anyCollection());
+        inOrder.verify(passwordEncoder).encodeAll(any());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(transactionManager).commit(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Student>> savedStudents = ArgumentCaptor.forClass(List.class);
+        verify(studentRepository, times(1)).saveAllAndFlush(savedStudents.capture());
+        verify(accountService, times(1)).getExistingEmails(anyCollection());
+        verify(studentRepository, times(1)).findExistingIndexes(anyCollection());
+        verify(majorService, times(1)).getMajorsByIds(anyCollection());
+        verify(statusService, times(1)).getStatusesByIds(anyCollection());
+        verify(domainEventPublisher, times(1)).publish(any(StudentEnrolled.class));
+        Assertions.assertEquals(1, savedStudents.getValue().size());
+        Assertions.assertEquals("$hash1$", savedStudents.getValue().get(0).getAccount().getPassword());
+        Assertions.assertSame(major, savedStudents.getValue().get(0).getMajor());
+    }
+
+    @Test
+    void testEnrollStudents_RejectsRowsThatConflictOnSave() {
+        var enrolledDTO = studentRequestDTO("sasa@metropolitan.ac.rs", 4377, 1L);
+        var conflictingDTO = studentRequestDTO("milica@metropolitan.ac.rs", 4380, 1L);
+
+        when(accountService.getExistingEmails(anyCollection()))
+                .thenReturn(Set.of())
+                .thenReturn(Set.of("milica@metropolitan.ac.rs"));
+        when(studentRepository.findExistingIndexes(anyCollection())).thenReturn(Set.of());
+        when(majorService.getMajorsByIds(anyCollection())).thenReturn(Map.of(1L, major));
+        when(statusService.getStatusesByIds(anyCollection())).thenReturn(Map.of(1L, status));
+        when(passwordEncoder.encodeAll(any())).thenReturn(List.of("$hash1$", "$hash2$"));
+        when(studentRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry",
+                        new ConstraintViolationException("Duplicate entry", null, Account.UNIQUE_EMAIL)))
+                .thenReturn(List.of());
+
+        var report = studentEnrollmentService.enrollStudents(List.of(enrolledDTO, conflictingDTO));
+
+        Assertions.assertEquals(1, report.enrolled());
+        Assertions.assertEquals("Account with email milica@metropolitan.ac.rs already exists", report.results().get(1).message());
+        verify(passwordEncoder, times(1)).encodeAll(any());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(domainEventPublisher, times(1)).publish(any(StudentEnrolled.class));
+    }
+
+    @Test
+    void testEnrollStudents_RethrowsUnattributedConflict() {
+        when(accountService.getExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(studentRepository.findExistingIndexes(anyCollection())).thenReturn(Set.of());
+        when(majorService.getMajorsByIds(anyCollection())).thenReturn(Map.of(1L, major));
+        when(statusService.getStatusesByIds(anyCollection())).thenReturn(Map.of(1L, status));
+        when(passwordEncoder.encodeAll(any())).thenReturn(List.of("$hash1$"));
+        when(studentRepository.saveAllAndFlush(anyList()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry",
+                        new ConstraintViolationException("Duplicate entry", null, Student.UNIQUE_INDEX)));
+        var studentDTOs = List.of(studentRequestDTO("sasa@metropolitan.ac.rs", 4377, 1L));
+
+        Assertions.assertThrows(ConflictException.class, () -> studentEnrollmentService.enrollStudents(studentDTOs));
+    }
+
+    @Test
+    void testEnrollStudentsFromCsv() {
+        var csv = """
+                name,surname,index,year,semester,majorId,statusId,email,password
+                Sasa,Stanisic,4377,3,6,1,1,sasa@metropolitan.ac.rs,password123
+                Milica,Golubovic,abc,3,6,1,1,milica@metropolitan.ac.rs,password123
+                """;
+
+        when(accountService.getExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(studentRepository.findExistingIndexes(anyCollection())).thenReturn(Set.of());
+        when(majorService.getMajorsByIds(anyCollection())).thenReturn(Map.of(1L, major));
+        when(statusService.getStatusesByIds(anyCollection())).thenReturn(Map.of(1L, status));
+        when(passwordEncoder.encodeAll(any())).thenReturn(List.of("$hash$"));
+
+        var report = studentEnrollmentService.enrollStudents(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        Assertions.assertEquals(2, report.total());
+        Assertions.assertEquals(1, report.enrolled());
+        Assertions.assertEquals(2, report.results().get(1).row());
+        Assertions.assertEquals("Entered value is not a valid type", report.results().get(1).message());
+    }
+
+    private StudentRequestDTO studentRequestDTO(String email, int index, Long majorId) {
+        return new StudentRequestDTO("Sasa", "Stanisic", index, 3, 6, majorId, 1L,
+                new AccountRequestDTO(email, "password123", Role.STUDENT));
+    }
+
+}
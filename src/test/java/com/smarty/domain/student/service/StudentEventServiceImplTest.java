@@ -0,0 +1,82 @@
+package com.smarty.domain.student.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.account.model.AccountResponseDTO;
+import com.smarty.domain.major.model.MajorResponseDTO;
+import com.smarty.domain.status.entity.Status;
+import com.smarty.domain.student.model.StudentResponseDTO;
+import com.smarty.infrastructure.handler.exceptions.ForbiddenException;
+import com.smarty.infrastructure.handler.exceptions.NotFoundException;
+import com.smarty.infrastructure.security.AuthenticationService;
+import com.smarty.infrastructure.streaming.SseDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StudentEventServiceImplTest {
+
+    StudentResponseDTO studentResponseDTO;
+
+    SimpleMeterRegistry meterRegistry;
+
+    SseDispatcher sseDispatcher;
+
+    StudentEventServiceImpl studentEventService;
+
+    @Mock
+    StudentService studentService;
+
+    @Mock
+    AuthenticationService authenticationService;
+
+    @BeforeEach
+    void setUp() {
+        studentResponseDTO = new StudentResponseDTO(1L, "Sasa", "Stanisic", 4377, 3, 6,
+                new MajorResponseDTO(1L, "SE", "Software engineering", "Software engineering major", 4),
+                new Status(1L, "Traditional"), new AccountResponseDTO("sasastanisic4@gmail.com", "$password123$", Role.STUDENT));
+        meterRegistry = new SimpleMeterRegistry();
+        sseDispatcher = new SseDispatcher(new ObjectMapper(), meterRegistry, 60000, 5000, 1, 8, 10, 30);
+        studentEventService = new StudentEventServiceImpl(studentService, authenticationService, sseDispatcher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseDispatcher.destroy();
+    }
+
+    @Test
+    void testSubscribe() {
+        when(studentService.getStudentById(1L)).thenReturn(studentResponseDTO);
+
+        Assertions.assertNotNull(studentEventService.subscribe(1L));
+        verify(authenticationService, times(1)).canAccessStudent("sasastanisic4@gmail.com");
+        Assertions.assertEquals(1, meterRegistry.get("smarty.sse.subscribers").gauge().value());
+    }
+
+    @Test
+    void testSubscribe_StudentNotFound() {
+        doThrow(NotFoundException.class).when(studentService).getStudentById(1L);
+
+        Assertions.assertThrows(NotFoundException.class, () -> studentEventService.subscribe(1L));
+        Assertions.assertEquals(0, meterRegistry.get("smarty.sse.subscribers").gauge().value());
+    }
+
+    @Test
+    void testSubscribe_AnotherStudent() {
+        when(studentService.getStudentById(1L)).thenReturn(studentResponseDTO);
+        doThrow(ForbiddenException.class).when(authenticationService).canAccessStudent("sasastanisic4@gmail.com");
+
+        Assertions.assertThrows(ForbiddenException.class, () -> studentEventService.subscribe(1L));
+        Assertions.assertEquals(0, meterRegistry.get("smarty.sse.subscribers").gauge().value());
+    }
+
+}
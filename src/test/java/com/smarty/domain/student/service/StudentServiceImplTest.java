@@ -5,7 +5,6 @@ import com.smarty.domain.account.enums.Role;
 import com.smarty.domain.account.model.AccountRequestDTO;
 import com.smarty.domain.account.model.AccountResponseDTO;
 import com.smarty.domain.account.model.AccountUpdateDTO;
-import com.smarty.domain.account.service.AccountService;
 import com.smarty.domain.course.entity.Course;
 import com.smarty.domain.course.service.CourseService;
 import com.smarty.domain.major.entity.Major;
@@ -14,31 +13,45 @@ import com.smarty.domain.major.service.MajorService;
 import com.smarty.domain.status.entity.Status;
 import com.smarty.domain.status.service.StatusService;
 import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.student.event.StudentDeleted;
+import com.smarty.domain.student.event.StudentEnrolled;
+import com.smarty.domain.student.event.StudentUpdated;
 import com.smarty.domain.student.model.PasswordDTO;
+import com.smarty.domain.student.model.StudentAverageGradeDTO;
 import com.smarty.domain.student.model.StudentRequestDTO;
 import com.smarty.domain.student.model.StudentResponseDTO;
 import com.smarty.domain.student.model.StudentUpdateDTO;
+import com.smarty.domain.student.model.StudentView;
 import com.smarty.domain.student.repository.StudentRepository;
+import com.smarty.infrastructure.event.DomainEventPublisher;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.StudentMapperImpl;
 import com.smarty.infrastructure.security.AuthenticationService;
+import com.smarty.infrastructure.streaming.JsonStreamWriter;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.ArrayList;
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,7 +65,9 @@ public class StudentServiceImplTest {
 
     Account account;
 
-    Page<Student> students;
+    StudentView studentView;
+
+    Page<StudentView> studentViews;
 
     @InjectMocks
     StudentServiceImpl studentService;
@@ -69,18 +84,27 @@ public class StudentServiceImplTest {
     @Mock
     StatusService statusService;
 
-    @Mock
-    AccountService accountService;
-
     @Mock
     CourseService courseService;
 
     @Mock
     AuthenticationService authenticationService;
 
+    @Mock
+    GradeSummaryService gradeSummaryService;
+
+    @Mock
+    JsonStreamWriter jsonStreamWriter;
+
     @Mock
     PasswordEncoder passwordEncoder;
 
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    DomainEventPublisher domainEventPublisher;
+
     @BeforeEach
     void setUp() {
         major = new Major();
@@ -111,9 +135,9 @@ public class StudentServiceImplTest {
         student.setStatus(status);
         student.setAccount(account);
 
-        List<Student> studentList = new ArrayList<>();
-        studentList.add(student);
-        students = new PageImpl<>(studentList);
+        studentView = new StudentView(1L, "Sasa", "Stanisic", 4377, 3, 6, 1L, "SE", "Software engineering",
+                "Software engineering major", 4, 1L, "Traditional", "sasastanisic4@gmail.com", "$password123$", Role.STUDENT);
+        studentViews = new PageImpl<>(List.of(studentView));
 
         studentService.setPasswordEncoder(passwordEncoder);
     }
@@ -131,15 +155,18 @@ public class StudentServiceImplTest {
         when(studentMapper.toStudent(studentRequestDTO)).thenReturn(student);
         when(majorService.getById(major.getId())).thenReturn(student.getMajor());
         when(statusService.getStatusById(status.getId())).thenReturn(student.getStatus());
-        doNothing().when(accountService).existsByEmail(studentRequestDTO.account().email());
         when(passwordEncoder.encode(studentRequestDTO.account().password())).thenReturn(accountResponseDTO.password());
-        when(studentRepository.existsByIndex(studentRequestDTO.index())).thenReturn(false);
-        when(studentRepository.save(student)).thenReturn(student);
+        when(studentRepository.saveAndFlush(student)).thenReturn(student);
         doReturn(studentResponseDTO).when(studentMapper).toStudentResponseDTO(student);
 
         var createdStudentDTO = studentService.createStudent(studentRequestDTO);
 
         assertThat(studentResponseDTO).usingRecursiveComparison().isEqualTo(createdStudentDTO);
+        verify(domainEventPublisher, times(1)).publish(any(StudentEnrolled.class));
+        InOrder inOrder = inOrder(passwordEncoder, transactionManager, studentRepository);
+        inOrder.verify(passwordEncoder).encode(studentRequestDTO.account().password());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(studentRepository).saveAndFlush(student);
     }
 
     @Test
@@ -150,12 +177,10 @@ public class StudentServiceImplTest {
                 new MajorResponseDTO(1L, "SE", "Software engineering", "Software engineering major", 4),
                 new Status(1L, "Traditional"), accountResponseDTO);
 
-        when(studentMapper.toStudentResponseDTO(student)).thenReturn(studentResponseDTO);
-        var expectedStudents = students.map(student -> studentMapper.toStudentResponseDTO(student));
-        doReturn(students).when(studentRepository).findAll(pageable);
+        doReturn(studentViews).when(studentRepository).findStudents(pageable);
         var studentPage = studentService.getAllStudents(pageable);
 
-        Assertions.assertEquals(expectedStudents, studentPage);
+        assertThat(studentPage.getContent()).usingRecursiveComparison().isEqualTo(List.of(studentResponseDTO));
     }
 
     @Test
@@ -181,9 +206,37 @@ public class StudentServiceImplTest {
 
     @Test
     void testGetAverageGradeOfStudent() {
+        when(gradeSummaryService.getAverageGrade(1L)).thenReturn(Optional.of(9.65));
+        Assertions.assertEquals(9.65, studentService.getAverageGradeOfStudent(1L));
+        verify(studentRepository, never()).existsById(1L);
+    }
+
+    @Test
+    void testGetAverageGradeOfStudentWithoutPassedExams() {
+        when(gradeSummaryService.getAverageGrade(1L)).thenReturn(Optional.empty());
         when(studentRepository.existsById(1L)).thenReturn(true);
-        doReturn(9.65).when(studentRepository).findAverageGradeOfStudent(1L);
-        Assertions.assertDoesNotThrow(() -> studentService.getAverageGradeOfStudent(1L));
+        Assertions.assertNull(studentService.getAverageGradeOfStudent(1L));
+    }
+
+    @Test
+    void testGetAverageGradeOfStudent_NotFound() {
+        when(gradeSummaryService.getAverageGrade(2L)).thenReturn(Optional.empty());
+        when(studentRepository.existsById(2L)).thenReturn(false);
+        Assertions.assertThrows(NotFoundException.class, () -> studentService.getAverageGradeOfStudent(2L));
+    }
+
+    @Test
+    void testGetAverageGrades() {
+        var averageGrades = new PageImpl<>(List.of(
+                new StudentAverageGradeDTO(3L, "Andjela", "Ivanovic", 4410, 3, 9.25),
+                new StudentAverageGradeDTO(1L, "Sasa", "Stanisic", 4377, 3, 8.5)));
+
+        when(studentRepository.findAverageGrades(1L, 3, PageRequest.of(0, 2))).thenReturn(averageGrades);
+
+        var rankedGrades = studentService.getAverageGrades(1L, 3, PageRequest.of(0, 2, Sort.by("index")));
+
+        verify(majorService, never()).existsById(1L);
+        Assertions.assertEquals(List.of(3L, 1L), rankedGrades.stream().map(StudentAverageGradeDTO::id).toList());
     }
 
     @Test
@@ -216,62 +269,71 @@ public class StudentServiceImplTest {
 
     @Test
     void testGetStudentsByMajor() {
-        List<Student> studentsByMajor = List.of(student);
+        List<StudentView> studentsByMajor = List.of(studentView);
         AccountResponseDTO accountResponseDTO = new AccountResponseDTO("sasastanisic4@gmail.com", "$password123$", Role.STUDENT);
         StudentResponseDTO studentResponseDTO = new StudentResponseDTO(1L, "Sasa", "Stanisic", 4377, 3, 6,
                 new MajorResponseDTO(1L, "SE", "Software engineering", "Software engineering major", 4),
                 new Status(1L, "Traditional"), accountResponseDTO);
 
-        when(studentMapper.toStudentResponseDTO(student)).thenReturn(studentResponseDTO);
-        var expectedList = getStudentListResponseDTO(studentsByMajor);
-        doReturn(studentsByMajor).when(studentRepository).findStudentsByMajor_Id(major.getId());
+        doReturn(studentsByMajor).when(studentRepository).findStudentsByMajor(major.getId());
         var returnedList = studentService.getStudentsByMajor(major.getId());
 
-        Assertions.assertEquals(expectedList, returnedList);
-        Assertions.assertTrue(studentsByMajor.contains(student));
+        assertThat(returnedList).usingRecursiveComparison().isEqualTo(List.of(studentResponseDTO));
+        verify(studentMapper, never()).toStudentResponseDTO(any());
+    }
+
+    @Test
+    void testGetStudentsByMajorPage() {
+        Pageable pageable = mock(Pageable.class);
+        doReturn(studentViews).when(studentRepository).findStudentsByMajor(major.getId(), pageable);
+        var returnedPage = studentService.getStudentsByMajor(major.getId(), pageable);
+
+        verify(majorService, never()).existsById(major.getId());
+        assertThat(returnedPage.getContent()).usingRecursiveComparison().isEqualTo(List.of(studentView.toStudentResponseDTO()));
+    }
+
+    @Test
+    void testStreamStudentsByMajor() {
+        var outputStream = new ByteArrayOutputStream();
+        Stream<StudentView> studentStream = Stream.of(studentView);
+
+        doReturn(studentStream).when(studentRepository).streamStudentsByMajor(major.getId());
+        studentService.streamStudentsByMajor(major.getId(), outputStream);
+
+        verify(majorService, times(1)).existsById(major.getId());
+        verify(jsonStreamWriter, times(1)).writeArray(eq(studentStream), any(), eq(outputStream));
     }
 
     @Test
     void testGetStudentsByStudyStatus() {
-        List<Student> studentsByStudyStatus = List.of(student);
+        List<StudentView> studentsByStudyStatus = List.of(studentView);
         AccountResponseDTO accountResponseDTO = new AccountResponseDTO("sasastanisic4@gmail.com", "$password123$", Role.STUDENT);
         StudentResponseDTO studentResponseDTO = new StudentResponseDTO(1L, "Sasa", "Stanisic", 4377, 3, 6,
                 new MajorResponseDTO(1L, "SE", "Software engineering", "Software engineering major", 4),
                 new Status(1L, "Traditional"), accountResponseDTO);
 
-        when(studentMapper.toStudentResponseDTO(student)).thenReturn(studentResponseDTO);
-        var expectedList = getStudentListResponseDTO(studentsByStudyStatus);
-        doReturn(studentsByStudyStatus).when(studentRepository).findStudentsByStatus_Id(status.getId());
+        doReturn(studentsByStudyStatus).when(studentRepository).findStudentsByStatus(status.getId());
         var returnedList = studentService.getStudentsByStudyStatus(status.getId());
 
-        Assertions.assertEquals(expectedList, returnedList);
+        assertThat(returnedList).usingRecursiveComparison().isEqualTo(List.of(studentResponseDTO));
         Assertions.assertFalse(returnedList.isEmpty());
     }
 
     @Test
     void testGetStudentsWhoPassedCertainCourse() {
-        List<Student> studentsWhoPassedCertainCourse = List.of(student);
+        List<StudentView> studentsWhoPassedCertainCourse = List.of(studentView);
         AccountResponseDTO accountResponseDTO = new AccountResponseDTO("sasastanisic4@gmail.com", "$password123$", Role.STUDENT);
         StudentResponseDTO studentResponseDTO = new StudentResponseDTO(1L, "Sasa", "Stanisic", 4377, 3, 6,
                 new MajorResponseDTO(1L, "SE", "Software engineering", "Software engineering major", 4),
                 new Status(1L, "Traditional"), accountResponseDTO);
 
-        when(studentMapper.toStudentResponseDTO(student)).thenReturn(studentResponseDTO);
-        var expectedList = getStudentListResponseDTO(studentsWhoPassedCertainCourse);
+        var expectedList = List.of(studentResponseDTO);
         doReturn(studentsWhoPassedCertainCourse).when(studentRepository).findStudentsWhoPassedCertainCourse(new Course().getId());
-        doNothing().when(courseService).existsById(new Course().getId());
         var returnedList = studentService.getStudentsWhoPassedCertainCourse(new Course().getId());
 
         assertThat(expectedList).usingRecursiveComparison().isEqualTo(returnedList);
     }
 
-    private List<StudentResponseDTO> getStudentListResponseDTO(List<Student> studentList) {
-        return studentList
-                .stream()
-                .map(studentMapper::toStudentResponseDTO)
-                .toList();
-    }
-
     @Test
     void testUpdateStudent() {
         AccountUpdateDTO accountUpdateDTO = new AccountUpdateDTO("$password123$", Role.STUDENT);
@@ -293,6 +355,7 @@ public class StudentServiceImplTest {
         var updatedStudentDTO = studentService.updateStudent(1L, studentUpdateDTO);
 
         assertThat(studentResponseDTO).usingRecursiveComparison().isEqualTo(updatedStudentDTO);
+        verify(domainEventPublisher, times(1)).publish(any(StudentUpdated.class));
     }
 
     @Test
@@ -316,14 +379,16 @@ public class StudentServiceImplTest {
 
     @Test
     void testDeleteStudent() {
-        when(studentRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(studentRepository).deleteById(1L);
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+        doNothing().when(studentRepository).delete(student);
         Assertions.assertDoesNotThrow(() -> studentService.deleteStudent(1L));
+        verify(authenticationService, times(1)).evictAccount(student.getAccount().getEmail());
+        verify(domainEventPublisher, times(1)).publish(any(StudentDeleted.class));
     }
 
     @Test
     void testDeleteStudent_NotFound() {
-        doReturn(false).when(studentRepository).existsById(1L);
+        doReturn(Optional.empty()).when(studentRepository).findById(1L);
         Assertions.assertThrows(NotFoundException.class, () -> studentService.deleteStudent(1L));
     }
 
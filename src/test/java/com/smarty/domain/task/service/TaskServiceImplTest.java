@@ -1,7 +1,9 @@
 package com.smarty.domain.task.service;
 
 import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.course.model.CourseCatalog;
 import com.smarty.domain.course.model.CourseResponseDTO;
+import com.smarty.domain.course.service.CourseCatalogService;
 import com.smarty.domain.course.service.CourseService;
 import com.smarty.domain.task.entity.Task;
 import com.smarty.domain.task.enums.Type;
@@ -12,6 +14,7 @@ import com.smarty.domain.task.repository.TaskRepository;
 import com.smarty.infrastructure.handler.exceptions.ConflictException;
 import com.smarty.infrastructure.handler.exceptions.NotFoundException;
 import com.smarty.infrastructure.mapper.TaskMapperImpl;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -51,6 +55,9 @@ public class TaskServiceImplTest {
     @Mock
     CourseService courseService;
 
+    @Mock
+    CourseCatalogService courseCatalogService;
+
     @BeforeEach
     void setUp() {
         course = new Course();
@@ -83,9 +90,8 @@ public class TaskServiceImplTest {
 
         when(taskMapper.toTask(taskRequestDTO)).thenReturn(task);
         when(courseService.getById(course.getId())).thenReturn(task.getCourse());
-        when(taskRepository.existsByTypeAndCourse_Id(taskRequestDTO.type(), taskRequestDTO.courseId())).thenReturn(false);
         when(taskRepository.findTotalTaskPointsByCourse(taskRequestDTO.courseId())).thenReturn(47.5);
-        when(taskRepository.save(task)).thenReturn(task);
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
         doReturn(taskResponseDTO).when(taskMapper).toTaskResponseDTO(task);
 
         var createdTaskDTO = taskService.createTask(taskRequestDTO);
@@ -99,7 +105,7 @@ public class TaskServiceImplTest {
         TaskRequestDTO taskRequestDTO = new TaskRequestDTO(Type.HOMEWORK, 1.5, 15, 1L);
 
         when(taskMapper.toTask(taskRequestDTO)).thenReturn(task);
-        doReturn(false).when(taskRepository).existsByTypeAndCourse_Id(Type.HOMEWORK, taskRequestDTO.courseId());
+        doReturn(task).when(taskRepository).saveAndFlush(task);
 
         Assertions.assertDoesNotThrow(() -> taskService.createTask(taskRequestDTO));
     }
@@ -109,9 +115,12 @@ public class TaskServiceImplTest {
         TaskRequestDTO taskRequestDTO = new TaskRequestDTO(Type.HOMEWORK, 1.5, 15, 1L);
 
         when(taskMapper.toTask(taskRequestDTO)).thenReturn(task);
-        doReturn(true).when(taskRepository).existsByTypeAndCourse_Id(Type.HOMEWORK, taskRequestDTO.courseId());
+        when(courseService.getById(course.getId())).thenReturn(course);
+        doThrow(new DataIntegrityViolationException("Duplicate entry",
+                new ConstraintViolationException("Duplicate entry", null, Task.UNIQUE_TYPE_COURSE))).when(taskRepository).saveAndFlush(task);
 
-        Assertions.assertThrows(ConflictException.class, () -> taskService.createTask(taskRequestDTO));
+        var exception = Assertions.assertThrows(ConflictException.class, () -> taskService.createTask(taskRequestDTO));
+        Assertions.assertEquals("Course with id 1 already has type HOMEWORK", exception.getMessage());
     }
 
     @Test
@@ -151,22 +160,15 @@ public class TaskServiceImplTest {
 
     @Test
     void testGetTasksByCourse() {
-        List<Task> tasksByCourse = List.of(task);
         CourseResponseDTO courseResponseDTO = new CourseResponseDTO(1L, "IT355", "Web Systems 2", 8, 3, 6,
                 "Course about learning backend framework Spring and Spring Boot");
         TaskResponseDTO taskResponseDTO = new TaskResponseDTO(1L, Type.HOMEWORK, 1.5, 15, courseResponseDTO);
 
-        when(taskMapper.toTaskResponseDTO(task)).thenReturn(taskResponseDTO);
-        var expectedList = tasksByCourse
-                .stream()
-                .map(taskMapper::toTaskResponseDTO)
-                .toList();
-        doReturn(tasksByCourse).when(taskRepository).findByCourse_Id(course.getId());
+        when(courseCatalogService.getCatalog()).thenReturn(CourseCatalog.of(List.of(courseResponseDTO), List.of(taskResponseDTO), List.of()));
         var returnedList = taskService.getTasksByCourse(course.getId());
 
-        Assertions.assertTrue(tasksByCourse.contains(task));
-        Assertions.assertEquals(expectedList, returnedList);
-        Assertions.assertFalse(returnedList.isEmpty());
+        Assertions.assertEquals(List.of(taskResponseDTO), returnedList);
+        verifyNoInteractions(taskRepository, courseService);
     }
 
     @Test
@@ -0,0 +1,219 @@
+package com.smarty.infrastructure.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+public class DomainEventPublisherTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    List<TestEvent> deliveredEvents = new CopyOnWriteArrayList<>();
+
+    DomainEventPublisher domainEventPublisher;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+
+        domainEventPublisher.destroy();
+    }
+
+    @Test
+    void testPublish_DeliversAfterCommit() throws InterruptedException {
+        var delivered = new CountDownLatch(2);
+        domainEventPublisher = publisher(event -> {
+            deliveredEvents.add((TestEvent) event);
+            delivered.countDown();
+        }, 2, 10);
+
+        beginTransaction();
+        domainEventPublisher.publish(new TestEvent(1L, 1));
+        domainEventPublisher.publish(new TestEvent(2L, 1));
+
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        Assertions.assertEquals(1, synchronizations.size());
+        Assertions.assertTrue(deliveredEvents.isEmpty());
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        Assertions.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(2, deliveredEvents.size());
+        Assertions.assertFalse(TransactionSynchronizationManager.hasResource(domainEventPublisher));
+    }
+
+    @Test
+    void testPublish_DropsOnRollback() {
+        domainEventPublisher = publisher(event -> deliveredEvents.add((TestEvent) event), 1, 10);
+
+        beginTransaction();
+        domainEventPublisher.publish(new TestEvent(1L, 1));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        Assertions.assertTrue(deliveredEvents.isEmpty());
+        Assertions.assertFalse(TransactionSynchronizationManager.hasResource(domainEventPublisher));
+    }
+
+    @Test
+    void testPublish_RecordsBeforeCommit() {
+        List<DomainEvent> recordedEvents = new CopyOnWriteArrayList<>();
+        domainEventPublisher = publisher(event -> deliveredEvents.add((TestEvent) event), recordedEvents::addAll, 1, 10);
+
+        beginTransaction();
+        domainEventPublisher.publish(new TestEvent(1L, 1));
+        domainEventPublisher.publish(new TestEvent(1L, 2));
+
+        Assertions.assertTrue(recordedEvents.isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.beforeCommit(false));
+
+        Assertions.assertEquals(List.of(1, 2), recordedEvents.stream().map(event -> ((TestEvent) event).sequence()).toList());
+        Assertions.assertTrue(deliveredEvents.isEmpty());
+    }
+
+    @Test
+    void testPublish_KeepsOrderPerAggregate() throws InterruptedException {
+        var delivered = new CountDownLatch(100);
+        domainEventPublisher = publisher(event -> {
+            deliveredEvents.add((TestEvent) event);
+            delivered.countDown();
+        }, 4, 100);
+
+        publishInTransaction(IntStream.range(0, 100).mapToObj(sequence -> new TestEvent(1L, sequence)).toArray(DomainEvent[]::new));
+
+        Assertions.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(IntStream.range(0, 100).boxed().toList(),
+                deliveredEvents.stream().map(TestEvent::sequence).toList());
+    }
+
+    @Test
+    void testPublish_ShedsWhileLaneIsFull() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var delivered = new CountDownLatch(2);
+        domainEventPublisher = publisher(event -> {
+            started.countDown();
+            await(release);
+            deliveredEvents.add((TestEvent) event);
+            delivered.countDown();
+        }, 1, 1);
+
+        publishInTransaction(new TestEvent(1L, 1));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        publishInTransaction(new TestEvent(1L, 2));
+        publishInTransaction(new TestEvent(1L, 3));
+
+        release.countDown();
+
+        Assertions.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(1, 2), deliveredEvents.stream().map(TestEvent::sequence).toList());
+        Assertions.assertEquals(1, meterRegistry.get("smarty.events.shed").counter().count());
+        Assertions.assertEquals(0, meterRegistry.get("smarty.events.rejected").counter().count());
+    }
+
+    @Test
+    void testPublish_IsolatesFailingListener() throws InterruptedException {
+        var delivered = new CountDownLatch(1);
+        Map<String, Object> listeners = new LinkedHashMap<>();
+        listeners.put("failingListener", (DomainEventListener) event -> {
+            throw new IllegalStateException("Projection failed");
+        });
+        listeners.put("recordingListener", (DomainEventListener) event -> delivered.countDown());
+        domainEventPublisher = new DomainEventPublisher(new StaticListableBeanFactory(listeners).getBeanProvider(DomainEventListener.class),
+                new StaticListableBeanFactory().getBeanProvider(DomainEventRecorder.class), meterRegistry, 1, 10);
+
+        publishInTransaction(new TestEvent(1L, 1));
+
+        Assertions.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, meterRegistry.get("smarty.events.failed").counter().count());
+    }
+
+    @Test
+    void testPublish_FailsWithoutTransaction() {
+        domainEventPublisher = publisher(event -> deliveredEvents.add((TestEvent) event), 1, 10);
+        var event = new TestEvent(1L, 1);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> domainEventPublisher.publish(event));
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> domainEventPublisher.publish(event));
+        Assertions.assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    private void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private void publishInTransaction(DomainEvent... events) {
+        beginTransaction();
+
+        try {
+            Arrays.stream(events).forEach(domainEventPublisher::publish);
+
+            var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private DomainEventPublisher publisher(DomainEventListener listener, int lanes, int queueCapacity) {
+        return publisher(listener, events -> {
+        }, lanes, queueCapacity);
+    }
+
+    private DomainEventPublisher publisher(DomainEventListener listener, DomainEventRecorder recorder, int lanes, int queueCapacity) {
+        return new DomainEventPublisher(new StaticListableBeanFactory(Map.of("listener", listener)).getBeanProvider(DomainEventListener.class),
+                new StaticListableBeanFactory(Map.of("recorder", recorder)).getBeanProvider(DomainEventRecorder.class),
+                meterRegistry, lanes, queueCapacity);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record TestEvent(
+
+            Long aggregateKey,
+            int sequence,
+            Instant occurredAt
+
+    ) implements DomainEvent {
+
+        TestEvent(Long aggregateKey, int sequence) {
+            this(aggregateKey, sequence, Instant.now());
+        }
+
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.smarty.infrastructure.persistence;
+
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.activity.entity.ActivityLedger;
+import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.exam.entity.Exam;
+import com.smarty.domain.exam.model.ExamRequestDTO;
+import com.smarty.domain.exam.model.ExamSessionRequestDTO;
+import com.smarty.domain.exam.model.ExamSessionRowDTO;
+import com.smarty.domain.exam.repository.ExamRepository;
+import com.smarty.domain.exam.service.ExamService;
+import com.smarty.domain.exam.service.ExamSessionService;
+import com.smarty.domain.major.entity.Major;
+import com.smarty.domain.outbox.entity.OutboxEntry;
+import com.smarty.domain.outbox.entity.OutboxSequence;
+import com.smarty.domain.status.entity.Status;
+import com.smarty.domain.student.entity.GradeSummary;
+import com.smarty.domain.student.entity.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ExamWriteQueryCountTest {
+
+    Major major;
+
+    Status status;
+
+    Course course;
+
+    Statistics statistics;
+
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    ExamService examService;
+
+    @Autowired
+    ExamSessionService examSessionService;
+
+    @Autowired
+    ExamRepository examRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(transactionStatus -> {
+            major = new Major();
+            major.setCode("SE");
+            major.setFullName("Software engineering");
+            major.setDescription("Software engineering major");
+            major.setDuration(4);
+            entityManager.persist(major);
+
+            status = new Status();
+            status.setType("Traditional");
+            entityManager.persist(status);
+
+            course = new Course();
+            course.setCode("IT355");
+            course.setFullName("Web Systems 2");
+            course.setPoints(8);
+            course.setYear(3);
+            course.setSemester(6);
+            course.setDescription("Course about learning backend framework Spring and Spring Boot");
+            entityManager.persist(course);
+            entityManager.persist(new OutboxSequence("outbox_entry"));
+        });
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(transactionStatus -> List.of(Exam.class, ActivityLedger.class, GradeSummary.class,
+                        OutboxEntry.class, OutboxSequence.class, Student.class, Account.class, Course.class, Status.class, Major.class)
+                .forEach(entityType -> entityManager
+                        .createQuery("DELETE FROM %s".formatted(entityManager.getMetamodel().entity(entityType).getName()))
+                        .executeUpdate()));
+    }
+
+    @Test
+    void testCreateExam() {
+        var students = transactionTemplate.execute(transactionStatus -> List.of(student(1), student(2)));
+
+        examService.createExam(examRequest(students.get(0)));
+        statistics.clear();
+
+        var exam = examService.createExam(examRequest(students.get(1)));
+
+        Assertions.assertEquals(8, exam.grade());
+        Assertions.assertEquals(2, exam.student().index());
+        Assertions.assertEquals("IT355", exam.course().code());
+        Assertions.assertEquals(1, statistics.getEntityLoadCount());
+        Assertions.assertEquals(7, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testGradeExamSession() {
+        var students = transactionTemplate.execute(transactionStatus -> IntStream.rangeClosed(1, 500)
+                .mapToObj(this::student)
+                .toList());
+        statistics.clear();
+
+        var report = examSessionService.gradeExamSession(examSession(students, 25));
+
+        Assertions.assertEquals(500, report.graded());
+        Assertions.assertEquals(1, statistics.getEntityLoadCount());
+        Assertions.assertEquals(1000, statistics.getEntityInsertCount());
+        Assertions.assertEquals(6, statistics.getPrepareStatementCount());
+        statistics.clear();
+
+        var regradedReport = examSessionService.gradeExamSession(examSession(students, 30));
+
+        Assertions.assertEquals(500, regradedReport.graded());
+        Assertions.assertEquals(501, statistics.getEntityUpdateCount());
+        Assertions.assertEquals(500, statistics.getEntityInsertCount());
+        Assertions.assertEquals(6, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(500, examRepository.count());
+        Assertions.assertTrue(new GradeSummary(students.get(0).getId(), 1, 9)
+                .matches(entityManager.find(GradeSummary.class, students.get(0).getId())));
+    }
+
+    private ExamSessionRequestDTO examSession(List<Student> students, double points) {
+        return new ExamSessionRequestDTO("IT355 - June", course.getId(), students
+                .stream()
+                .map(student -> new ExamSessionRowDTO(student.getId(), points, LocalDate.of(2023, 6, 15), null))
+                .toList());
+    }
+
+    private ExamRequestDTO examRequest(Student student) {
+        return new ExamRequestDTO("IT355 - June", 25, LocalDate.of(2023, 6, 15), null, student.getId(), course.getId());
+    }
+
+    private Student student(int index) {
+        var account = new Account();
+        account.setEmail("student%d@metropolitan.ac.rs".formatted(index));
+        account.setPassword("$hash$");
+        account.setRole(Role.STUDENT);
+
+        var student = new Student();
+        student.setName("Sasa");
+        student.setSurname("Stanisic");
+        student.setIndex(index);
+        student.setYear(3);
+        student.setSemester(6);
+        student.setMajor(major);
+        student.setStatus(status);
+        student.setAccount(account);
+        entityManager.persist(student);
+        entityManager.persist(new ActivityLedger(student.getId(), course.getId(), 50, 3, 1, 0, 0));
+
+        return student;
+    }
+
+}
@@ -0,0 +1,307 @@
+package com.smarty.infrastructure.persistence;
+
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.activity.entity.Activity;
+import com.smarty.domain.activity.repository.ActivityRepository;
+import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.engagement.entity.Engagement;
+import com.smarty.domain.engagement.repository.EngagementRepository;
+import com.smarty.domain.exam.entity.Exam;
+import com.smarty.domain.exam.model.ExamView;
+import com.smarty.domain.exam.repository.ExamRepository;
+import com.smarty.domain.major.entity.Major;
+import com.smarty.domain.professor.entity.Professor;
+import com.smarty.domain.professor.repository.ProfessorRepository;
+import com.smarty.domain.status.entity.Status;
+import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.student.model.StudentView;
+import com.smarty.domain.student.repository.StudentRepository;
+import com.smarty.domain.task.entity.Task;
+import com.smarty.domain.task.enums.Type;
+import com.smarty.domain.task.repository.TaskRepository;
+import com.smarty.infrastructure.mapper.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class FetchPlanTest {
+
+    Major major;
+
+    Status status;
+
+    Course course;
+
+    Student student;
+
+    Professor professor;
+
+    Pageable firstPage = PageRequest.of(0, 1);
+
+    Statistics statistics;
+
+    StudentMapper studentMapper = new StudentMapperImpl();
+
+    ExamMapper examMapper = new ExamMapperImpl();
+
+    ActivityMapper activityMapper = new ActivityMapperImpl();
+
+    TaskMapper taskMapper = new TaskMapperImpl();
+
+    ProfessorMapper professorMapper = new ProfessorMapperImpl();
+
+    EngagementMapper engagementMapper = new EngagementMapperImpl();
+
+    @Autowired
+    StudentRepository studentRepository;
+
+    @Autowired
+    ExamRepository examRepository;
+
+    @Autowired
+    ActivityRepository activityRepository;
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    ProfessorRepository professorRepository;
+
+    @Autowired
+    EngagementRepository engagementRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        major = new Major();
+        major.setCode("SE");
+        major.setFullName("Software engineering");
+        major.setDescription("Software engineering major");
+        major.setDuration(4);
+        entityManager.persist(major);
+
+        status = new Status();
+        status.setType("Traditional");
+        entityManager.persist(status);
+
+        course = new Course();
+        course.setCode("IT355");
+        course.setFullName("Web Systems 2");
+        course.setPoints(8);
+        course.setYear(3);
+        course.setSemester(6);
+        course.setDescription("Course about learning backend framework Spring and Spring Boot");
+        entityManager.persist(course);
+
+        var homework = task(Type.HOMEWORK);
+        var project = task(Type.PROJECT);
+
+        for (int index = 1; index <= 3; index++) {
+            student = student(index);
+            activity(homework);
+            activity(project);
+            exam();
+        }
+
+        professor = professor("Nemanja", "nemanja@metropolitan.ac.rs");
+        engagement(professor);
+        engagement(professor("Milos", "milos@metropolitan.ac.rs"));
+        entityManager.flush();
+
+        statistics = entityManager
+                .getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void testStudentEndpoints() {
+        assertStatements(2, () -> studentRepository.findStudents(firstPage).map(StudentView::toStudentResponseDTO).getContent());
+        assertStatements(1, () -> studentRepository.findStudentsAfter(0L, firstPage).stream().map(StudentView::toStudentResponseDTO).toList());
+        assertStatements(1, () -> studentRepository.findStudentsByMajor(major.getId()).stream().map(StudentView::toStudentResponseDTO).toList());
+        assertStatements(2, () -> studentRepository.findStudentsByMajor(major.getId(), firstPage).map(StudentView::toStudentResponseDTO).getContent());
+        assertStatements(1, () -> {
+            try (var students = studentRepository.streamStudentsByMajor(major.getId())) {
+                return students.map(StudentView::toStudentResponseDTO).toList();
+            }
+        });
+        assertStatements(1, () -> studentRepository.findStudentsByStatus(status.getId()).stream().map(StudentView::toStudentResponseDTO).toList());
+        assertStatements(2, () -> studentRepository.findStudentsByStatus(status.getId(), firstPage).map(StudentView::toStudentResponseDTO).getContent());
+        assertStatements(1, () -> {
+            try (var students = studentRepository.streamStudentsByStatus(status.getId())) {
+                return students.map(StudentView::toStudentResponseDTO).toList();
+            }
+        });
+        assertStatements(1, () -> studentRepository.findStudentsWhoPassedCertainCourse(course.getId()).stream().map(StudentView::toStudentResponseDTO).toList());
+        assertStatements(2, () -> studentRepository.findStudentsWhoPassedCertainCourse(course.getId(), firstPage).map(StudentView::toStudentResponseDTO).getContent());
+        assertStatements(1, () -> {
+            try (var students = studentRepository.streamStudentsWhoPassedCertainCourse(course.getId())) {
+                return students.map(StudentView::toStudentResponseDTO).toList();
+            }
+        });
+    }
+
+    @Test
+    void testExamEndpoints() {
+        assertStatements(2, () -> examRepository.findExams(firstPage).map(ExamView::toExamResponseDTO).getContent());
+        assertStatements(1, () -> examRepository.findExamsAfter(0L, firstPage).stream().map(ExamView::toExamResponseDTO).toList());
+        assertStatements(1, () -> examRepository.findExamHistoryByStudent(student.getId()).stream().map(ExamView::toExamResponseDTO).toList());
+        assertStatements(1, () -> examRepository.findExamHistoryByCourse(course.getId()).stream().map(ExamView::toExamResponseDTO).toList());
+        assertStatements(2, () -> examRepository.findExamHistoryByCourse(course.getId(), firstPage).map(ExamView::toExamResponseDTO).getContent());
+        assertStatements(1, () -> {
+            try (var exams = examRepository.streamExamHistoryByCourse(course.getId())) {
+                return exams.map(ExamView::toExamResponseDTO).toList();
+            }
+        });
+        assertStatements(1, () -> examRepository.findPassedExamsByStudent(student.getId(), 3).stream().map(ExamView::toExamResponseDTO).toList());
+    }
+
+    @Test
+    void testProjectionsBypassEntityHydration() {
+        entityManager.clear();
+        statistics.clear();
+
+        var students = studentRepository.findStudentsByMajor(major.getId()).stream().map(StudentView::toStudentResponseDTO).toList();
+        var exams = examRepository.findExams(PageRequest.of(0, 10)).map(ExamView::toExamResponseDTO).getContent();
+
+        Assertions.assertEquals(3, students.size());
+        Assertions.assertEquals("SE", students.get(0).major().code());
+        Assertions.assertEquals(3, exams.size());
+        Assertions.assertEquals("IT355", exams.get(0).course().code());
+        Assertions.assertEquals("Traditional", exams.get(0).student().status().getType());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testActivityAndTaskEndpoints() {
+        assertStatements(2, () -> activityRepository.findAll(firstPage).map(activityMapper::toActivityResponseDTO).getContent());
+        assertStatements(1, () -> activityRepository.findByIdGreaterThanOrderByIdAsc(0L, firstPage).stream().map(activityMapper::toActivityResponseDTO).toList());
+        assertStatements(1, () -> activityRepository.findStudentActivitiesByCourse(student.getId(), course.getCode()).stream().map(activityMapper::toActivityResponseDTO).toList());
+        assertStatements(2, () -> taskRepository.findAll(firstPage).map(taskMapper::toTaskResponseDTO).getContent());
+        assertStatements(1, () -> taskRepository.findByCourse_Id(course.getId()).stream().map(taskMapper::toTaskResponseDTO).toList());
+    }
+
+    @Test
+    void testProfessorAndEngagementEndpoints() {
+        assertStatements(2, () -> professorRepository.findAll(firstPage).map(professorMapper::toProfessorResponseDTO).getContent());
+        assertStatements(1, () -> professorRepository.findProfessorsByCourse(course.getId()).stream().map(professorMapper::toProfessorResponseDTO).toList());
+        assertStatements(2, () -> professorRepository.findProfessorsByCourse(course.getId(), firstPage).map(professorMapper::toProfessorResponseDTO).getContent());
+        assertStatements(1, () -> {
+            try (var professors = professorRepository.streamProfessorsByCourse(course.getId())) {
+                return professors.map(professorMapper::toProfessorResponseDTO).toList();
+            }
+        });
+        assertStatements(2, () -> engagementRepository.findAll(firstPage).map(engagementMapper::toEngagementResponseDTO).getContent());
+    }
+
+    @Test
+    void testFindByIdFetchesResponseGraph() {
+        var exam = examRepository.findExamHistoryByStudent(student.getId()).get(0);
+
+        assertStatements(1, () -> List.of(examMapper.toExamResponseDTO(examRepository.findById(exam.id()).orElseThrow())));
+        assertStatements(1, () -> List.of(studentMapper.toStudentResponseDTO(studentRepository.findById(student.getId()).orElseThrow())));
+    }
+
+    private void assertStatements(long expectedStatements, Supplier<Collection<?>> endpoint) {
+        entityManager.clear();
+        statistics.clear();
+
+        var responses = endpoint.get();
+
+        Assertions.assertFalse(responses.isEmpty());
+        Assertions.assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+    }
+
+    private Task task(Type type) {
+        var task = new Task();
+        task.setType(type);
+        task.setMaxPoints(15);
+        task.setNumberOfTasks(10);
+        task.setCourse(course);
+
+        return entityManager.persist(task);
+    }
+
+    private Student student(int index) {
+        var student = new Student();
+        student.setName("Sasa");
+        student.setSurname("Stanisic");
+        student.setIndex(index);
+        student.setYear(3);
+        student.setSemester(6);
+        student.setMajor(major);
+        student.setStatus(status);
+        student.setAccount(account("student%d@metropolitan.ac.rs".formatted(index), Role.STUDENT));
+
+        return entityManager.persist(student);
+    }
+
+    private Professor professor(String name, String email) {
+        var professor = new Professor();
+        professor.setName(name);
+        professor.setSurname("Jovanovic");
+        professor.setYearsOfExperience(10);
+        professor.setAccount(account(email, Role.PROFESSOR));
+
+        return entityManager.persist(professor);
+    }
+
+    private Account account(String email, Role role) {
+        var account = new Account();
+        account.setEmail(email);
+        account.setPassword("$hash$");
+        account.setRole(role);
+
+        return account;
+    }
+
+    private void activity(Task task) {
+        var activity = new Activity();
+        activity.setActivityName(task.getType().name());
+        activity.setPoints(10);
+        activity.setTask(task);
+        activity.setStudent(student);
+        entityManager.persist(activity);
+    }
+
+    private void exam() {
+        var exam = new Exam();
+        exam.setName("IT355 - June");
+        exam.setPoints(25);
+        exam.setTotalPoints(75);
+        exam.setGrade(8);
+        exam.setDateOfExamination(LocalDate.of(2023, 6, 15));
+        exam.setStudent(student);
+        exam.setCourse(course);
+        entityManager.persist(exam);
+    }
+
+    private void engagement(Professor professor) {
+        var engagement = new Engagement();
+        engagement.setProfessor(professor);
+        engagement.setCourse(course);
+        entityManager.persist(engagement);
+    }
+
+}
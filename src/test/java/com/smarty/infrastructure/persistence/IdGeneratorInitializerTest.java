@@ -0,0 +1,52 @@
+package com.smarty.infrastructure.persistence;
+
+import com.smarty.domain.status.entity.Status;
+import com.smarty.domain.status.repository.StatusRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(IdGeneratorInitializer.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class IdGeneratorInitializerTest {
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    StatusRepository statusRepository;
+
+    @Autowired
+    IdGeneratorInitializer idGeneratorInitializer;
+
+    @Test
+    void testGeneratedIdsStartAfterExistingRows() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(transaction -> entityManager
+                .createNativeQuery("INSERT INTO study_status (id, type) VALUES (1000, 'Traditional')")
+                .executeUpdate());
+
+        idGeneratorInitializer.afterSingletonsInstantiated();
+
+        var status = statusRepository.save(new Status(null, "Online"));
+
+        assertThat(status.getId()).isGreaterThan(1000L);
+    }
+
+}
@@ -0,0 +1,252 @@
+package com.smarty.infrastructure.persistence;
+
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.activity.entity.Activity;
+import com.smarty.domain.activity.service.ActivityService;
+import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.course.service.CourseCatalogService;
+import com.smarty.domain.course.service.CourseService;
+import com.smarty.domain.engagement.entity.Engagement;
+import com.smarty.domain.exam.entity.Exam;
+import com.smarty.domain.exam.service.ExamService;
+import com.smarty.domain.major.entity.Major;
+import com.smarty.domain.professor.entity.Professor;
+import com.smarty.domain.professor.service.ProfessorService;
+import com.smarty.domain.status.entity.Status;
+import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.student.service.StudentService;
+import com.smarty.domain.task.entity.Task;
+import com.smarty.domain.task.enums.Type;
+import com.smarty.domain.task.service.TaskService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ListByParentQueryCountTest {
+
+    Major major;
+
+    Status status;
+
+    Course course;
+
+    Student student;
+
+    Pageable firstPage = PageRequest.of(0, 1);
+
+    Statistics statistics;
+
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    StudentService studentService;
+
+    @Autowired
+    ExamService examService;
+
+    @Autowired
+    ActivityService activityService;
+
+    @Autowired
+    ProfessorService professorService;
+
+    @Autowired
+    CourseService courseService;
+
+    @Autowired
+    TaskService taskService;
+
+    @Autowired
+    CourseCatalogService courseCatalogService;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(transactionStatus -> {
+            major = new Major();
+            major.setCode("SE");
+            major.setFullName("Software engineering");
+            major.setDescription("Software engineering major");
+            major.setDuration(4);
+            entityManager.persist(major);
+
+            status = new Status();
+            status.setType("Traditional");
+            entityManager.persist(status);
+
+            course = new Course();
+            course.setCode("IT355");
+            course.setFullName("Web Systems 2");
+            course.setPoints(8);
+            course.setYear(3);
+            course.setSemester(6);
+            course.setDescription("Course about learning backend framework Spring and Spring Boot");
+            entityManager.persist(course);
+
+            var homework = task(Type.HOMEWORK);
+
+            for (int index = 1; index <= 3; index++) {
+                student = student(index);
+                activity(homework);
+                exam();
+            }
+
+            engagement(professor("Nemanja", "nemanja@metropolitan.ac.rs"));
+            engagement(professor("Milos", "milos@metropolitan.ac.rs"));
+        });
+
+        courseCatalogService.refresh();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(transactionStatus -> List.of(Activity.class, Exam.class, Engagement.class, Task.class,
+                        Student.class, Professor.class, Account.class, Course.class, Status.class, Major.class)
+                .forEach(entityType -> entityManager
+                        .createQuery("DELETE FROM %s".formatted(entityManager.getMetamodel().entity(entityType).getName()))
+                        .executeUpdate()));
+        courseCatalogService.refresh();
+    }
+
+    @Test
+    void testStudentsByParent() {
+        assertStatements(1, () -> studentService.getStudentsByMajor(major.getId()));
+        assertStatements(2, () -> studentService.getStudentsByMajor(major.getId(), firstPage).getContent());
+        assertStatements(1, () -> studentService.getStudentsByStudyStatus(status.getId()));
+        assertStatements(2, () -> studentService.getStudentsByStudyStatus(status.getId(), firstPage).getContent());
+        assertStatements(1, () -> studentService.getStudentsWhoPassedCertainCourse(course.getId()));
+        assertStatements(2, () -> studentService.getStudentsWhoPassedCertainCourse(course.getId(), firstPage).getContent());
+        assertStatements(2, () -> studentService.getAverageGrades(major.getId(), 3, firstPage).getContent());
+    }
+
+    @Test
+    void testExamsByParent() {
+        assertStatements(1, () -> examService.getExamHistoryByStudent(student.getId()));
+        assertStatements(1, () -> examService.getExamHistoryByCourse(course.getId()));
+        assertStatements(2, () -> examService.getExamHistoryByCourse(course.getId(), firstPage).getContent());
+        assertStatements(1, () -> examService.getPassedExamsByStudent(student.getId(), 3));
+    }
+
+    @Test
+    void testActivitiesProfessorsCoursesAndTasksByParent() {
+        assertStatements(1, () -> activityService.getStudentActivitiesByCourse(student.getId(), course.getCode()));
+        assertStatements(1, () -> professorService.getProfessorsByCourse(course.getId()));
+        assertStatements(2, () -> professorService.getProfessorsByCourse(course.getId(), firstPage).getContent());
+        assertStatements(1, () -> courseService.getCoursesByStudent(student.getId()));
+        assertStatements(0, () -> taskService.getTasksByCourse(course.getId()));
+    }
+
+    private void assertStatements(long expectedStatements, Supplier<Collection<?>> lookup) {
+        statistics.clear();
+
+        var responses = lookup.get();
+
+        Assertions.assertFalse(responses.isEmpty());
+        Assertions.assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+    }
+
+    private Task task(Type type) {
+        var task = new Task();
+        task.setType(type);
+        task.setMaxPoints(15);
+        task.setNumberOfTasks(10);
+        task.setCourse(course);
+        entityManager.persist(task);
+
+        return task;
+    }
+
+    private Student student(int index) {
+        var student = new Student();
+        student.setName("Sasa");
+        student.setSurname("Stanisic");
+        student.setIndex(index);
+        student.setYear(3);
+        student.setSemester(6);
+        student.setMajor(major);
+        student.setStatus(status);
+        student.setAccount(account("student%d@metropolitan.ac.rs".formatted(index), Role.STUDENT));
+        entityManager.persist(student);
+
+        return student;
+    }
+
+    private Professor professor(String name, String email) {
+        var professor = new Professor();
+        professor.setName(name);
+        professor.setSurname("Jovanovic");
+        professor.setYearsOfExperience(10);
+        professor.setAccount(account(email, Role.PROFESSOR));
+        entityManager.persist(professor);
+
+        return professor;
+    }
+
+    private Account account(String email, Role role) {
+        var account = new Account();
+        account.setEmail(email);
+        account.setPassword("$hash$");
+        account.setRole(role);
+
+        return account;
+    }
+
+    private void activity(Task task) {
+        var activity = new Activity();
+        activity.setActivityName(task.getType().name());
+        activity.setPoints(10);
+        activity.setTask(task);
+        activity.setStudent(student);
+        entityManager.persist(activity);
+    }
+
+    private void exam() {
+        var exam = new Exam();
+        exam.setName("IT355 - June");
+        exam.setPoints(25);
+        exam.setTotalPoints(75);
+        exam.setGrade(8);
+        exam.setDateOfExamination(LocalDate.of(2023, 6, 15));
+        exam.setStudent(student);
+        exam.setCourse(course);
+        entityManager.persist(exam);
+    }
+
+    private void engagement(Professor professor) {
+        var engagement = new Engagement();
+        engagement.setProfessor(professor);
+        engagement.setCourse(course);
+        entityManager.persist(engagement);
+    }
+
+}
@@ -0,0 +1,180 @@
+package com.smarty.infrastructure.persistence;
+
+import com.smarty.SmartyBackendApplication;
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.exam.entity.Exam;
+import com.smarty.domain.exam.model.ExamResponseDTO;
+import com.smarty.domain.exam.service.ExamService;
+import com.smarty.domain.major.entity.Major;
+import com.smarty.domain.status.entity.Status;
+import com.smarty.domain.student.entity.Student;
+import com.smarty.domain.student.model.StudentResponseDTO;
+import com.smarty.domain.student.service.StudentService;
+import com.smarty.infrastructure.mapper.ExamMapper;
+import com.smarty.infrastructure.mapper.StudentMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.SpecHints;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    @Param({"entity", "projection"})
+    String readPath;
+
+    ConfigurableApplicationContext context;
+
+    EntityManager entityManager;
+
+    TransactionTemplate transactionTemplate;
+
+    ExamService examService;
+
+    StudentService studentService;
+
+    ExamMapper examMapper;
+
+    StudentMapper studentMapper;
+
+    Pageable firstPage = PageRequest.of(0, 200);
+
+    Long majorId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SmartyBackendApplication.class)
+                .profiles("test")
+                .run("--server.port=0", "--logging.level.root=WARN",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false");
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        examService = context.getBean(ExamService.class);
+        studentService = context.getBean(StudentService.class);
+        examMapper = context.getBean(ExamMapper.class);
+        studentMapper = context.getBean(StudentMapper.class);
+
+        majorId = transactionTemplate.execute(transactionStatus -> {
+            var major = new Major();
+            major.setCode("SE");
+            major.setFullName("Software engineering");
+            major.setDescription("Software engineering major");
+            major.setDuration(4);
+            entityManager.persist(major);
+
+            var status = new Status();
+            status.setType("Traditional");
+            entityManager.persist(status);
+
+            var course = new Course();
+            course.setCode("IT355");
+            course.setFullName("Web Systems 2");
+            course.setPoints(8);
+            course.setYear(3);
+            course.setSemester(6);
+            course.setDescription("Course about learning backend framework Spring and Spring Boot");
+            entityManager.persist(course);
+
+            for (int index = 1; index <= 200; index++) {
+                exam(student(index, major, status), course);
+            }
+
+            return major.getId();
+        });
+        transactionTemplate.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ExamResponseDTO> getExams() {
+        if (readPath.equals("projection")) {
+            return examService.getAllExams(firstPage).getContent();
+        }
+
+        return transactionTemplate.execute(transactionStatus -> findExams(firstPage).getContent());
+    }
+
+    @Benchmark
+    public List<StudentResponseDTO> getStudentsByMajor() {
+        if (readPath.equals("projection")) {
+            return studentService.getStudentsByMajor(majorId);
+        }
+
+        return transactionTemplate.execute(transactionStatus -> entityManager
+                .createQuery("SELECT s FROM student s WHERE s.major.id = :majorId", Student.class)
+                .setParameter("majorId", majorId)
+                .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph("student.details"))
+                .getResultStream()
+                .map(studentMapper::toStudentResponseDTO)
+                .toList());
+    }
+
+    private Page<ExamResponseDTO> findExams(Pageable pageable) {
+        var exams = entityManager
+                .createQuery("SELECT e FROM exam e", Exam.class)
+                .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph("exam.details"))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultStream()
+                .map(examMapper::toExamResponseDTO)
+                .toList();
+        var total = entityManager.createQuery("SELECT COUNT(e) FROM exam e", Long.class).getSingleResult();
+
+        return new PageImpl<>(exams, pageable, total);
+    }
+
+    private Student student(int index, Major major, Status status) {
+        var account = new Account();
+        account.setEmail("student%d@metropolitan.ac.rs".formatted(index));
+        account.setPassword("$hash$");
+        account.setRole(Role.STUDENT);
+
+        var student = new Student();
+        student.setName("Sasa");
+        student.setSurname("Stanisic");
+        student.setIndex(index);
+        student.setYear(3);
+        student.setSemester(6);
+        student.setMajor(major);
+        student.setStatus(status);
+        student.setAccount(account);
+        entityManager.persist(student);
+
+        return student;
+    }
+
+    private void exam(Student student, Course course) {
+        var exam = new Exam();
+        exam.setName("IT355 - June");
+        exam.setPoints(25);
+        exam.setTotalPoints(75);
+        exam.setGrade(8);
+        exam.setDateOfExamination(LocalDate.of(2023, 6, 15));
+        exam.setStudent(student);
+        exam.setCourse(course);
+        entityManager.persist(exam);
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.smarty.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ReplicaRoutingDataSourceTest {
+
+    EmbeddedDatabase primaryDatabase;
+
+    EmbeddedDatabase replicaDatabase;
+
+    ReadYourWritesInterceptor readYourWritesInterceptor;
+
+    JdbcTemplate jdbcTemplate;
+
+    TransactionTemplate writeTransaction;
+
+    TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primaryDatabase = database("primary");
+        replicaDatabase = database("replica");
+        readYourWritesInterceptor = new ReadYourWritesInterceptor(60000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primaryDatabase.shutdown();
+        replicaDatabase.shutdown();
+    }
+
+    @Test
+    void testReadOnlyTransactionsUseReplica() {
+        route("SELECT 0");
+
+        Assertions.assertEquals("replica", readOnlyTransaction.execute(status -> currentNode()));
+        Assertions.assertEquals("primary", writeTransaction.execute(status -> currentNode()));
+        Assertions.assertEquals("primary", currentNode());
+    }
+
+    @Test
+    void testReplicaLagAboveToleranceUsesPrimary() {
+        route("SELECT 5000");
+
+        Assertions.assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void testStoppedReplicationUsesPrimary() {
+        route("SELECT CAST(NULL AS BIGINT)");
+
+        Assertions.assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void testStaleLagCheckUsesPrimary() throws InterruptedException {
+        route("SELECT 1990");
+        Thread.sleep(50);
+
+        Assertions.assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void testFailingLagCheckUsesPrimary() {
+        route("SELECT lag FROM missing_table");
+
+        Assertions.assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void testReplicaReadsDoNotPopulateCache() {
+        var replicaSession = session();
+        var primarySession = session();
+        route("SELECT 0");
+
+        readOnlyTransaction.executeWithoutResult(status -> withEntityManager(replicaSession, this::currentNode));
+        writeTransaction.executeWithoutResult(status -> withEntityManager(primarySession, this::currentNode));
+
+        verify(replicaSession, times(1)).setCacheMode(CacheMode.GET);
+        verify(primarySession, never()).setCacheMode(any());
+    }
+
+    @Test
+    void testReadsAfterWriteArePinnedToPrimary() {
+        route("SELECT 0");
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("sasa@metropolitan.ac.rs", null, List.of()));
+
+        var nodes = request(() -> {
+            writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+            return readOnlyTransaction.execute(status -> currentNode());
+        });
+        Assertions.assertEquals("primary", nodes);
+        Assertions.assertEquals("primary", request(() -> readOnlyTransaction.execute(status -> currentNode())));
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("milica@metropolitan.ac.rs", null, List.of()));
+        Assertions.assertEquals("replica", request(() -> readOnlyTransaction.execute(status -> currentNode())));
+    }
+
+    private void route(String lagQuery) {
+        var replicaLagMonitor = new ReplicaLagMonitor(replicaDatabase, lagQuery, 2000);
+        replicaLagMonitor.checkLag();
+
+        var dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDatabase, replicaDatabase,
+                replicaLagMonitor, readYourWritesInterceptor));
+        var transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private String request(Supplier<String> handler) {
+        var request = new MockHttpServletRequest();
+        var response = new MockHttpServletResponse();
+
+        readYourWritesInterceptor.preHandle(request, response, null);
+
+        try {
+            return handler.get();
+        } finally {
+            readYourWritesInterceptor.afterCompletion(request, response, null, null);
+        }
+    }
+
+    private Session session() {
+        return mock(Session.class);
+    }
+
+    private void withEntityManager(Session session, Supplier<String> query) {
+        var entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        TransactionSynchronizationManager.bindResource(session, new EntityManagerHolder(entityManager));
+
+        try {
+            query.get();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(session);
+        }
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private EmbeddedDatabase database(String node) {
+        var database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        var nodeJdbcTemplate = new JdbcTemplate(database);
+        nodeJdbcTemplate.execute("CREATE TABLE node (name VARCHAR(10), writes INT)");
+        nodeJdbcTemplate.update("INSERT INTO node VALUES (?, 0)", node);
+
+        return database;
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.smarty.infrastructure.persistence;
+
+import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.course.repository.CourseRepository;
+import com.smarty.domain.task.entity.Task;
+import com.smarty.domain.task.enums.Type;
+import com.smarty.domain.task.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheTest {
+
+    Course course;
+
+    Statistics statistics;
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        course = courseRepository.save(course("IT355"));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        courseRepository.deleteAll();
+    }
+
+    @Test
+    void testFindById_ServedFromCache() {
+        var cachedCourse = courseRepository.findById(course.getId()).orElseThrow();
+
+        Assertions.assertEquals("IT355", cachedCourse.getCode());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics.getDomainDataRegionStatistics("course").getHitCount());
+    }
+
+    @Test
+    void testFindById_ReturnsUpdatedCourse() {
+        course.setFullName("Web Systems 3");
+        courseRepository.save(course);
+        statistics.clear();
+
+        var cachedCourse = courseRepository.findById(course.getId()).orElseThrow();
+
+        Assertions.assertEquals("Web Systems 3", cachedCourse.getFullName());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindById_MissesAfterDelete() {
+        courseRepository.delete(course);
+        statistics.clear();
+
+        Assertions.assertTrue(courseRepository.findById(course.getId()).isEmpty());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindByCourse_InvalidatedByWrites() {
+        taskRepository.save(task(Type.HOMEWORK));
+        taskRepository.findByCourse_Id(course.getId());
+        statistics.clear();
+
+        Assertions.assertEquals(1, taskRepository.findByCourse_Id(course.getId()).size());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+
+        taskRepository.save(task(Type.PROJECT));
+        statistics.clear();
+
+        Assertions.assertEquals(2, taskRepository.findByCourse_Id(course.getId()).size());
+        Assertions.assertEquals(1, statistics.getQueryCacheMissCount());
+    }
+
+    private Course course(String code) {
+        var course = new Course();
+        course.setCode(code);
+        course.setFullName("Web Systems 2");
+        course.setPoints(8);
+        course.setYear(3);
+        course.setSemester(6);
+        course.setDescription("Course about learning backend framework Spring and Spring Boot");
+
+        return course;
+    }
+
+    private Task task(Type type) {
+        var task = new Task();
+        task.setType(type);
+        task.setMaxPoints(15);
+        task.setNumberOfTasks(2);
+        task.setCourse(course);
+
+        return task;
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.smarty.infrastructure.persistence;
+
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.course.entity.Course;
+import com.smarty.domain.course.repository.CourseRepository;
+import com.smarty.domain.major.entity.Major;
+import com.smarty.domain.major.repository.MajorRepository;
+import com.smarty.domain.professor.entity.Professor;
+import com.smarty.domain.professor.repository.ProfessorRepository;
+import com.smarty.domain.task.entity.Task;
+import com.smarty.domain.task.enums.Type;
+import com.smarty.domain.task.repository.TaskRepository;
+import com.smarty.infrastructure.handler.exceptions.ConflictException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class UniqueConstraintsTest {
+
+    @Autowired
+    CourseRepository courseRepository;
+
+    @Autowired
+    MajorRepository majorRepository;
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    ProfessorRepository professorRepository;
+
+    @Test
+    void testTranslate_DuplicateCourseCode() {
+        courseRepository.saveAndFlush(course());
+
+        var e = Assertions.assertThrows(DataIntegrityViolationException.class, () -> courseRepository.saveAndFlush(course()));
+        var conflict = UniqueConstraints.translate(e, Map.of(
+                Major.UNIQUE_CODE, "Major with code IT355 already exists",
+                Course.UNIQUE_CODE, "Course with code IT355 already exists"));
+
+        Assertions.assertInstanceOf(ConflictException.class, conflict);
+        Assertions.assertEquals("Course with code IT355 already exists", conflict.getMessage());
+    }
+
+    @Test
+    void testTranslate_DuplicateTaskTypeByCourse() {
+        var course = courseRepository.saveAndFlush(course());
+        taskRepository.saveAndFlush(task(course, Type.HOMEWORK));
+        taskRepository.saveAndFlush(task(course, Type.PROJECT));
+
+        var e = Assertions.assertThrows(DataIntegrityViolationException.class, () -> taskRepository.saveAndFlush(task(course, Type.HOMEWORK)));
+
+        Assertions.assertEquals("Course already has type HOMEWORK",
+                UniqueConstraints.translate(e, Map.of(Task.UNIQUE_TYPE_COURSE, "Course already has type HOMEWORK")).getMessage());
+    }
+
+    @Test
+    void testTranslate_DuplicateAccountEmail() {
+        professorRepository.saveAndFlush(professor());
+
+        var e = Assertions.assertThrows(DataIntegrityViolationException.class, () -> professorRepository.saveAndFlush(professor()));
+
+        Assertions.assertInstanceOf(ConflictException.class, UniqueConstraints.translate(e, Map.of(Account.UNIQUE_EMAIL, "Account already exists")));
+    }
+
+    @Test
+    void testTranslate_UnknownConstraint() {
+        courseRepository.saveAndFlush(course());
+
+        var e = Assertions.assertThrows(DataIntegrityViolationException.class, () -> courseRepository.saveAndFlush(course()));
+
+        Assertions.assertSame(e, UniqueConstraints.translate(e, Map.of(Major.UNIQUE_CODE, "Major already exists")));
+    }
+
+    private Course course() {
+        var course = new Course();
+        course.setCode("IT355");
+        course.setFullName("Web Systems 2");
+        course.setPoints(8);
+        course.setYear(3);
+        course.setSemester(6);
+        course.setDescription("Course about learning backend framework Spring and Spring Boot");
+
+        return course;
+    }
+
+    private Task task(Course course, Type type) {
+        var task = new Task();
+        task.setType(type);
+        task.setMaxPoints(2);
+        task.setNumberOfTasks(5);
+        task.setCourse(course);
+
+        return task;
+    }
+
+    private Professor professor() {
+        var account = new Account();
+        account.setEmail("nemanja@metropolitan.ac.rs");
+        account.setPassword("$hash$");
+        account.setRole(Role.PROFESSOR);
+
+        var professor = new Professor();
+        professor.setName("Nemanja");
+        professor.setSurname("Jovanovic");
+        professor.setYearsOfExperience(10);
+        professor.setAccount(account);
+
+        return professor;
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.smarty.infrastructure.security;
+
+import com.smarty.infrastructure.handler.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BoundedPasswordEncoderTest {
+
+    SimpleMeterRegistry meterRegistry;
+
+    BoundedPasswordEncoder passwordEncoder;
+
+    @Mock
+    PasswordEncoder delegate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, 2, 5, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void testEncodeAndMatches() {
+        when(delegate.encode("sasa123")).thenReturn("$hash$");
+        when(delegate.matches("sasa123", "$hash$")).thenReturn(true);
+
+        Assertions.assertEquals("$hash$", passwordEncoder.encode("sasa123"));
+        Assertions.assertTrue(passwordEncoder.matches("sasa123", "$hash$"));
+        Assertions.assertEquals(1, meterRegistry.get("smarty.password.hashing").tag("operation", "encode").timer().count());
+        Assertions.assertEquals(1, meterRegistry.get("smarty.password.hashing").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void testEncode_QueueFull() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(delegate.encode("sasa123")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "$hash$";
+        });
+
+        var running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("sasa123"));
+        started.await(5, TimeUnit.SECONDS);
+        var queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("sasa123"));
+
+        while (meterRegistry.get("smarty.password.hashing.queue.depth").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        var exception = Assertions.assertThrows(ServiceUnavailableException.class, () -> passwordEncoder.encode("sasa123"));
+        release.countDown();
+
+        Assertions.assertEquals(5, exception.getRetryAfter());
+        Assertions.assertEquals("$hash$", running.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("$hash$", queued.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, meterRegistry.get("smarty.password.hashing.rejected").counter().count());
+    }
+
+    @Test
+    void testEncodeAll_UsesBulkPool() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(delegate.encode("sasa123")).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "$hash$";
+        });
+        when(delegate.encode("milica123")).thenReturn("$milica$");
+        when(delegate.encode("david123")).thenReturn("$david$");
+        when(delegate.encode("andjela123")).thenReturn("$andjela$");
+
+        var running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("sasa123"));
+        started.await(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(List.of("$milica$", "$david$", "$andjela$"),
+                passwordEncoder.encodeAll(List.of("milica123", "david123", "andjela123")));
+        release.countDown();
+
+        Assertions.assertEquals("$hash$", running.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, meterRegistry.get("smarty.password.hashing.rejected").counter().count());
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.smarty.infrastructure.security;
+
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.account.service.AccountService;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    @Param({"hit", "miss"})
+    String cache;
+
+    JwtFilter jwtFilter;
+
+    String authorization;
+
+    @Setup
+    public void setUp() {
+        var account = new Account();
+        account.setId(1L);
+        account.setEmail("sasastanisic4@gmail.com");
+        account.setPassword("$password123$");
+        account.setRole(Role.STUDENT);
+
+        var jwtUtil = new JwtUtil(cache.equals("hit") ? 50000 : 0, 1800000);
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "secret");
+        var principalResolver = new PrincipalResolver(new AccountService() {
+            @Override
+            public Optional<Account> getAccountByEmail(String email) {
+                return Optional.of(account);
+            }
+
+            @Override
+            public Set<String> getExistingEmails(Collection<String> emails) {
+                return Set.of(account.getEmail());
+            }
+        }, 10000, 300000);
+
+        jwtFilter = new JwtFilter(jwtUtil, principalResolver);
+        authorization = "%s %s".formatted(JwtFilter.BEARER, jwtUtil.createToken(new AuthenticatedUser(account)));
+    }
+
+    @Benchmark
+    public int filterToken() throws ServletException, IOException {
+        var request = new MockHttpServletRequest("GET", "/api/exams");
+        request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        var response = new MockHttpServletResponse();
+
+        jwtFilter.doFilterInternal(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+
+        return response.getStatus();
+    }
+
+}
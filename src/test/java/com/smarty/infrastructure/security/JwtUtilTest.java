@@ -0,0 +1,67 @@
+package com.smarty.infrastructure.security;
+
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class JwtUtilTest {
+
+    AuthenticatedUser authenticatedUser;
+
+    JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        var account = new Account();
+        account.setId(1L);
+        account.setEmail("sasastanisic4@gmail.com");
+        account.setPassword("$password123$");
+        account.setRole(Role.STUDENT);
+        authenticatedUser = new AuthenticatedUser(account);
+
+        jwtUtil = new JwtUtil(100, 60000);
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "secret");
+    }
+
+    @Test
+    void testVerify() {
+        var accessToken = jwtUtil.createToken(authenticatedUser);
+
+        var verifiedToken = jwtUtil.verify(accessToken);
+
+        Assertions.assertEquals("sasastanisic4@gmail.com", verifiedToken.username());
+        Assertions.assertEquals("ROLE_STUDENT", verifiedToken.role());
+        Assertions.assertFalse(verifiedToken.isExpired());
+    }
+
+    @Test
+    void testVerify_ReturnsCachedToken() {
+        var accessToken = jwtUtil.createToken(authenticatedUser);
+
+        var verifiedToken = jwtUtil.verify(accessToken);
+
+        Assertions.assertSame(verifiedToken, jwtUtil.verify(accessToken));
+    }
+
+    @Test
+    void testVerify_InvalidSignature() {
+        var accessToken = jwtUtil.createToken(authenticatedUser);
+        var tamperedToken = accessToken.substring(0, accessToken.length() - 4) + "AAAA";
+
+        Assertions.assertThrows(JwtException.class, () -> jwtUtil.verify(tamperedToken));
+    }
+
+    @Test
+    void testVerify_Expired() {
+        ReflectionTestUtils.setField(jwtUtil, "expiration", -1000L);
+        var accessToken = jwtUtil.createToken(authenticatedUser);
+
+        Assertions.assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(accessToken));
+    }
+
+}
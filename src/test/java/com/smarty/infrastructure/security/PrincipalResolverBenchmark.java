@@ -0,0 +1,81 @@
+package com.smarty.infrastructure.security;
+
+import com.smarty.SmartyBackendApplication;
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.account.repository.AccountRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(8)
+@Fork(1)
+public class PrincipalResolverBenchmark {
+
+    @Param({"claims", "database"})
+    String principal;
+
+    ConfigurableApplicationContext context;
+
+    PrincipalResolver principalResolver;
+
+    HttpClient httpClient;
+
+    HttpRequest request;
+
+    String email;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(SmartyBackendApplication.class)
+                .profiles("test")
+                .run("--server.port=0", "--logging.level.root=WARN",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false");
+        principalResolver = context.getBean(PrincipalResolver.class);
+
+        var account = new Account();
+        account.setEmail("sasastanisic4@gmail.com");
+        account.setPassword("$password123$");
+        account.setRole(Role.STUDENT);
+        context.getBean(AccountRepository.class).save(account);
+        email = account.getEmail();
+
+        var accessToken = context.getBean(JwtUtil.class).createToken(new AuthenticatedUser(account));
+        var port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:%d/api/exams?size=1".formatted(port)))
+                .header(HttpHeaders.AUTHORIZATION, "%s %s".formatted(JwtFilter.BEARER, accessToken))
+                .GET()
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getExams() throws IOException, InterruptedException {
+        if (principal.equals("database")) {
+            principalResolver.evict(email);
+        }
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+}
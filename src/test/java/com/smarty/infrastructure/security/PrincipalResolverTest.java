@@ -0,0 +1,99 @@
+package com.smarty.infrastructure.security;
+
+import com.smarty.domain.account.entity.Account;
+import com.smarty.domain.account.enums.Role;
+import com.smarty.domain.account.service.AccountService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PrincipalResolverTest {
+
+    Account account;
+
+    PrincipalResolver principalResolver;
+
+    @Mock
+    AccountService accountService;
+
+    @BeforeEach
+    void setUp() {
+        account = new Account();
+        account.setId(1L);
+        account.setEmail("sasastanisic4@gmail.com");
+        account.setPassword("$password123$");
+        account.setRole(Role.STUDENT);
+
+        principalResolver = new PrincipalResolver(accountService, 100, 60000);
+    }
+
+    @Test
+    void testResolve_LoadsAccountOnce() {
+        when(accountService.getAccountByEmail(account.getEmail())).thenReturn(Optional.of(account));
+
+        var firstUser = principalResolver.resolve(account.getEmail(), "ROLE_STUDENT");
+        var secondUser = principalResolver.resolve(account.getEmail(), "ROLE_STUDENT");
+
+        Assertions.assertEquals(account.getEmail(), firstUser.getUsername());
+        Assertions.assertEquals(account.getEmail(), secondUser.getUsername());
+        verify(accountService, times(1)).getAccountByEmail(account.getEmail());
+    }
+
+    @Test
+    void testResolve_ReloadsAccountAfterEviction() {
+        when(accountService.getAccountByEmail(account.getEmail())).thenReturn(Optional.of(account));
+
+        principalResolver.resolve(account.getEmail(), "ROLE_STUDENT");
+        principalResolver.evict(account.getEmail());
+        principalResolver.resolve(account.getEmail(), "ROLE_STUDENT");
+
+        verify(accountService, times(2)).getAccountByEmail(account.getEmail());
+    }
+
+    @Test
+    void testResolve_ReloadsAccountAfterTransactionCompletes() {
+        when(accountService.getAccountByEmail(account.getEmail())).thenReturn(Optional.of(account));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            principalResolver.evict(account.getEmail());
+            principalResolver.resolve(account.getEmail(), "ROLE_STUDENT");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        principalResolver.resolve(account.getEmail(), "ROLE_STUDENT");
+
+        verify(accountService, times(2)).getAccountByEmail(account.getEmail());
+    }
+
+    @Test
+    void testResolve_AccountDeleted() {
+        when(accountService.getAccountByEmail(account.getEmail())).thenReturn(Optional.empty());
+
+        Assertions.assertThrows(UsernameNotFoundException.class,
+                () -> principalResolver.resolve(account.getEmail(), "ROLE_STUDENT"));
+    }
+
+    @Test
+    void testResolve_RoleChanged() {
+        when(accountService.getAccountByEmail(account.getEmail())).thenReturn(Optional.of(account));
+
+        Assertions.assertThrows(UsernameNotFoundException.class,
+                () -> principalResolver.resolve(account.getEmail(), "ROLE_ADMIN"));
+    }
+
+}
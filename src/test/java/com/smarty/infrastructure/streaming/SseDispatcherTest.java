@@ -0,0 +1,59 @@
+package com.smarty.infrastructure.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarty.infrastructure.handler.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+public class SseDispatcherTest {
+
+    SimpleMeterRegistry meterRegistry;
+
+    SseDispatcher sseDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sseDispatcher = new SseDispatcher(new ObjectMapper(), meterRegistry, 60000, 5000, 1, 1, 2, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseDispatcher.destroy();
+    }
+
+    @Test
+    void testToEvent_RendersSingleFrame() {
+        var event = sseDispatcher.toEvent("post-created", Map.of("id", 1));
+
+        Assertions.assertEquals("event:post-created\ndata:{\"id\":1}\n\n", event);
+    }
+
+    @Test
+    void testSubscribe_LimitsOpenStreams() {
+        var sseBroadcaster = new SseBroadcaster(sseDispatcher);
+
+        sseBroadcaster.subscribe();
+        sseBroadcaster.subscribe();
+
+        Assertions.assertThrows(ServiceUnavailableException.class, sseBroadcaster::subscribe);
+        Assertions.assertEquals(2, meterRegistry.get("smarty.sse.subscribers").gauge().value());
+    }
+
+    @Test
+    void testDestroy_ClosesSubscribers() {
+        var sseBroadcaster = new SseBroadcaster(sseDispatcher);
+        sseBroadcaster.subscribe();
+
+        sseDispatcher.destroy();
+
+        Assertions.assertEquals(0, sseBroadcaster.getSubscriberCount());
+        Assertions.assertEquals(0, meterRegistry.get("smarty.sse.subscribers").gauge().value());
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.smarty.infrastructure.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+public class SseRegistryTest {
+
+    ObjectMapper objectMapper;
+
+    SseDispatcher sseDispatcher;
+
+    SseRegistry<Long> sseRegistry;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = spy(new ObjectMapper());
+        sseDispatcher = new SseDispatcher(objectMapper, new SimpleMeterRegistry(), 60000, 5000, 1, 8, 10, 30);
+        sseRegistry = new SseRegistry<>(sseDispatcher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseDispatcher.destroy();
+    }
+
+    @Test
+    void testSubscribe_IndexedByKey() {
+        sseRegistry.subscribe(1L);
+        sseRegistry.subscribe(1L);
+        sseRegistry.subscribe(2L);
+
+        Assertions.assertEquals(2, sseRegistry.getSubscriberCount(1L));
+        Assertions.assertEquals(1, sseRegistry.getSubscriberCount(2L));
+        Assertions.assertEquals(0, sseRegistry.getSubscriberCount(3L));
+    }
+
+    @Test
+    void testPublish_SkipsKeysWithoutSubscribers() throws Exception {
+        sseRegistry.subscribe(1L);
+
+        sseRegistry.publish(2L, "exam-graded", Map.of("grade", 8));
+        verify(objectMapper, never()).writeValueAsString(any());
+
+        sseRegistry.publish(1L, "exam-graded", Map.of("grade", 8));
+        verify(objectMapper, times(1)).writeValueAsString(any());
+    }
+
+    @Test
+    void testClose_UnregistersSubscriber() {
+        sseRegistry.subscribe(1L);
+
+        sseDispatcher.destroy();
+
+        Assertions.assertEquals(0, sseRegistry.getSubscriberCount(1L));
+    }
+
+}
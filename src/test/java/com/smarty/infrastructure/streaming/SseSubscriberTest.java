@@ -0,0 +1,136 @@
+package com.smarty.infrastructure.streaming;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class SseSubscriberTest {
+
+    RecordingEmitter emitter;
+
+    Queue<Runnable> tasks;
+
+    List<SseSubscriber> closedSubscribers;
+
+    SseSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        emitter = new RecordingEmitter();
+        tasks = new ArrayDeque<>();
+        closedSubscribers = new ArrayList<>();
+        subscriber = new SseSubscriber(emitter, tasks::add, 2, closedSubscribers::add);
+    }
+
+    @Test
+    void testOffer_DrainsInOrderOnOneTask() {
+        var created = "event:post-created\ndata:{\"id\":1}\n\n";
+        var updated = "event:post-updated\ndata:{\"id\":1}\n\n";
+
+        Assertions.assertTrue(subscriber.offer(created));
+        Assertions.assertTrue(subscriber.offer(updated));
+        Assertions.assertEquals(1, tasks.size());
+
+        tasks.poll().run();
+
+        Assertions.assertEquals(List.of(created, updated), emitter.sentEvents);
+        Assertions.assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void testOffer_RejectsWhenQueueIsFull() {
+        var event = ":heartbeat\n\n";
+
+        subscriber.offer(event);
+        subscriber.offer(event);
+
+        Assertions.assertFalse(subscriber.offer(event));
+        Assertions.assertTrue(emitter.sentEvents.isEmpty());
+    }
+
+    @Test
+    void testClose_OnFailedSend() {
+        emitter.failing = true;
+
+        subscriber.offer(":heartbeat\n\n");
+        tasks.poll().run();
+        subscriber.close();
+
+        Assertions.assertEquals(List.of(subscriber), closedSubscribers);
+        Assertions.assertTrue(subscriber.offer(":heartbeat\n\n"));
+        Assertions.assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void testEvict_InterruptsStalledSend() throws InterruptedException {
+        emitter.stalled = new CountDownLatch(1);
+
+        subscriber.offer(":heartbeat\n\n");
+        var sender = new Thread(tasks.poll());
+        sender.start();
+
+        Assertions.assertTrue(emitter.sending.await(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(subscriber.isStalled(60000));
+        Assertions.assertTrue(subscriber.isStalled(0));
+
+        subscriber.evict();
+        sender.join(5000);
+
+        Assertions.assertFalse(sender.isAlive());
+        Assertions.assertFalse(subscriber.isStalled(0));
+        Assertions.assertEquals(List.of(subscriber), closedSubscribers);
+        Assertions.assertTrue(emitter.sentEvents.isEmpty());
+    }
+
+    @Test
+    void testEvict_IdleSubscriber() {
+        subscriber.evict();
+
+        Assertions.assertFalse(subscriber.isStalled(0));
+        Assertions.assertEquals(List.of(subscriber), closedSubscribers);
+        Assertions.assertTrue(subscriber.offer(":heartbeat\n\n"));
+        Assertions.assertTrue(tasks.isEmpty());
+    }
+
+    static class RecordingEmitter extends ResponseBodyEmitter {
+
+        List<Object> sentEvents = new ArrayList<>();
+
+        CountDownLatch sending = new CountDownLatch(1);
+
+        CountDownLatch stalled;
+
+        boolean failing;
+
+        @Override
+        public void send(Object event, MediaType mediaType) throws IOException {
+            sending.countDown();
+
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+
+            if (stalled != null) {
+                try {
+                    stalled.await();
+                } catch (InterruptedException e) {
+                    throw new IOException("Write interrupted", e);
+                }
+            }
+
+            sentEvents.add(event);
+        }
+
+    }
+
+}